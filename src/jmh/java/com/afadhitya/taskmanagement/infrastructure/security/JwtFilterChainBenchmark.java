@@ -0,0 +1,113 @@
+package com.afadhitya.taskmanagement.infrastructure.security;
+
+import com.afadhitya.taskmanagement.application.port.out.auth.UserStatus;
+import com.afadhitya.taskmanagement.application.port.out.auth.UserStatusPort;
+import com.afadhitya.taskmanagement.domain.enums.UserRole;
+import com.afadhitya.taskmanagement.infrastructure.ratelimit.BucketProvider;
+import com.afadhitya.taskmanagement.infrastructure.ratelimit.InFlightLimiter;
+import com.afadhitya.taskmanagement.infrastructure.ratelimit.PlanRateLimitResolver;
+import com.afadhitya.taskmanagement.infrastructure.ratelimit.RateLimitFilter;
+import com.afadhitya.taskmanagement.infrastructure.ratelimit.RateLimitProperties;
+import com.afadhitya.taskmanagement.infrastructure.ratelimit.RouteCostTable;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.github.bucket4j.Bandwidth;
+import io.github.bucket4j.distributed.proxy.ProxyManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.core.ResolvableType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of authenticating one request through RateLimitFilter and JwtAuthenticationFilter.
+ * Run with {@code ./gradlew jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtFilterChainBenchmark {
+
+    private JwtService jwtService;
+    private RateLimitFilter rateLimitFilter;
+    private JwtAuthenticationFilter jwtAuthenticationFilter;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        JwtProperties properties = new JwtProperties();
+        properties.setSecret("benchmark-secret-key-that-is-at-least-32-characters-long");
+        jwtService = new JwtService(properties);
+        accessToken = jwtService.generateAccessToken(42L, "bench@example.com");
+
+        BearerTokenResolver resolver = new BearerTokenResolver(jwtService);
+        Bandwidth unlimited = Bandwidth.builder()
+                .capacity(1_000_000_000L)
+                .refillGreedy(1_000_000_000L, Duration.ofSeconds(1))
+                .build();
+        BucketProvider bucketProvider = new BucketProvider(
+                Caffeine.newBuilder().maximumSize(100).build(),
+                Caffeine.newBuilder().maximumSize(100).build(),
+                unlimited, unlimited,
+                new DefaultListableBeanFactory().getBeanProvider(
+                        ResolvableType.forClassWithGenerics(ProxyManager.class, Long.class)));
+        RateLimitProperties rateLimitProperties = new RateLimitProperties();
+        PlanRateLimitResolver planRateLimitResolver = new PlanRateLimitResolver(null, null, rateLimitProperties, null) {
+            @Override
+            public int requestsPerMinute(long userId) {
+                return 1_000_000_000;
+            }
+        };
+        UserStatusPort userStatusPort = new UserStatusPort() {
+            private final UserStatus status = new UserStatus(true, UserRole.USER);
+
+            @Override
+            public Optional<UserStatus> findStatus(Long userId) {
+                return Optional.of(status);
+            }
+
+            @Override
+            public void evict(Long userId) {
+            }
+        };
+
+        rateLimitFilter = new RateLimitFilter(bucketProvider, resolver, planRateLimitResolver,
+                rateLimitProperties, new RouteCostTable(rateLimitProperties), new InFlightLimiter());
+        jwtAuthenticationFilter = new JwtAuthenticationFilter(resolver, userStatusPort);
+    }
+
+    @Benchmark
+    public Optional<VerifiedToken> verifyToken() {
+        return jwtService.verify(accessToken);
+    }
+
+    @Benchmark
+    public Object filterChain() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/tasks");
+        request.addHeader("Authorization", "Bearer " + accessToken);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        rateLimitFilter.doFilter(request, response, (rateLimited, rateLimitedResponse) ->
+                jwtAuthenticationFilter.doFilter(rateLimited, rateLimitedResponse, (authenticated, done) -> { }));
+
+        Object principal = SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+        SecurityContextHolder.clearContext();
+        return principal;
+    }
+}
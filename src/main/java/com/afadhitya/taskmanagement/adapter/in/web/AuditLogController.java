@@ -1,7 +1,11 @@
 package com.afadhitya.taskmanagement.adapter.in.web;
 
+import com.afadhitya.taskmanagement.application.dto.request.AuditLogFilterRequest;
 import com.afadhitya.taskmanagement.application.dto.response.AuditLogResponse;
+import com.afadhitya.taskmanagement.application.dto.response.CursorPagedResponse;
+import com.afadhitya.taskmanagement.application.port.in.auditlog.ExportAuditLogsUseCase;
 import com.afadhitya.taskmanagement.application.port.in.auditlog.ListAuditLogsUseCase;
+import com.afadhitya.taskmanagement.domain.enums.AuditLogExportFormat;
 import com.afadhitya.taskmanagement.infrastructure.config.OpenApiConfig;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import lombok.RequiredArgsConstructor;
@@ -10,9 +14,12 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDateTime;
 
@@ -23,6 +30,7 @@ import java.time.LocalDateTime;
 public class AuditLogController {
 
     private final ListAuditLogsUseCase listAuditLogsUseCase;
+    private final ExportAuditLogsUseCase exportAuditLogsUseCase;
 
     @PreAuthorize("@workspaceSecurity.hasWorkspaceRole(#workspaceId, 'OWNER', 'ADMIN')")
     @GetMapping("/{workspaceId}/audit-logs")
@@ -39,4 +47,48 @@ public class AuditLogController {
                 workspaceId, entityType, action, from, to, pageable);
         return ResponseEntity.ok(auditLogs);
     }
+
+    @PreAuthorize("@workspaceSecurity.hasWorkspaceRole(#workspaceId, 'OWNER', 'ADMIN')")
+    @GetMapping(value = "/{workspaceId}/audit-logs", params = "cursor")
+    public ResponseEntity<CursorPagedResponse<AuditLogResponse>> listAuditLogsAfter(
+            @PathVariable Long workspaceId,
+            @RequestParam(required = false) String entityType,
+            @RequestParam(required = false) String action,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam String cursor,
+            @RequestParam(defaultValue = "50") int size) {
+        CursorPagedResponse<AuditLogResponse> auditLogs = listAuditLogsUseCase.listAuditLogsAfter(
+                workspaceId, filter(entityType, action, from, to), cursor, size);
+        return ResponseEntity.ok(auditLogs);
+    }
+
+    @PreAuthorize("@workspaceSecurity.hasWorkspaceRole(#workspaceId, 'OWNER', 'ADMIN')")
+    @GetMapping("/{workspaceId}/audit-logs/export")
+    public ResponseEntity<StreamingResponseBody> exportAuditLogs(
+            @PathVariable Long workspaceId,
+            @RequestParam(required = false) String entityType,
+            @RequestParam(required = false) String action,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "NDJSON") AuditLogExportFormat format) {
+        AuditLogFilterRequest filter = filter(entityType, action, from, to);
+        StreamingResponseBody body = out -> exportAuditLogsUseCase.exportAuditLogs(workspaceId, filter, format, out);
+
+        boolean csv = format == AuditLogExportFormat.CSV;
+        String fileName = "audit-logs-" + workspaceId + (csv ? ".csv" : ".ndjson");
+        return ResponseEntity.ok()
+                .contentType(csv ? new MediaType("text", "csv") : MediaType.parseMediaType(TaskNdjsonStreamer.NDJSON_VALUE))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + fileName + "\"")
+                .body(body);
+    }
+
+    private static AuditLogFilterRequest filter(String entityType, String action, LocalDateTime from, LocalDateTime to) {
+        return AuditLogFilterRequest.builder()
+                .entityType(entityType)
+                .action(action)
+                .from(from)
+                .to(to)
+                .build();
+    }
 }
@@ -3,8 +3,10 @@ package com.afadhitya.taskmanagement.adapter.in.web;
 import com.afadhitya.taskmanagement.application.dto.request.CreateCommentRequest;
 import com.afadhitya.taskmanagement.application.dto.request.UpdateCommentRequest;
 import com.afadhitya.taskmanagement.application.dto.response.CommentResponse;
+import com.afadhitya.taskmanagement.application.dto.response.CursorPagedResponse;
 import com.afadhitya.taskmanagement.application.port.in.comment.CreateCommentUseCase;
 import com.afadhitya.taskmanagement.application.port.in.comment.DeleteCommentUseCase;
+import com.afadhitya.taskmanagement.application.port.in.comment.GetCommentRepliesUseCase;
 import com.afadhitya.taskmanagement.application.port.in.comment.GetCommentsByTaskUseCase;
 import com.afadhitya.taskmanagement.application.port.in.comment.UpdateCommentUseCase;
 import com.afadhitya.taskmanagement.infrastructure.config.OpenApiConfig;
@@ -17,8 +19,6 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
-
 @RestController
 @RequiredArgsConstructor
 @SecurityRequirement(name = OpenApiConfig.SECURITY_SCHEME_NAME)
@@ -26,6 +26,7 @@ public class CommentController {
 
     private final CreateCommentUseCase createCommentUseCase;
     private final GetCommentsByTaskUseCase getCommentsByTaskUseCase;
+    private final GetCommentRepliesUseCase getCommentRepliesUseCase;
     private final UpdateCommentUseCase updateCommentUseCase;
     private final DeleteCommentUseCase deleteCommentUseCase;
 
@@ -41,11 +42,27 @@ public class CommentController {
 
     @PreAuthorize("@taskSecurity.canViewTask(#taskId)")
     @GetMapping("/tasks/{taskId}/comments")
-    public ResponseEntity<List<CommentResponse>> getCommentsByTask(@PathVariable Long taskId) {
-        List<CommentResponse> comments = getCommentsByTaskUseCase.getCommentsByTask(taskId);
+    public ResponseEntity<CursorPagedResponse<CommentResponse>> getCommentsByTask(
+            @PathVariable Long taskId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) Integer depth,
+            @RequestParam(defaultValue = "3") int replyLimit) {
+        CursorPagedResponse<CommentResponse> comments =
+                getCommentsByTaskUseCase.getCommentsByTask(taskId, cursor, size, depth, replyLimit);
         return ResponseEntity.ok(comments);
     }
 
+    @PreAuthorize("@commentSecurity.canViewComment(#id)")
+    @GetMapping("/comments/{id}/replies")
+    public ResponseEntity<CursorPagedResponse<CommentResponse>> getReplies(
+            @PathVariable Long id,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        CursorPagedResponse<CommentResponse> replies = getCommentRepliesUseCase.getReplies(id, cursor, size);
+        return ResponseEntity.ok(replies);
+    }
+
     @PreAuthorize("@commentSecurity.canModifyComment(#id)")
     @PatchMapping("/comments/{id}")
     public ResponseEntity<CommentResponse> updateComment(
@@ -0,0 +1,63 @@
+package com.afadhitya.taskmanagement.adapter.in.web;
+
+import com.afadhitya.taskmanagement.infrastructure.config.OpenApiConfig;
+import com.afadhitya.taskmanagement.infrastructure.security.SecurityUtils;
+import com.afadhitya.taskmanagement.infrastructure.sse.SseLiveEventBroker;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Optional;
+
+/**
+ * Server-sent event streams of task, comment, bulk job and notification changes.
+ * Reconnect with the {@code Last-Event-ID} header to receive what was missed; a
+ * {@code stream.reset} event means too much was missed and the client should refetch.
+ */
+@RestController
+@RequiredArgsConstructor
+@SecurityRequirement(name = OpenApiConfig.SECURITY_SCHEME_NAME)
+public class LiveEventController {
+
+    private static final String LAST_EVENT_ID = "Last-Event-ID";
+    private static final String RETRY_AFTER_SECONDS = "5";
+
+    private final SseLiveEventBroker sseLiveEventBroker;
+
+    /**
+     * Every project in the workspace, so limited to owners and admins; members use project streams.
+     */
+    @PreAuthorize("@workspaceSecurity.hasWorkspaceRole(#workspaceId, 'OWNER', 'ADMIN')")
+    @GetMapping(value = "/workspaces/{workspaceId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamWorkspace(
+            @PathVariable Long workspaceId,
+            @RequestHeader(value = LAST_EVENT_ID, required = false) String lastEventId) {
+        Long currentUserId = SecurityUtils.getCurrentUserId();
+        return toResponse(sseLiveEventBroker.subscribeToWorkspace(currentUserId, workspaceId, lastEventId));
+    }
+
+    @PreAuthorize("@projectSecurity.canViewProject(#projectId)")
+    @GetMapping(value = "/projects/{projectId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamProject(
+            @PathVariable Long projectId,
+            @RequestHeader(value = LAST_EVENT_ID, required = false) String lastEventId) {
+        Long currentUserId = SecurityUtils.getCurrentUserId();
+        return toResponse(sseLiveEventBroker.subscribeToProject(currentUserId, projectId, lastEventId));
+    }
+
+    private static ResponseEntity<SseEmitter> toResponse(Optional<SseEmitter> emitter) {
+        return emitter.map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                        .header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS)
+                        .build());
+    }
+}
@@ -0,0 +1,50 @@
+package com.afadhitya.taskmanagement.adapter.in.web;
+
+import com.afadhitya.taskmanagement.application.dto.request.MarkNotificationsReadRequest;
+import com.afadhitya.taskmanagement.application.dto.response.CursorPagedResponse;
+import com.afadhitya.taskmanagement.application.dto.response.NotificationResponse;
+import com.afadhitya.taskmanagement.application.dto.response.UnreadNotificationCountResponse;
+import com.afadhitya.taskmanagement.application.port.in.notification.GetNotificationsUseCase;
+import com.afadhitya.taskmanagement.application.port.in.notification.GetUnreadNotificationCountUseCase;
+import com.afadhitya.taskmanagement.application.port.in.notification.MarkNotificationsReadUseCase;
+import com.afadhitya.taskmanagement.infrastructure.config.OpenApiConfig;
+import com.afadhitya.taskmanagement.infrastructure.security.SecurityUtils;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/notifications")
+@RequiredArgsConstructor
+@SecurityRequirement(name = OpenApiConfig.SECURITY_SCHEME_NAME)
+public class NotificationController {
+
+    private final GetNotificationsUseCase getNotificationsUseCase;
+    private final GetUnreadNotificationCountUseCase getUnreadNotificationCountUseCase;
+    private final MarkNotificationsReadUseCase markNotificationsReadUseCase;
+
+    @GetMapping
+    public ResponseEntity<CursorPagedResponse<NotificationResponse>> getNotifications(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean unreadOnly) {
+        Long currentUserId = SecurityUtils.getCurrentUserId();
+        return ResponseEntity.ok(getNotificationsUseCase.getNotifications(currentUserId, cursor, size, unreadOnly));
+    }
+
+    @GetMapping("/unread-count")
+    public ResponseEntity<UnreadNotificationCountResponse> getUnreadCount() {
+        Long currentUserId = SecurityUtils.getCurrentUserId();
+        return ResponseEntity.ok(getUnreadNotificationCountUseCase.getUnreadCount(currentUserId));
+    }
+
+    @PostMapping("/read")
+    public ResponseEntity<UnreadNotificationCountResponse> markRead(
+            @Valid @RequestBody(required = false) MarkNotificationsReadRequest request) {
+        Long currentUserId = SecurityUtils.getCurrentUserId();
+        MarkNotificationsReadRequest range = request != null ? request : MarkNotificationsReadRequest.builder().build();
+        return ResponseEntity.ok(markNotificationsReadUseCase.markRead(currentUserId, range));
+    }
+}
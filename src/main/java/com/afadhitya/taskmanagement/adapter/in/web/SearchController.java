@@ -24,8 +24,10 @@ public class SearchController {
     public ResponseEntity<SearchResponse> search(
             @RequestParam(name = "q") String query,
             @RequestParam(name = "workspace_id") Long workspaceId,
-            @RequestParam(name = "type", required = false) SearchType type) {
-        SearchResponse response = searchUseCase.search(workspaceId, query, type);
+            @RequestParam(name = "type", required = false) SearchType type,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        SearchResponse response = searchUseCase.search(workspaceId, query, type, page, size);
         return ResponseEntity.ok(response);
     }
 }
@@ -6,6 +6,7 @@ import com.afadhitya.taskmanagement.application.dto.request.CreateTaskRequest;
 import com.afadhitya.taskmanagement.application.dto.request.TaskFilterRequest;
 import com.afadhitya.taskmanagement.application.dto.request.UpdateTaskRequest;
 import com.afadhitya.taskmanagement.application.dto.response.BulkJobResponse;
+import com.afadhitya.taskmanagement.application.dto.response.CursorPagedResponse;
 import com.afadhitya.taskmanagement.application.dto.response.PagedResponse;
 import com.afadhitya.taskmanagement.application.dto.response.TaskResponse;
 import com.afadhitya.taskmanagement.application.port.in.bulkjob.SubmitBulkJobUseCase;
@@ -24,10 +25,13 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -38,6 +42,8 @@ import java.util.Set;
 @SecurityRequirement(name = OpenApiConfig.SECURITY_SCHEME_NAME)
 public class TaskController {
 
+    private static final int MY_TASKS_ARRAY_LIMIT = 500;
+
     private final CreateTaskUseCase createTaskUseCase;
     private final GetTasksByProjectUseCase getTasksByProjectUseCase;
     private final GetTaskByIdUseCase getTaskByIdUseCase;
@@ -46,6 +52,7 @@ public class TaskController {
     private final CreateSubtaskUseCase createSubtaskUseCase;
     private final SubmitBulkJobUseCase submitBulkJobUseCase;
     private final GetMyTasksUseCase getMyTasksUseCase;
+    private final TaskNdjsonStreamer taskNdjsonStreamer;
 
     @PreAuthorize("@projectSecurity.canContributeToProject(#projectId)")
     @PostMapping("/projects/{projectId}/tasks")
@@ -90,6 +97,38 @@ public class TaskController {
         return ResponseEntity.ok(response);
     }
 
+    @PreAuthorize("@projectSecurity.canViewProject(#projectId)")
+    @GetMapping(value = "/projects/{projectId}/tasks", params = "cursor")
+    public ResponseEntity<CursorPagedResponse<TaskResponse>> getTasksByProjectAfter(
+            @PathVariable Long projectId,
+            @RequestParam(required = false) TaskStatus status,
+            @RequestParam(required = false) TaskPriority priority,
+            @RequestParam(required = false) Set<Long> assigneeIds,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dueDateFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dueDateTo,
+            @RequestParam(required = false) Long parentTaskId,
+            @RequestParam(required = false) String search,
+            @RequestParam String cursor,
+            @RequestParam(defaultValue = "50") int size,
+            @RequestParam(defaultValue = "createdAt") String sortBy,
+            @RequestParam(defaultValue = "desc") String sortDirection,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+
+        TaskFilterRequest filter = TaskFilterRequest.builder()
+                .status(status)
+                .priority(priority)
+                .assigneeIds(assigneeIds)
+                .dueDateFrom(dueDateFrom)
+                .dueDateTo(dueDateTo)
+                .parentTaskId(parentTaskId)
+                .search(search)
+                .build();
+
+        CursorPagedResponse<TaskResponse> response = getTasksByProjectUseCase.getTasksByProjectAfter(
+                projectId, filter, cursor, size, sortBy, sortDirection, includeTotal);
+        return ResponseEntity.ok(response);
+    }
+
     @PreAuthorize("@taskSecurity.canViewTask(#id)")
     @GetMapping("/tasks/{id}")
     public ResponseEntity<TaskResponse> getTaskById(@PathVariable Long id) {
@@ -133,10 +172,64 @@ public class TaskController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * Plain array kept for existing clients, holding at most the newest {@value #MY_TASKS_ARRAY_LIMIT}
+     * tasks. When there are more, a {@code Link} header with {@code rel="next"} continues in cursor mode.
+     */
     @GetMapping("/users/me/tasks")
-    public ResponseEntity<List<TaskResponse>> getMyTasks() {
+    public ResponseEntity<List<TaskResponse>> getMyTasks(
+            @RequestParam(required = false) TaskStatus status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dueDateFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dueDateTo) {
+        Long currentUserId = SecurityUtils.getCurrentUserId();
+        CursorPagedResponse<TaskResponse> firstPage = getMyTasksUseCase.getMyTasks(
+                currentUserId, myTasksFilter(status, dueDateFrom, dueDateTo), null, MY_TASKS_ARRAY_LIMIT);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (firstPage.nextCursor() != null) {
+            String next = ServletUriComponentsBuilder.fromCurrentRequest()
+                    .replaceQueryParam("cursor", firstPage.nextCursor())
+                    .replaceQueryParam("size", MY_TASKS_ARRAY_LIMIT)
+                    .build()
+                    .toUriString();
+            response.header(HttpHeaders.LINK, "<" + next + ">; rel=\"next\"");
+        }
+        return response.body(firstPage.content());
+    }
+
+    /**
+     * Cursor mode, selected by the presence of {@code cursor}; send it empty for the first page.
+     */
+    @GetMapping(value = "/users/me/tasks", params = "cursor")
+    public ResponseEntity<CursorPagedResponse<TaskResponse>> getMyTasksPage(
+            @RequestParam(required = false) TaskStatus status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dueDateFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dueDateTo,
+            @RequestParam String cursor,
+            @RequestParam(defaultValue = "50") int size) {
         Long currentUserId = SecurityUtils.getCurrentUserId();
-        List<TaskResponse> tasks = getMyTasksUseCase.getMyTasks(currentUserId);
+        CursorPagedResponse<TaskResponse> tasks = getMyTasksUseCase.getMyTasks(
+                currentUserId, myTasksFilter(status, dueDateFrom, dueDateTo), cursor, size);
         return ResponseEntity.ok(tasks);
     }
+
+    @GetMapping(value = "/users/me/tasks", produces = TaskNdjsonStreamer.NDJSON_VALUE)
+    public ResponseEntity<ResponseBodyEmitter> streamMyTasks(
+            @RequestParam(required = false) TaskStatus status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dueDateFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dueDateTo) {
+        Long currentUserId = SecurityUtils.getCurrentUserId();
+        return taskNdjsonStreamer.streamMyTasks(currentUserId, myTasksFilter(status, dueDateFrom, dueDateTo))
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                        .header(HttpHeaders.RETRY_AFTER, "5")
+                        .build());
+    }
+
+    private static TaskFilterRequest myTasksFilter(TaskStatus status, LocalDate dueDateFrom, LocalDate dueDateTo) {
+        return TaskFilterRequest.builder()
+                .status(status)
+                .dueDateFrom(dueDateFrom)
+                .dueDateTo(dueDateTo)
+                .build();
+    }
 }
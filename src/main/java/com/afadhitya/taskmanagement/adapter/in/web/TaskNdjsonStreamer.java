@@ -0,0 +1,87 @@
+package com.afadhitya.taskmanagement.adapter.in.web;
+
+import com.afadhitya.taskmanagement.application.dto.request.TaskFilterRequest;
+import com.afadhitya.taskmanagement.application.dto.response.CursorPagedResponse;
+import com.afadhitya.taskmanagement.application.dto.response.TaskResponse;
+import com.afadhitya.taskmanagement.application.port.in.task.GetMyTasksUseCase;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+
+import java.io.IOException;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Streams task lists as newline-delimited JSON. Pages are pulled through the regular
+ * cursor use case one at a time, so neither side ever holds the whole list. The producer
+ * stops as soon as the request times out, fails or completes.
+ */
+@Slf4j
+@Component
+public class TaskNdjsonStreamer {
+
+    public static final String NDJSON_VALUE = "application/x-ndjson";
+
+    private static final int PAGE_SIZE = 500;
+    private static final long TIMEOUT_MS = 5 * 60 * 1000L;
+
+    private final GetMyTasksUseCase getMyTasksUseCase;
+    private final Executor taskStreamExecutor;
+
+    public TaskNdjsonStreamer(GetMyTasksUseCase getMyTasksUseCase,
+                              @Qualifier("taskStreamExecutor") Executor taskStreamExecutor) {
+        this.getMyTasksUseCase = getMyTasksUseCase;
+        this.taskStreamExecutor = taskStreamExecutor;
+    }
+
+    /**
+     * Empty when every stream worker is busy.
+     */
+    public Optional<ResponseBodyEmitter> streamMyTasks(Long userId, TaskFilterRequest filter) {
+        ResponseBodyEmitter emitter = new ResponseBodyEmitter(TIMEOUT_MS);
+        AtomicBoolean ended = new AtomicBoolean();
+        emitter.onTimeout(() -> ended.set(true));
+        emitter.onError(e -> ended.set(true));
+        emitter.onCompletion(() -> ended.set(true));
+        try {
+            taskStreamExecutor.execute(() -> produce(emitter, ended, userId, filter));
+        } catch (RejectedExecutionException e) {
+            log.warn("Task stream executor saturated, rejecting stream for user {}", userId);
+            return Optional.empty();
+        }
+        return Optional.of(emitter);
+    }
+
+    private void produce(ResponseBodyEmitter emitter, AtomicBoolean ended, Long userId, TaskFilterRequest filter) {
+        try {
+            String cursor = null;
+            do {
+                CursorPagedResponse<TaskResponse> page = getMyTasksUseCase.getMyTasks(userId, filter, cursor, PAGE_SIZE);
+                for (TaskResponse task : page.content()) {
+                    if (ended.get()) {
+                        log.debug("Task stream for user {} ended early", userId);
+                        return;
+                    }
+                    emitter.send(task, MediaType.APPLICATION_JSON);
+                    emitter.send("\n", MediaType.TEXT_PLAIN);
+                }
+                cursor = page.nextCursor();
+            } while (cursor != null && !ended.get());
+            emitter.complete();
+        } catch (IOException e) {
+            // Client went away; the container already knows, nothing left to write to
+            log.debug("Task stream for user {} closed by client: {}", userId, e.getMessage());
+        } catch (RuntimeException e) {
+            if (ended.get()) {
+                return;
+            }
+            log.error("Task stream for user {} failed", userId, e);
+            emitter.completeWithError(e);
+        }
+    }
+}
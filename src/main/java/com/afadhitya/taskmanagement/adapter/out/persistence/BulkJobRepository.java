@@ -3,12 +3,90 @@ package com.afadhitya.taskmanagement.adapter.out.persistence;
 import com.afadhitya.taskmanagement.domain.entity.BulkJob;
 import com.afadhitya.taskmanagement.domain.enums.JobStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface BulkJobRepository extends JpaRepository<BulkJob, String> {
 
     List<BulkJob> findByStatus(JobStatus status);
+
+    long countByCreatedByIdAndStatusIn(Long userId, Collection<JobStatus> statuses);
+
+    @Modifying
+    @Query("""
+            UPDATE BulkJob j
+            SET j.processedItems = :processedItems, j.failedItems = :failedItems,
+                j.heartbeatAt = :updatedAt, j.updatedAt = :updatedAt
+            WHERE j.id = :id AND j.lockedBy = :workerId
+            """)
+    int updateProgress(
+            @Param("id") String id,
+            @Param("workerId") String workerId,
+            @Param("processedItems") int processedItems,
+            @Param("failedItems") int failedItems,
+            @Param("updatedAt") LocalDateTime updatedAt
+    );
+
+    @Query(value = """
+            SELECT id FROM bulk_jobs
+            WHERE status = 'PENDING'
+               OR (status = 'PROCESSING' AND (heartbeat_at IS NULL OR heartbeat_at < :staleBefore))
+            ORDER BY created_at
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<String> findClaimableIdsForUpdate(@Param("staleBefore") LocalDateTime staleBefore, @Param("limit") int limit);
+
+    @Modifying
+    @Query("""
+            UPDATE BulkJob j
+            SET j.status = :status, j.lockedBy = :workerId, j.heartbeatAt = :claimedAt,
+                j.attempts = j.attempts + 1, j.updatedAt = :claimedAt
+            WHERE j.id IN :ids
+            """)
+    int claim(
+            @Param("ids") List<String> ids,
+            @Param("status") JobStatus status,
+            @Param("workerId") String workerId,
+            @Param("claimedAt") LocalDateTime claimedAt
+    );
+
+    @Modifying
+    @Query("""
+            UPDATE BulkJob j
+            SET j.status = :status, j.processedItems = :processedItems, j.failedItems = :failedItems,
+                j.errorMessage = :errorMessage, j.lockedBy = NULL, j.completedAt = :finishedAt,
+                j.updatedAt = :finishedAt
+            WHERE j.id = :id AND j.lockedBy = :workerId
+            """)
+    int finish(
+            @Param("id") String id,
+            @Param("workerId") String workerId,
+            @Param("status") JobStatus status,
+            @Param("processedItems") int processedItems,
+            @Param("failedItems") int failedItems,
+            @Param("errorMessage") String errorMessage,
+            @Param("finishedAt") LocalDateTime finishedAt
+    );
+
+    @Modifying
+    @Query("""
+            UPDATE BulkJob j
+            SET j.status = :status, j.lockedBy = NULL, j.heartbeatAt = NULL,
+                j.attempts = j.attempts - 1, j.updatedAt = :releasedAt
+            WHERE j.id = :id AND j.lockedBy = :workerId
+            """)
+    int release(
+            @Param("id") String id,
+            @Param("workerId") String workerId,
+            @Param("status") JobStatus status,
+            @Param("releasedAt") LocalDateTime releasedAt
+    );
 }
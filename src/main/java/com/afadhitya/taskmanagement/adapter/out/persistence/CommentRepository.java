@@ -2,12 +2,20 @@ package com.afadhitya.taskmanagement.adapter.out.persistence;
 
 import com.afadhitya.taskmanagement.domain.entity.Comment;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
-import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface CommentRepository extends JpaRepository<Comment, Long> {
 
-    List<Comment> findByTaskIdAndParentCommentIsNullAndIsDeletedFalse(Long taskId);
+    @Query("SELECT c.task.id FROM Comment c WHERE c.id = :id")
+    Optional<Long> findTaskIdById(@Param("id") Long id);
+
+    @Modifying
+    @Query(value = "UPDATE comments SET reply_count = reply_count + 1 WHERE id = :id", nativeQuery = true)
+    void incrementReplyCount(@Param("id") Long id);
 }
@@ -0,0 +1,32 @@
+package com.afadhitya.taskmanagement.adapter.out.persistence;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+/**
+ * Builds Postgres {@code to_tsquery} input from free-text user input.
+ * Every term becomes a prefix match and all terms must match, so "proj alp" finds "Project Alpha".
+ */
+public final class FullTextQuery {
+
+    private static final int MAX_TERMS = 8;
+
+    private FullTextQuery() {
+    }
+
+    /**
+     * @return the tsquery expression, or {@code null} when the input has no searchable terms
+     */
+    public static String toPrefixQuery(String input) {
+        if (input == null) {
+            return null;
+        }
+        String query = Arrays.stream(input.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+"))
+                .filter(term -> !term.isEmpty())
+                .limit(MAX_TERMS)
+                .map(term -> term + ":*")
+                .collect(Collectors.joining(" & "));
+        return query.isEmpty() ? null : query;
+    }
+}
@@ -0,0 +1,168 @@
+package com.afadhitya.taskmanagement.adapter.out.persistence;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+
+/**
+ * Broadcasts to every node through Postgres LISTEN/NOTIFY. A notification sent inside a
+ * transaction is only delivered when it commits. One listener connection per node, held outside
+ * the pool, serves every channel and reconnects with backoff; since anything sent while it was
+ * away is lost, each subscriber is told whenever its channel is (re)attached.
+ */
+@Slf4j
+@Component
+public class PgNotificationBus {
+
+    /**
+     * Postgres rejects payloads of 8000 bytes or more.
+     */
+    public static final int MAX_PAYLOAD_BYTES = 7999;
+
+    private static final Pattern CHANNEL_NAME = Pattern.compile("[a-z_][a-z0-9_]*");
+    private static final int POLL_TIMEOUT_MS = 5000;
+    private static final long RECONNECT_DELAY_MS = 5000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String url;
+    private final String username;
+    private final String password;
+    private final Map<String, Subscription> subscriptions = new ConcurrentHashMap<>();
+    private volatile boolean running;
+    private Thread listenerThread;
+
+    public PgNotificationBus(JdbcTemplate jdbcTemplate,
+                             @Value("${spring.datasource.url}") String url,
+                             @Value("${spring.datasource.username}") String username,
+                             @Value("${spring.datasource.password}") String password) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.url = url;
+        this.username = username;
+        this.password = password;
+    }
+
+    /**
+     * Registers the single handler for {@code channel}. {@code onAttach} runs on the listener
+     * thread each time the channel starts being listened to, including after a reconnect.
+     */
+    public void subscribe(String channel, Consumer<String> handler, Runnable onAttach) {
+        if (!CHANNEL_NAME.matcher(channel).matches()) {
+            throw new IllegalArgumentException("Invalid channel name: " + channel);
+        }
+        if (subscriptions.putIfAbsent(channel, new Subscription(handler, onAttach)) != null) {
+            throw new IllegalStateException("Channel already has a subscriber: " + channel);
+        }
+    }
+
+    /**
+     * Sends {@code payload} to the listeners on every node, including this one.
+     *
+     * @return false if the notification could not be sent
+     */
+    public boolean publish(String channel, String payload) {
+        try {
+            jdbcTemplate.queryForList("SELECT pg_notify(?, ?)", channel, payload);
+            return true;
+        } catch (Exception e) {
+            log.warn("Failed to broadcast on {} ({} bytes)", channel,
+                    payload.getBytes(StandardCharsets.UTF_8).length, e);
+            return false;
+        }
+    }
+
+    @PostConstruct
+    void start() {
+        running = true;
+        listenerThread = new Thread(this::listen, "pg-notification-listener");
+        listenerThread.setDaemon(true);
+        listenerThread.start();
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        listenerThread.join(POLL_TIMEOUT_MS + 1000L);
+    }
+
+    private void listen() {
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(url, username, password)) {
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                Set<String> listening = new HashSet<>();
+                log.info("Listening for cluster notifications");
+
+                while (running) {
+                    // Subscribers registered after the connection was opened are picked up here
+                    attachNewChannels(connection, listening);
+                    PGNotification[] notifications = pgConnection.getNotifications(POLL_TIMEOUT_MS);
+                    if (notifications != null) {
+                        for (PGNotification notification : notifications) {
+                            dispatch(notification);
+                        }
+                    }
+                }
+            } catch (SQLException e) {
+                if (!running) {
+                    return;
+                }
+                log.warn("Notification listener disconnected, retrying in {} ms", RECONNECT_DELAY_MS, e);
+                try {
+                    TimeUnit.MILLISECONDS.sleep(RECONNECT_DELAY_MS);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private void attachNewChannels(Connection connection, Set<String> listening) throws SQLException {
+        for (Map.Entry<String, Subscription> entry : subscriptions.entrySet()) {
+            if (listening.contains(entry.getKey())) {
+                continue;
+            }
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("LISTEN " + entry.getKey());
+            }
+            listening.add(entry.getKey());
+            try {
+                entry.getValue().onAttach().run();
+            } catch (RuntimeException e) {
+                log.warn("Subscriber of {} failed to handle attach", entry.getKey(), e);
+            }
+        }
+    }
+
+    private void dispatch(PGNotification notification) {
+        Subscription subscription = subscriptions.get(notification.getName());
+        if (subscription == null) {
+            return;
+        }
+        try {
+            subscription.handler().accept(notification.getParameter());
+        } catch (RuntimeException e) {
+            log.warn("Subscriber of {} failed to handle notification", notification.getName(), e);
+        }
+    }
+
+    private record Subscription(Consumer<String> handler, Runnable onAttach) {
+    }
+}
@@ -1,11 +1,13 @@
 package com.afadhitya.taskmanagement.adapter.out.persistence;
 
+import com.afadhitya.taskmanagement.adapter.out.persistence.feature.EntitlementRow;
 import com.afadhitya.taskmanagement.domain.feature.PlanConfigurationEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -15,26 +17,22 @@ public interface PlanConfigurationRepository extends JpaRepository<PlanConfigura
 
     Optional<PlanConfigurationEntity> findByIsDefaultTrue();
 
-    @Query("""
-        SELECT pf.isEnabled 
-        FROM PlanFeatureEntity pf 
-        JOIN pf.feature f 
-        WHERE pf.planConfiguration.id = :planConfigId 
-        AND f.code = :featureCode
-        """)
-    Optional<Boolean> isFeatureEnabled(
-        @Param("planConfigId") Long planConfigId,
-        @Param("featureCode") String featureCode
-    );
-
-    @Query("""
-        SELECT pl.limitValue 
-        FROM PlanLimitEntity pl 
-        WHERE pl.planConfiguration.id = :planConfigId 
-        AND pl.limitType = :limitType
-        """)
-    Optional<Integer> getLimit(
-        @Param("planConfigId") Long planConfigId,
-        @Param("limitType") String limitType
-    );
+    /**
+     * Every feature flag and limit of the workspace's plan in one round trip.
+     * Returns no rows when the workspace has no plan.
+     */
+    @Query(value = """
+        SELECT w.plan_configuration_id AS planId, 'F' AS kind, f.code AS code,
+               CASE WHEN pf.is_enabled THEN 1 ELSE 0 END AS value
+        FROM workspaces w
+        JOIN plan_features pf ON pf.plan_configuration_id = w.plan_configuration_id
+        JOIN features f ON f.id = pf.feature_id
+        WHERE w.id = :workspaceId
+        UNION ALL
+        SELECT w.plan_configuration_id AS planId, 'L' AS kind, pl.limit_type AS code, pl.limit_value AS value
+        FROM workspaces w
+        JOIN plan_limits pl ON pl.plan_configuration_id = w.plan_configuration_id
+        WHERE w.id = :workspaceId
+        """, nativeQuery = true)
+    List<EntitlementRow> findEntitlementRows(@Param("workspaceId") Long workspaceId);
 }
@@ -7,10 +7,15 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 @Repository
 public interface PlanLimitRepository extends JpaRepository<PlanLimitEntity, Long> {
 
     @Modifying
     @Query("UPDATE PlanLimitEntity pl SET pl.limitValue = :limitValue WHERE pl.planConfiguration.id = :planId AND pl.limitType = :limitType")
     int updateLimitValue(@Param("planId") Long planId, @Param("limitType") String limitType, @Param("limitValue") Integer limitValue);
+
+    @Query("SELECT pl.limitValue FROM PlanLimitEntity pl WHERE pl.limitType = :limitType")
+    List<Integer> findLimitValuesByLimitType(@Param("limitType") String limitType);
 }
@@ -7,19 +7,29 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface ProjectRepository extends JpaRepository<Project, Long> {
 
     List<Project> findByWorkspaceId(Long workspaceId);
 
-    @Query("""
-            SELECT p FROM Project p
-            WHERE p.workspace.id = :workspaceId
-            AND (:query IS NULL OR LOWER(p.name) LIKE LOWER(CONCAT('%', CAST(:query AS string), '%'))
-                 OR LOWER(p.description) LIKE LOWER(CONCAT('%', CAST(:query AS string), '%')))
-            """)
-    List<Project> searchByWorkspaceId(@Param("workspaceId") Long workspaceId, @Param("query") String query);
+    @Query(value = """
+            SELECT p.* FROM projects p
+            WHERE p.workspace_id = :workspaceId
+            AND p.search_vector @@ to_tsquery('simple', :tsQuery)
+            ORDER BY ts_rank(p.search_vector, to_tsquery('simple', :tsQuery)) DESC, p.id DESC
+            LIMIT :limit OFFSET :offset
+            """, nativeQuery = true)
+    List<Project> searchByWorkspaceId(
+            @Param("workspaceId") Long workspaceId,
+            @Param("tsQuery") String tsQuery,
+            @Param("limit") int limit,
+            @Param("offset") long offset
+    );
 
     int countByWorkspaceId(Long workspaceId);
+
+    @Query("SELECT p.workspace.id FROM Project p WHERE p.id = :projectId")
+    Optional<Long> findWorkspaceIdById(@Param("projectId") Long projectId);
 }
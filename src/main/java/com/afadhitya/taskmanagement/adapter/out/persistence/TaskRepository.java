@@ -1,60 +1,85 @@
 package com.afadhitya.taskmanagement.adapter.out.persistence;
 
+import com.afadhitya.taskmanagement.application.port.out.task.TaskScope;
 import com.afadhitya.taskmanagement.domain.entity.Task;
 import com.afadhitya.taskmanagement.domain.enums.TaskPriority;
 import com.afadhitya.taskmanagement.domain.enums.TaskStatus;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
-import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
-import java.util.Set;
+import java.util.Optional;
 
 @Repository
-public interface TaskRepository extends JpaRepository<Task, Long> {
+public interface TaskRepository extends JpaRepository<Task, Long>, JpaSpecificationExecutor<Task> {
 
     List<Task> findByProjectId(Long projectId);
 
     List<Task> findByParentTaskId(Long parentTaskId);
 
-    @Query("""
-            SELECT t FROM Task t
-            WHERE t.project.id = :projectId
-            AND (:status IS NULL OR t.status = :status)
-            AND (:priority IS NULL OR t.priority = :priority)
-            AND (:parentTaskId IS NULL OR t.parentTask.id = :parentTaskId)
-            AND (:dueDateFrom IS NULL OR t.dueDate >= :dueDateFrom)
-            AND (:dueDateTo IS NULL OR t.dueDate <= :dueDateTo)
-            AND (:search IS NULL OR LOWER(t.title) LIKE LOWER(CONCAT('%', CAST(:search AS string), '%')) OR LOWER(t.description) LIKE LOWER(CONCAT('%', CAST(:search AS string), '%')))
-            AND (COALESCE(:assigneeIds, NULL) IS NULL OR EXISTS (
-                SELECT 1 FROM t.assigneeIds aid WHERE aid IN :assigneeIds
-            ))
-            """
-    )
-    Page<Task> findByProjectIdWithFilters(
-            @Param("projectId") Long projectId,
+    @Query(value = """
+            SELECT t.* FROM tasks t
+            JOIN projects p ON p.id = t.project_id
+            WHERE p.workspace_id = :workspaceId
+            AND t.search_vector @@ to_tsquery('simple', :tsQuery)
+            ORDER BY ts_rank(t.search_vector, to_tsquery('simple', :tsQuery)) DESC, t.id DESC
+            LIMIT :limit OFFSET :offset
+            """, nativeQuery = true)
+    List<Task> searchByWorkspaceId(
+            @Param("workspaceId") Long workspaceId,
+            @Param("tsQuery") String tsQuery,
+            @Param("limit") int limit,
+            @Param("offset") long offset
+    );
+
+    @Modifying
+    @Query("UPDATE Task t SET t.status = :status, t.updatedAt = :updatedAt WHERE t.id IN :ids")
+    int updateStatusByIdIn(
+            @Param("ids") Collection<Long> ids,
             @Param("status") TaskStatus status,
+            @Param("updatedAt") LocalDateTime updatedAt
+    );
+
+    @Modifying
+    @Query("UPDATE Task t SET t.priority = :priority, t.updatedAt = :updatedAt WHERE t.id IN :ids")
+    int updatePriorityByIdIn(
+            @Param("ids") Collection<Long> ids,
             @Param("priority") TaskPriority priority,
-            @Param("parentTaskId") Long parentTaskId,
-            @Param("dueDateFrom") LocalDate dueDateFrom,
-            @Param("dueDateTo") LocalDate dueDateTo,
-            @Param("search") String search,
-            @Param("assigneeIds") Set<Long> assigneeIds,
-            Pageable pageable
+            @Param("updatedAt") LocalDateTime updatedAt
     );
 
-    @Query("SELECT t FROM Task t WHERE :assigneeId MEMBER OF t.assigneeIds")
-    List<Task> findByAssigneeId(@Param("assigneeId") Long assigneeId);
+    @Modifying
+    @Query(value = """
+            INSERT INTO task_assignees (task_id, user_id)
+            SELECT t.id, a.user_id
+            FROM tasks t
+            CROSS JOIN unnest(ARRAY[:userIds]) AS a(user_id)
+            WHERE t.id IN (:taskIds)
+            ON CONFLICT DO NOTHING
+            """, nativeQuery = true)
+    int insertAssignees(@Param("taskIds") Collection<Long> taskIds, @Param("userIds") Collection<Long> userIds);
+
+    @Modifying
+    @Query(value = "DELETE FROM task_assignees WHERE task_id IN (:taskIds)", nativeQuery = true)
+    int deleteAssigneesByTaskIdIn(@Param("taskIds") Collection<Long> taskIds);
+
+    @Query("""
+            SELECT new com.afadhitya.taskmanagement.application.port.out.task.TaskScope(t.id, p.id, p.workspace.id)
+            FROM Task t JOIN t.project p
+            WHERE t.id = :taskId
+            """)
+    Optional<TaskScope> findScopeById(@Param("taskId") Long taskId);
 
     @Query("""
-            SELECT t FROM Task t
-            WHERE t.project.workspace.id = :workspaceId
-            AND (:query IS NULL OR LOWER(t.title) LIKE LOWER(CONCAT('%', CAST(:query AS string), '%'))
-                 OR LOWER(t.description) LIKE LOWER(CONCAT('%', CAST(:query AS string), '%')))
+            SELECT new com.afadhitya.taskmanagement.application.port.out.task.TaskScope(t.id, p.id, p.workspace.id)
+            FROM Task t JOIN t.project p
+            WHERE t.id IN :taskIds
             """)
-    List<Task> searchByWorkspaceId(@Param("workspaceId") Long workspaceId, @Param("query") String query);
+    List<TaskScope> findScopesByIdIn(@Param("taskIds") Collection<Long> taskIds);
 }
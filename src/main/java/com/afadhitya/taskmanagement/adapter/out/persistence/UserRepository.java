@@ -1,5 +1,6 @@
 package com.afadhitya.taskmanagement.adapter.out.persistence;
 
+import com.afadhitya.taskmanagement.application.port.out.auth.UserStatus;
 import com.afadhitya.taskmanagement.domain.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
@@ -20,6 +21,9 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     Optional<User> findByPasswordResetToken(String passwordResetToken);
 
+    @Query("SELECT new com.afadhitya.taskmanagement.application.port.out.auth.UserStatus(u.isActive, u.role) FROM User u WHERE u.id = :userId")
+    Optional<UserStatus> findStatusById(@Param("userId") Long userId);
+
     @Modifying
     @Query("UPDATE User u SET u.passwordResetToken = :token, u.passwordResetTokenExpiresAt = :expiresAt WHERE u.id = :userId")
     void updatePasswordResetToken(@Param("userId") Long userId,
@@ -34,12 +38,18 @@ public interface UserRepository extends JpaRepository<User, Long> {
     @Query("UPDATE User u SET u.passwordHash = :newPasswordHash WHERE u.id = :userId")
     void updatePassword(@Param("userId") Long userId, @Param("newPasswordHash") String newPasswordHash);
 
-    @Query("""
-            SELECT u FROM User u
-            JOIN WorkspaceMember wm ON wm.user.id = u.id
-            WHERE wm.workspace.id = :workspaceId
-            AND (:query IS NULL OR LOWER(u.fullName) LIKE LOWER(CONCAT('%', CAST(:query AS string), '%'))
-                 OR LOWER(u.email) LIKE LOWER(CONCAT('%', CAST(:query AS string), '%')))
-            """)
-    List<User> searchByWorkspaceId(@Param("workspaceId") Long workspaceId, @Param("query") String query);
+    @Query(value = """
+            SELECT u.* FROM users u
+            JOIN workspace_members wm ON wm.user_id = u.id
+            WHERE wm.workspace_id = :workspaceId
+            AND u.search_vector @@ to_tsquery('simple', :tsQuery)
+            ORDER BY ts_rank(u.search_vector, to_tsquery('simple', :tsQuery)) DESC, u.id DESC
+            LIMIT :limit OFFSET :offset
+            """, nativeQuery = true)
+    List<User> searchByWorkspaceId(
+            @Param("workspaceId") Long workspaceId,
+            @Param("tsQuery") String tsQuery,
+            @Param("limit") int limit,
+            @Param("offset") long offset
+    );
 }
@@ -20,6 +20,9 @@ public interface WorkspaceMemberRepository extends JpaRepository<WorkspaceMember
     @Query("SELECT wm.role FROM WorkspaceMember wm WHERE wm.workspace.id = :workspaceId AND wm.user.id = :userId")
     Optional<WorkspaceRole> findRoleByWorkspaceIdAndUserId(@Param("workspaceId") Long workspaceId, @Param("userId") Long userId);
 
+    @Query("SELECT wm.workspace.id FROM WorkspaceMember wm WHERE wm.user.id = :userId")
+    List<Long> findWorkspaceIdsByUserId(@Param("userId") Long userId);
+
     boolean existsByWorkspaceIdAndUserIdAndRole(Long workspaceId, Long userId, WorkspaceRole role);
 
     boolean existsByWorkspaceIdAndUserId(Long workspaceId, Long userId);
@@ -44,4 +44,9 @@ public class AdminPlanPersistenceAdapter implements AdminPlanPersistencePort {
     public int updateLimitValue(Long planId, String limitType, Integer limitValue) {
         return planLimitRepository.updateLimitValue(planId, limitType, limitValue);
     }
+
+    @Override
+    public List<Integer> findLimitValues(String limitType) {
+        return planLimitRepository.findLimitValuesByLimitType(limitType);
+    }
 }
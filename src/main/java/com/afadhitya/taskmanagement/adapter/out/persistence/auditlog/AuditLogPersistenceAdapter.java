@@ -1,20 +1,76 @@
 package com.afadhitya.taskmanagement.adapter.out.persistence.auditlog;
 
 import com.afadhitya.taskmanagement.adapter.out.persistence.AuditLogRepository;
+import com.afadhitya.taskmanagement.application.dto.request.AuditLogFilterRequest;
+import com.afadhitya.taskmanagement.application.event.AuditLogEvent;
+import com.afadhitya.taskmanagement.application.port.out.auditlog.AuditLogCursor;
+import com.afadhitya.taskmanagement.application.port.out.auditlog.AuditLogExportRow;
 import com.afadhitya.taskmanagement.application.port.out.auditlog.AuditLogPersistencePort;
+import com.afadhitya.taskmanagement.application.port.out.auditlog.AuditLogRelayBatch;
 import com.afadhitya.taskmanagement.domain.entity.AuditLog;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
+import tools.jackson.databind.json.JsonMapper;
 
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.sql.Timestamp;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
 
+@Slf4j
 @Component
 @RequiredArgsConstructor
 public class AuditLogPersistenceAdapter implements AuditLogPersistencePort {
 
+    private static final String INSERT_COLUMNS =
+            "(workspace_id, actor_id, action, entity_type, entity_id, diff, created_at) VALUES (?, ?, ?, ?, ?, CAST(? AS jsonb), ?)";
+
+    // A single statement, so the delete and insert commit together even without a surrounding transaction.
+    // Returns one row per moved entry, flagged with whether it was kept.
+    private static final String RELAY_SQL = """
+            WITH moved AS (
+                DELETE FROM audit_log_outbox
+                WHERE id IN (SELECT id FROM audit_log_outbox ORDER BY id LIMIT ? FOR UPDATE SKIP LOCKED)
+                RETURNING workspace_id, actor_id, action, entity_type, entity_id, diff, created_at
+            ), checked AS (
+                SELECT m.*,
+                       EXISTS (SELECT 1 FROM workspaces w WHERE w.id = m.workspace_id)
+                       AND EXISTS (SELECT 1 FROM users u WHERE u.id = m.actor_id) AS kept
+                FROM moved m
+            ), inserted AS (
+                INSERT INTO audit_logs (workspace_id, actor_id, action, entity_type, entity_id, diff, created_at)
+                SELECT c.workspace_id, c.actor_id, c.action, c.entity_type, c.entity_id, c.diff, c.created_at
+                FROM checked c
+                WHERE c.kept
+            )
+            SELECT kept, workspace_id, actor_id, action, entity_type, entity_id, created_at FROM checked
+            """;
+
+    private static final int EXPORT_FETCH_SIZE = 1000;
+
+    private static final String PARTITION_PREFIX = "audit_logs_";
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("yyyy_MM");
+    private static final Pattern PARTITION_NAME = Pattern.compile("audit_logs_\\d{4}_\\d{2}");
+    private static final String DEFAULT_PARTITION = "audit_logs_default";
+    private static final String PARTITION_LOCK = "audit_logs_partitions";
+
     private final AuditLogRepository auditLogRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final JsonMapper jsonMapper;
 
     @Override
     public AuditLog save(AuditLog auditLog) {
@@ -32,4 +88,172 @@ public class AuditLogPersistenceAdapter implements AuditLogPersistencePort {
         return auditLogRepository.findByWorkspaceIdWithFilters(
                 workspaceId, entityType, action, from, to, pageable);
     }
+
+    @Override
+    public List<AuditLog> findByWorkspaceIdAfter(Long workspaceId, AuditLogFilterRequest filter, AuditLogCursor cursor, int limit) {
+        Sort sort = Sort.by(Sort.Direction.DESC, "createdAt").and(Sort.by(Sort.Direction.DESC, "id"));
+        return auditLogRepository.findBy(
+                AuditLogSpecifications.inWorkspaceAfter(workspaceId, filter, cursor),
+                query -> query.sortBy(sort).limit(limit).all());
+    }
+
+    @Override
+    public void streamByWorkspaceId(Long workspaceId, AuditLogFilterRequest filter, Consumer<AuditLogExportRow> consumer) {
+        StringBuilder sql = new StringBuilder("""
+                SELECT al.id, al.workspace_id, al.actor_id, u.full_name, al.action, al.entity_type,
+                       al.entity_id, al.diff::text AS diff, al.created_at
+                FROM audit_logs al
+                JOIN users u ON u.id = al.actor_id
+                WHERE al.workspace_id = ?
+                """);
+        List<Object> args = new ArrayList<>();
+        args.add(workspaceId);
+        if (filter.entityType() != null) {
+            sql.append(" AND al.entity_type = ?");
+            args.add(filter.entityType());
+        }
+        if (filter.action() != null) {
+            sql.append(" AND al.action = ?");
+            args.add(filter.action());
+        }
+        if (filter.from() != null) {
+            sql.append(" AND al.created_at >= ?");
+            args.add(Timestamp.valueOf(filter.from()));
+        }
+        if (filter.to() != null) {
+            sql.append(" AND al.created_at <= ?");
+            args.add(Timestamp.valueOf(filter.to()));
+        }
+        sql.append(" ORDER BY al.created_at DESC, al.id DESC");
+
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(sql.toString());
+            ps.setFetchSize(EXPORT_FETCH_SIZE);
+            for (int i = 0; i < args.size(); i++) {
+                ps.setObject(i + 1, args.get(i));
+            }
+            return ps;
+        }, rs -> {
+            consumer.accept(new AuditLogExportRow(
+                    rs.getLong("id"),
+                    rs.getLong("workspace_id"),
+                    rs.getLong("actor_id"),
+                    rs.getString("full_name"),
+                    rs.getString("action"),
+                    rs.getString("entity_type"),
+                    rs.getLong("entity_id"),
+                    rs.getString("diff"),
+                    rs.getTimestamp("created_at").toLocalDateTime()));
+        });
+    }
+
+    @Override
+    public void saveAll(List<AuditLogEvent> events) {
+        jdbcTemplate.batchUpdate("INSERT INTO audit_logs " + INSERT_COLUMNS, events, events.size(), this::bind);
+    }
+
+    @Override
+    public void saveToOutbox(AuditLogEvent event) {
+        jdbcTemplate.update("INSERT INTO audit_log_outbox " + INSERT_COLUMNS, ps -> bind(ps, event));
+    }
+
+    @Override
+    public AuditLogRelayBatch relayOutbox(int limit) {
+        int[] moved = new int[1];
+        List<AuditLogEvent> discarded = new ArrayList<>();
+        jdbcTemplate.query(RELAY_SQL, rs -> {
+            moved[0]++;
+            if (!rs.getBoolean("kept")) {
+                discarded.add(AuditLogEvent.builder()
+                        .workspaceId(rs.getLong("workspace_id"))
+                        .actorId(rs.getLong("actor_id"))
+                        .action(rs.getString("action"))
+                        .entityType(rs.getString("entity_type"))
+                        .entityId(rs.getLong("entity_id"))
+                        .createdAt(rs.getTimestamp("created_at").toLocalDateTime())
+                        .build());
+            }
+        }, limit);
+        return new AuditLogRelayBatch(moved[0], discarded);
+    }
+
+    @Override
+    public boolean tryLockPartitionMaintenance() {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "SELECT pg_try_advisory_xact_lock(hashtext(?))", Boolean.class, PARTITION_LOCK));
+    }
+
+    @Override
+    public List<YearMonth> findPartitionMonths() {
+        return jdbcTemplate.queryForList("""
+                        SELECT c.relname FROM pg_inherits i
+                        JOIN pg_class c ON c.oid = i.inhrelid
+                        JOIN pg_class p ON p.oid = i.inhparent
+                        WHERE p.relname = 'audit_logs'
+                        ORDER BY c.relname
+                        """, String.class).stream()
+                .map(AuditLogPersistenceAdapter::partitionMonth)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    @Override
+    public void createPartition(YearMonth month) {
+        String partition = partitionName(month);
+        if (Boolean.TRUE.equals(jdbcTemplate.queryForObject("SELECT to_regclass(?) IS NOT NULL", Boolean.class, partition))) {
+            return;
+        }
+        // Names and bounds come from YearMonth, never from user input. Rows of this month that landed
+        // in the default partition are moved over first, otherwise attaching the range would fail.
+        String from = "'" + month.atDay(1) + "'";
+        String to = "'" + month.plusMonths(1).atDay(1) + "'";
+        jdbcTemplate.execute("CREATE TABLE " + partition + " (LIKE audit_logs INCLUDING DEFAULTS INCLUDING CONSTRAINTS)");
+        int moved = jdbcTemplate.update("WITH moved AS (DELETE FROM " + DEFAULT_PARTITION
+                + " WHERE created_at >= " + from + " AND created_at < " + to + " RETURNING *) "
+                + "INSERT INTO " + partition + " SELECT * FROM moved");
+        jdbcTemplate.execute("ALTER TABLE audit_logs ATTACH PARTITION " + partition
+                + " FOR VALUES FROM (" + from + ") TO (" + to + ")");
+        if (moved > 0) {
+            log.info("Moved {} audit_logs rows from the default partition into {}", moved, partition);
+        }
+    }
+
+    @Override
+    public int deleteDefaultPartitionRowsBefore(LocalDate cutoff) {
+        return jdbcTemplate.update("DELETE FROM " + DEFAULT_PARTITION + " WHERE created_at < ?", cutoff.atStartOfDay());
+    }
+
+    @Override
+    public void dropPartition(YearMonth month) {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS " + partitionName(month));
+    }
+
+    private static String partitionName(YearMonth month) {
+        return PARTITION_PREFIX + month.format(PARTITION_SUFFIX);
+    }
+
+    /**
+     * The month of a monthly partition, or null for the default partition and for tables this
+     * code did not create, which are left alone.
+     */
+    private static YearMonth partitionMonth(String name) {
+        if (DEFAULT_PARTITION.equals(name)) {
+            return null;
+        }
+        if (!PARTITION_NAME.matcher(name).matches()) {
+            log.warn("Ignoring unrecognised audit_logs partition {}", name);
+            return null;
+        }
+        return YearMonth.parse(name.substring(PARTITION_PREFIX.length()), PARTITION_SUFFIX);
+    }
+
+    private void bind(PreparedStatement ps, AuditLogEvent event) throws SQLException {
+        ps.setLong(1, event.getWorkspaceId());
+        ps.setLong(2, event.getActorId());
+        ps.setString(3, event.getAction());
+        ps.setString(4, event.getEntityType());
+        ps.setLong(5, event.getEntityId());
+        ps.setObject(6, event.getDiff() != null ? jsonMapper.writeValueAsString(event.getDiff()) : null, Types.VARCHAR);
+        ps.setObject(7, event.getCreatedAt());
+    }
 }
@@ -0,0 +1,52 @@
+package com.afadhitya.taskmanagement.adapter.out.persistence.auditlog;
+
+import com.afadhitya.taskmanagement.application.dto.request.AuditLogFilterRequest;
+import com.afadhitya.taskmanagement.application.port.out.auditlog.AuditLogCursor;
+import com.afadhitya.taskmanagement.domain.entity.AuditLog;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Audit log queries with only the filters in use, seeking on (createdAt, id) descending
+ * so they walk idx_audit_logs_workspace_created without a sort.
+ */
+final class AuditLogSpecifications {
+
+    private AuditLogSpecifications() {
+    }
+
+    static Specification<AuditLog> inWorkspaceAfter(Long workspaceId, AuditLogFilterRequest filter, AuditLogCursor cursor) {
+        return (root, query, cb) -> {
+            root.fetch("actor", JoinType.INNER);
+
+            List<Predicate> predicates = new ArrayList<>();
+            predicates.add(cb.equal(root.get("workspace").get("id"), workspaceId));
+            if (filter.entityType() != null) {
+                predicates.add(cb.equal(root.get("entityType"), filter.entityType()));
+            }
+            if (filter.action() != null) {
+                predicates.add(cb.equal(root.get("action"), filter.action()));
+            }
+            Path<LocalDateTime> createdAt = root.get("createdAt");
+            if (filter.from() != null) {
+                predicates.add(cb.greaterThanOrEqualTo(createdAt, filter.from()));
+            }
+            if (filter.to() != null) {
+                predicates.add(cb.lessThanOrEqualTo(createdAt, filter.to()));
+            }
+            if (cursor != null) {
+                Path<Long> id = root.get("id");
+                predicates.add(cb.or(
+                        cb.lessThan(createdAt, cursor.lastCreatedAt()),
+                        cb.and(cb.equal(createdAt, cursor.lastCreatedAt()), cb.lessThan(id, cursor.lastId()))));
+            }
+            return cb.and(predicates.toArray(Predicate[]::new));
+        };
+    }
+}
@@ -2,6 +2,7 @@ package com.afadhitya.taskmanagement.adapter.out.persistence.auth;
 
 import com.afadhitya.taskmanagement.adapter.out.persistence.UserRepository;
 import com.afadhitya.taskmanagement.application.port.out.auth.UserAuthPersistencePort;
+import com.afadhitya.taskmanagement.application.port.out.auth.UserStatusPort;
 import com.afadhitya.taskmanagement.domain.entity.User;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
@@ -14,10 +15,16 @@ import java.util.Optional;
 public class UserAuthPersistenceAdapter implements UserAuthPersistencePort {
 
     private final UserRepository userRepository;
+    private final UserStatusPort userStatusPort;
 
     @Override
     public User save(User user) {
-        return userRepository.save(user);
+        User saved = userRepository.save(user);
+        // Active flag or role may have changed
+        if (saved.getId() != null) {
+            userStatusPort.evict(saved.getId());
+        }
+        return saved;
     }
 
     @Override
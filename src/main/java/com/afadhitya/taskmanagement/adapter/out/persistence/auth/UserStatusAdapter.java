@@ -0,0 +1,72 @@
+package com.afadhitya.taskmanagement.adapter.out.persistence.auth;
+
+import com.afadhitya.taskmanagement.adapter.out.persistence.PgNotificationBus;
+import com.afadhitya.taskmanagement.adapter.out.persistence.UserRepository;
+import com.afadhitya.taskmanagement.application.port.out.auth.UserStatus;
+import com.afadhitya.taskmanagement.application.port.out.auth.UserStatusPort;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Optional;
+
+/**
+ * Keeps each user's active flag and role in the {@value #CACHE_NAME} cache so authenticating
+ * a request needs no query in steady state. Evictions are repeated after commit so a
+ * concurrent read cannot re-cache the pre-change status, and broadcast to the other nodes
+ * over {@value #CHANNEL}, delivered when the change commits.
+ */
+@Slf4j
+@Component
+public class UserStatusAdapter implements UserStatusPort {
+
+    public static final String CACHE_NAME = "userStatus";
+
+    static final String CHANNEL = "user_status_invalidation";
+
+    private final UserRepository userRepository;
+    private final CacheManager cacheManager;
+    private final PgNotificationBus notificationBus;
+
+    public UserStatusAdapter(UserRepository userRepository, CacheManager cacheManager, PgNotificationBus notificationBus) {
+        this.userRepository = userRepository;
+        this.cacheManager = cacheManager;
+        this.notificationBus = notificationBus;
+        // Evictions sent while we were not listening are lost, so start clean
+        notificationBus.subscribe(CHANNEL, this::apply, () -> cache().clear());
+    }
+
+    @Override
+    public Optional<UserStatus> findStatus(Long userId) {
+        return Optional.ofNullable(cache().get(userId, () -> userRepository.findStatusById(userId).orElse(null)));
+    }
+
+    @Override
+    public void evict(Long userId) {
+        cache().evict(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache().evict(userId);
+                }
+            });
+        }
+        notificationBus.publish(CHANNEL, String.valueOf(userId));
+    }
+
+    private void apply(String payload) {
+        try {
+            cache().evict(Long.valueOf(payload));
+        } catch (NumberFormatException e) {
+            log.warn("Ignoring malformed user status invalidation: {}", payload);
+        }
+    }
+
+    private Cache cache() {
+        return cacheManager.getCache(CACHE_NAME);
+    }
+}
@@ -6,7 +6,9 @@ import com.afadhitya.taskmanagement.domain.entity.BulkJob;
 import com.afadhitya.taskmanagement.domain.enums.JobStatus;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -30,4 +32,39 @@ public class BulkJobPersistenceAdapter implements BulkJobPersistencePort {
     public List<BulkJob> findPendingJobs() {
         return bulkJobRepository.findByStatus(JobStatus.PENDING);
     }
+
+    @Override
+    public long countActiveByCreatedBy(Long userId) {
+        return bulkJobRepository.countByCreatedByIdAndStatusIn(userId, List.of(JobStatus.PENDING, JobStatus.PROCESSING));
+    }
+
+    @Override
+    @Transactional
+    public boolean updateProgress(String id, String workerId, int processedItems, int failedItems) {
+        return bulkJobRepository.updateProgress(id, workerId, processedItems, failedItems, LocalDateTime.now()) > 0;
+    }
+
+    @Override
+    @Transactional
+    public boolean finish(String id, String workerId, JobStatus status, int processedItems, int failedItems,
+                          String errorMessage) {
+        return bulkJobRepository.finish(id, workerId, status, processedItems, failedItems, errorMessage,
+                LocalDateTime.now()) > 0;
+    }
+
+    @Override
+    @Transactional
+    public void release(String id, String workerId) {
+        bulkJobRepository.release(id, workerId, JobStatus.PENDING, LocalDateTime.now());
+    }
+
+    @Override
+    @Transactional
+    public List<String> claimJobs(String workerId, int limit, LocalDateTime staleBefore) {
+        List<String> ids = bulkJobRepository.findClaimableIdsForUpdate(staleBefore, limit);
+        if (!ids.isEmpty()) {
+            bulkJobRepository.claim(ids, JobStatus.PROCESSING, workerId, LocalDateTime.now());
+        }
+        return ids;
+    }
 }
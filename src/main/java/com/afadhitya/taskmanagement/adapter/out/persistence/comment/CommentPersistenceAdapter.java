@@ -1,11 +1,17 @@
 package com.afadhitya.taskmanagement.adapter.out.persistence.comment;
 
 import com.afadhitya.taskmanagement.adapter.out.persistence.CommentRepository;
+import com.afadhitya.taskmanagement.application.port.out.comment.CommentCursor;
 import com.afadhitya.taskmanagement.application.port.out.comment.CommentPersistencePort;
+import com.afadhitya.taskmanagement.application.port.out.comment.CommentThreadRow;
 import com.afadhitya.taskmanagement.domain.entity.Comment;
 import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -13,7 +19,81 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class CommentPersistenceAdapter implements CommentPersistencePort {
 
+    private static final String ROW_COLUMNS = """
+            c.id, c.body, c.is_deleted, c.task_id, c.author_id, u.full_name AS author_name,
+            c.parent_comment_id, c.reply_count, c.created_at, c.updated_at""";
+
+    private static final String KEYSET_CONDITION = "AND (c.created_at, c.id) > (:afterCreatedAt, :afterId)";
+
+    // Walks down from the parents, reading at most :perParent index entries per comment however
+    // long the thread is; the depth guard also stops the recursion on corrupt cyclic data
+    private static final String REPLY_THREADS_SQL = """
+            WITH RECURSIVE thread AS (
+                SELECT r.id, 1 AS depth
+                FROM comments p
+                JOIN LATERAL (
+                    SELECT c.id
+                    FROM comments c
+                    WHERE c.parent_comment_id = p.id
+                    ORDER BY c.created_at, c.id
+                    LIMIT :perParent
+                ) r ON true
+                WHERE p.id IN (:parentIds)
+                UNION ALL
+                SELECT r.id, t.depth + 1
+                FROM thread t
+                JOIN LATERAL (
+                    SELECT c.id
+                    FROM comments c
+                    WHERE c.parent_comment_id = t.id
+                    ORDER BY c.created_at, c.id
+                    LIMIT :perParent
+                ) r ON true
+                WHERE t.depth < :maxDepth
+            )
+            SELECT %s, t.depth
+            FROM thread t
+            JOIN comments c ON c.id = t.id
+            JOIN users u ON u.id = c.author_id
+            ORDER BY t.depth, c.created_at, c.id
+            """.formatted(ROW_COLUMNS);
+
+    private static final String TOP_LEVEL_SQL = """
+            SELECT %s, 0 AS depth
+            FROM comments c
+            JOIN users u ON u.id = c.author_id
+            WHERE c.task_id = :taskId AND c.parent_comment_id IS NULL AND c.is_deleted = false
+            %%s
+            ORDER BY c.created_at, c.id
+            LIMIT :limit
+            """.formatted(ROW_COLUMNS);
+
+    private static final String REPLIES_SQL = """
+            SELECT %s, 1 AS depth
+            FROM comments c
+            JOIN users u ON u.id = c.author_id
+            WHERE c.parent_comment_id = :parentId
+            %%s
+            ORDER BY c.created_at, c.id
+            LIMIT :limit
+            """.formatted(ROW_COLUMNS);
+
+    private static final RowMapper<CommentThreadRow> ROW_MAPPER = (rs, rowNum) -> new CommentThreadRow(
+            rs.getLong("id"),
+            rs.getString("body"),
+            rs.getBoolean("is_deleted"),
+            rs.getLong("task_id"),
+            rs.getLong("author_id"),
+            rs.getString("author_name"),
+            rs.getObject("parent_comment_id", Long.class),
+            rs.getInt("depth"),
+            rs.getInt("reply_count"),
+            rs.getObject("created_at", LocalDateTime.class),
+            rs.getObject("updated_at", LocalDateTime.class)
+    );
+
     private final CommentRepository commentRepository;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
 
     @Override
     public Comment save(Comment comment) {
@@ -26,8 +106,52 @@ public class CommentPersistenceAdapter implements CommentPersistencePort {
     }
 
     @Override
-    public List<Comment> findByTaskIdAndParentCommentIsNullAndIsDeletedFalse(Long taskId) {
-        return commentRepository.findByTaskIdAndParentCommentIsNullAndIsDeletedFalse(taskId);
+    public List<CommentThreadRow> findTopLevelByTaskIdAfter(Long taskId, CommentCursor after, int limit) {
+        MapSqlParameterSource params = keysetParams(after)
+                .addValue("taskId", taskId)
+                .addValue("limit", limit);
+        return namedParameterJdbcTemplate.query(
+                TOP_LEVEL_SQL.formatted(after != null ? KEYSET_CONDITION : ""), params, ROW_MAPPER);
+    }
+
+    @Override
+    public List<CommentThreadRow> findReplyThreads(List<Long> parentIds, int maxDepth, int perParent) {
+        if (parentIds.isEmpty() || maxDepth <= 0 || perParent <= 0) {
+            return List.of();
+        }
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("parentIds", parentIds)
+                .addValue("maxDepth", maxDepth)
+                .addValue("perParent", perParent);
+        return namedParameterJdbcTemplate.query(REPLY_THREADS_SQL, params, ROW_MAPPER);
+    }
+
+    @Override
+    public List<CommentThreadRow> findRepliesAfter(Long parentId, CommentCursor after, int limit) {
+        MapSqlParameterSource params = keysetParams(after)
+                .addValue("parentId", parentId)
+                .addValue("limit", limit);
+        return namedParameterJdbcTemplate.query(
+                REPLIES_SQL.formatted(after != null ? KEYSET_CONDITION : ""), params, ROW_MAPPER);
+    }
+
+    @Override
+    public Optional<Long> findTaskIdById(Long id) {
+        return commentRepository.findTaskIdById(id);
+    }
+
+    @Override
+    public void incrementReplyCount(Long id) {
+        commentRepository.incrementReplyCount(id);
+    }
+
+    private static MapSqlParameterSource keysetParams(CommentCursor after) {
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        if (after != null) {
+            params.addValue("afterCreatedAt", after.lastCreatedAt())
+                    .addValue("afterId", after.lastId());
+        }
+        return params;
     }
 
     @Override
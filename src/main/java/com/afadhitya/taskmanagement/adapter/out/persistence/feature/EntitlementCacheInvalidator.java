@@ -0,0 +1,92 @@
+package com.afadhitya.taskmanagement.adapter.out.persistence.feature;
+
+import com.afadhitya.taskmanagement.adapter.out.persistence.PgNotificationBus;
+import com.afadhitya.taskmanagement.domain.feature.EntitlementSnapshot;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Objects;
+
+/**
+ * Evicts entitlement snapshots on this node and, through Postgres LISTEN/NOTIFY, on every other node.
+ * Notifications sent inside a transaction are only delivered when it commits, so peers never reload
+ * the old plan.
+ */
+@Slf4j
+@Component
+public class EntitlementCacheInvalidator {
+
+    static final String CHANNEL = "entitlement_invalidation";
+
+    private static final String WORKSPACE_PREFIX = "workspace:";
+    private static final String PLAN_PREFIX = "plan:";
+
+    private final CacheManager cacheManager;
+    private final PgNotificationBus notificationBus;
+
+    public EntitlementCacheInvalidator(CacheManager cacheManager, PgNotificationBus notificationBus) {
+        this.cacheManager = cacheManager;
+        this.notificationBus = notificationBus;
+        // Anything published while we were not listening is lost, so start clean
+        notificationBus.subscribe(CHANNEL, this::apply, () -> cache().clear());
+    }
+
+    public void invalidateWorkspace(Long workspaceId) {
+        evictAfterCommitToo(() -> evictWorkspace(workspaceId));
+        publish(WORKSPACE_PREFIX + workspaceId);
+    }
+
+    public void invalidatePlan(Long planConfigurationId) {
+        evictAfterCommitToo(() -> evictPlan(planConfigurationId));
+        publish(PLAN_PREFIX + planConfigurationId);
+    }
+
+    private void evictAfterCommitToo(Runnable eviction) {
+        eviction.run();
+        // A concurrent reader may have reloaded the old values before commit
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    eviction.run();
+                }
+            });
+        }
+    }
+
+    private void publish(String payload) {
+        // On failure peers still converge through the refresh and expiry policy of the cache
+        notificationBus.publish(CHANNEL, payload);
+    }
+
+    private void apply(String payload) {
+        try {
+            if (payload.startsWith(WORKSPACE_PREFIX)) {
+                evictWorkspace(Long.valueOf(payload.substring(WORKSPACE_PREFIX.length())));
+            } else if (payload.startsWith(PLAN_PREFIX)) {
+                evictPlan(Long.valueOf(payload.substring(PLAN_PREFIX.length())));
+            }
+        } catch (NumberFormatException e) {
+            log.warn("Ignoring malformed entitlement invalidation: {}", payload);
+        }
+    }
+
+    private void evictWorkspace(Long workspaceId) {
+        cache().evict(workspaceId);
+    }
+
+    private void evictPlan(Long planConfigurationId) {
+        if (cache().getNativeCache() instanceof com.github.benmanes.caffeine.cache.Cache<?, ?> caffeineCache) {
+            caffeineCache.asMap().values().removeIf(value -> value instanceof EntitlementSnapshot snapshot
+                    && planConfigurationId.equals(snapshot.getPlanConfigurationId()));
+        }
+    }
+
+    private Cache cache() {
+        return Objects.requireNonNull(cacheManager.getCache(FeatureToggleAdapter.CACHE_NAME), FeatureToggleAdapter.CACHE_NAME);
+    }
+}
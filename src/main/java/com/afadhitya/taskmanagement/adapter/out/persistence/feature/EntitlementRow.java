@@ -0,0 +1,15 @@
+package com.afadhitya.taskmanagement.adapter.out.persistence.feature;
+
+/**
+ * One row of the entitlement query: either a feature flag (kind F, value 0/1) or a limit (kind L).
+ */
+public interface EntitlementRow {
+
+    Long getPlanId();
+
+    String getKind();
+
+    String getCode();
+
+    Integer getValue();
+}
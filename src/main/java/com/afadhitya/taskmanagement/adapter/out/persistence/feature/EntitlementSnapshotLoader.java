@@ -0,0 +1,70 @@
+package com.afadhitya.taskmanagement.adapter.out.persistence.feature;
+
+import com.afadhitya.taskmanagement.adapter.out.persistence.PlanConfigurationRepository;
+import com.afadhitya.taskmanagement.domain.feature.EntitlementSnapshot;
+import com.afadhitya.taskmanagement.domain.feature.Feature;
+import com.afadhitya.taskmanagement.domain.feature.LimitType;
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Builds entitlement snapshots for the workspaceEntitlements cache. Registered as the cache's
+ * loader so Caffeine can refresh hot entries in the background before they expire.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EntitlementSnapshotLoader implements CacheLoader<Object, Object> {
+
+    private static final Map<String, Feature> FEATURES_BY_CODE = Arrays.stream(Feature.values())
+            .collect(Collectors.toUnmodifiableMap(Feature::getCode, Function.identity()));
+
+    private static final Map<String, LimitType> LIMITS_BY_CODE = Arrays.stream(LimitType.values())
+            .collect(Collectors.toUnmodifiableMap(LimitType::getCode, Function.identity()));
+
+    private final PlanConfigurationRepository planConfigurationRepository;
+
+    @Override
+    public Object load(Object key) {
+        return loadSnapshot((Long) key);
+    }
+
+    public EntitlementSnapshot loadSnapshot(Long workspaceId) {
+        log.debug("Loading entitlements for workspace {}", workspaceId);
+
+        List<EntitlementRow> rows = planConfigurationRepository.findEntitlementRows(workspaceId);
+        if (rows.isEmpty()) {
+            log.warn("No plan configuration found for workspace {}, defaulting all features off", workspaceId);
+            return EntitlementSnapshot.empty(workspaceId);
+        }
+
+        Set<Feature> enabled = EnumSet.noneOf(Feature.class);
+        Map<LimitType, Integer> limits = new EnumMap<>(LimitType.class);
+        for (EntitlementRow row : rows) {
+            if ("F".equals(row.getKind())) {
+                Feature feature = FEATURES_BY_CODE.get(row.getCode());
+                if (feature != null && Objects.equals(row.getValue(), 1)) {
+                    enabled.add(feature);
+                }
+            } else {
+                LimitType limitType = LIMITS_BY_CODE.get(row.getCode());
+                if (limitType != null) {
+                    limits.put(limitType, row.getValue());
+                }
+            }
+        }
+        return new EntitlementSnapshot(workspaceId, rows.get(0).getPlanId(), enabled, limits);
+    }
+}
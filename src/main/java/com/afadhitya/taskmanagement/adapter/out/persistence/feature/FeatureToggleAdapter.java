@@ -1,64 +1,61 @@
 package com.afadhitya.taskmanagement.adapter.out.persistence.feature;
 
-import com.afadhitya.taskmanagement.adapter.out.persistence.PlanConfigurationRepository;
-import com.afadhitya.taskmanagement.adapter.out.persistence.WorkspaceRepository;
 import com.afadhitya.taskmanagement.application.port.out.feature.FeatureTogglePort;
+import com.afadhitya.taskmanagement.domain.feature.EntitlementSnapshot;
 import com.afadhitya.taskmanagement.domain.feature.Feature;
 import com.afadhitya.taskmanagement.domain.feature.LimitType;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.stereotype.Component;
 
+import java.util.Objects;
+
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class FeatureToggleAdapter implements FeatureTogglePort {
 
-    private final PlanConfigurationRepository planConfigurationRepository;
-    private final WorkspaceRepository workspaceRepository;
+    public static final String CACHE_NAME = "workspaceEntitlements";
 
-    @Override
-    @Cacheable(value = "workspaceFeatures", key = "#workspaceId + ':' + #feature.getCode()")
-    public boolean isEnabled(Long workspaceId, Feature feature) {
-        log.debug("Checking feature {} for workspace {}", feature.getCode(), workspaceId);
+    private final EntitlementSnapshotLoader entitlementSnapshotLoader;
+    private final EntitlementCacheInvalidator entitlementCacheInvalidator;
+    private final CacheManager cacheManager;
 
-        Long planConfigId = findPlanConfigurationId(workspaceId);
-        if (planConfigId == null) {
-            log.warn("No plan configuration found for workspace {}, defaulting feature {} to false",
-                workspaceId, feature.getCode());
-            return false;
-        }
+    /**
+     * The cache is used programmatically rather than through {@code @Cacheable} so that
+     * {@link #isEnabled} and {@link #getLimit} share the same entry without self-invocation
+     * bypassing the proxy.
+     */
+    @Override
+    public EntitlementSnapshot getEntitlements(Long workspaceId) {
+        return cache().get(workspaceId, () -> entitlementSnapshotLoader.loadSnapshot(workspaceId));
+    }
 
-        return planConfigurationRepository.isFeatureEnabled(planConfigId, feature.getCode())
-            .orElse(false);
+    @Override
+    public boolean isEnabled(Long workspaceId, Feature feature) {
+        return getEntitlements(workspaceId).isEnabled(feature);
     }
 
     @Override
-    @Cacheable(value = "workspaceLimits", key = "#workspaceId + ':' + #limitType.getCode()")
     public int getLimit(Long workspaceId, LimitType limitType) {
-        log.debug("Getting limit {} for workspace {}", limitType.getCode(), workspaceId);
-
-        Long planConfigId = findPlanConfigurationId(workspaceId);
-        if (planConfigId == null) {
-            log.warn("No plan configuration found for workspace {}, defaulting limit {} to 0",
-                workspaceId, limitType.getCode());
-            return 0;
-        }
-
-        return planConfigurationRepository.getLimit(planConfigId, limitType.getCode())
-            .orElse(0);
+        return getEntitlements(workspaceId).getLimit(limitType);
     }
 
     @Override
-    @CacheEvict(value = {"workspaceFeatures", "workspaceLimits"}, allEntries = true)
     public void invalidateCache(Long workspaceId) {
-        log.info("Invalidating feature cache for workspace {}", workspaceId);
-        // Cache eviction handled by Spring annotation
+        log.info("Invalidating entitlements for workspace {}", workspaceId);
+        entitlementCacheInvalidator.invalidateWorkspace(workspaceId);
+    }
+
+    @Override
+    public void invalidatePlan(Long planConfigurationId) {
+        log.info("Invalidating entitlements for plan {}", planConfigurationId);
+        entitlementCacheInvalidator.invalidatePlan(planConfigurationId);
     }
 
-    private Long findPlanConfigurationId(Long workspaceId) {
-        return workspaceRepository.findPlanConfigurationIdById(workspaceId);
+    private Cache cache() {
+        return Objects.requireNonNull(cacheManager.getCache(CACHE_NAME), CACHE_NAME);
     }
 }
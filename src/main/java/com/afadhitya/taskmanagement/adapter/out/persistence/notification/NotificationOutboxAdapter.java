@@ -0,0 +1,106 @@
+package com.afadhitya.taskmanagement.adapter.out.persistence.notification;
+
+import com.afadhitya.taskmanagement.application.event.NotificationEvent;
+import com.afadhitya.taskmanagement.application.port.out.notification.NotificationFanOutResult;
+import com.afadhitya.taskmanagement.application.port.out.notification.NotificationOutboxPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.sql.Types;
+import java.util.HashMap;
+import java.util.Map;
+
+@Component
+@RequiredArgsConstructor
+public class NotificationOutboxAdapter implements NotificationOutboxPort {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO notification_outbox
+                (type, audience, workspace_id, project_id, task_id, actor_id, recipient_ids, payload)
+            VALUES (?, ?, ?, ?, ?, ?, ?, CAST(? AS jsonb))
+            """;
+
+    // Claim, fan out and delete in a single statement: a crash rolls all three back and the events
+    // are picked up again, and the unique (source_event_id, user_id) index makes a replay insert nothing.
+    // Recipients are joined against live rows, so a user or task deleted in the meantime is skipped
+    // rather than failing the whole batch. Counters are bumped in user id order, the same order the
+    // reconciliation job locks them in, so concurrent workers queue on a counter instead of deadlocking.
+    private static final String FAN_OUT_SQL = """
+            WITH claimed AS (
+                DELETE FROM notification_outbox
+                WHERE id IN (SELECT id FROM notification_outbox ORDER BY id LIMIT ? FOR UPDATE SKIP LOCKED)
+                RETURNING id, type, audience, project_id, task_id, actor_id, recipient_ids, payload, created_at
+            ), inserted AS (
+                INSERT INTO notifications (user_id, type, payload, is_read, created_at, source_event_id)
+                SELECT r.user_id, c.type, c.payload, FALSE, c.created_at, c.id
+                FROM claimed c
+                CROSS JOIN LATERAL (
+                    SELECT u.id AS user_id FROM users u
+                    WHERE u.id = ANY(c.recipient_ids)
+                    UNION
+                    SELECT ta.user_id FROM task_assignees ta
+                    JOIN users u ON u.id = ta.user_id
+                    WHERE c.audience IN ('TASK_ASSIGNEES', 'TASK_PARTICIPANTS') AND ta.task_id = c.task_id
+                    UNION
+                    SELECT t.created_by FROM tasks t
+                    WHERE c.audience = 'TASK_PARTICIPANTS' AND t.id = c.task_id
+                    UNION
+                    SELECT pm.user_id FROM project_members pm
+                    WHERE c.audience = 'PROJECT_MEMBERS' AND pm.project_id = c.project_id
+                ) r
+                WHERE c.actor_id IS NULL OR r.user_id <> c.actor_id
+                ON CONFLICT (source_event_id, user_id) DO NOTHING
+                RETURNING user_id
+            ), counted AS (
+                INSERT INTO notification_counters (user_id, unread_count)
+                SELECT i.user_id, COUNT(*) FROM inserted i
+                GROUP BY i.user_id
+                ORDER BY i.user_id
+                ON CONFLICT (user_id) DO UPDATE
+                SET unread_count = notification_counters.unread_count + EXCLUDED.unread_count,
+                    updated_at = CURRENT_TIMESTAMP
+                RETURNING user_id, unread_count
+            )
+            SELECT (SELECT COUNT(*) FROM claimed) AS events, (SELECT COUNT(*) FROM inserted) AS notifications,
+                   k.user_id, k.unread_count
+            FROM (SELECT 1) AS one
+            LEFT JOIN counted k ON TRUE
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final JsonMapper jsonMapper;
+
+    @Override
+    public void enqueue(NotificationEvent event) {
+        jdbcTemplate.update(INSERT_SQL, ps -> {
+            ps.setString(1, event.getType().name());
+            ps.setString(2, event.getAudience().name());
+            ps.setLong(3, event.getWorkspaceId());
+            ps.setObject(4, event.getProjectId(), Types.BIGINT);
+            ps.setObject(5, event.getTaskId(), Types.BIGINT);
+            ps.setObject(6, event.getActorId(), Types.BIGINT);
+            ps.setArray(7, ps.getConnection().createArrayOf("bigint", event.getRecipientIds().toArray()));
+            ps.setString(8, jsonMapper.writeValueAsString(event.getPayload()));
+        });
+    }
+
+    @Override
+    public NotificationFanOutResult fanOut(int limit) {
+        return jdbcTemplate.query(FAN_OUT_SQL, rs -> {
+            int events = 0;
+            int notifications = 0;
+            Map<Long, Integer> unreadCounts = new HashMap<>();
+            while (rs.next()) {
+                events = rs.getInt("events");
+                notifications = rs.getInt("notifications");
+                long userId = rs.getLong("user_id");
+                if (!rs.wasNull()) {
+                    unreadCounts.put(userId, rs.getInt("unread_count"));
+                }
+            }
+            return new NotificationFanOutResult(events, notifications, unreadCounts);
+        }, limit);
+    }
+}
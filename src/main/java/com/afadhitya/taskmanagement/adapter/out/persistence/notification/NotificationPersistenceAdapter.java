@@ -0,0 +1,143 @@
+package com.afadhitya.taskmanagement.adapter.out.persistence.notification;
+
+import com.afadhitya.taskmanagement.application.port.out.notification.NotificationCursor;
+import com.afadhitya.taskmanagement.application.port.out.notification.NotificationPersistencePort;
+import com.afadhitya.taskmanagement.application.port.out.notification.NotificationRow;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import tools.jackson.core.type.TypeReference;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.List;
+import java.util.Map;
+
+@Component
+@RequiredArgsConstructor
+public class NotificationPersistenceAdapter implements NotificationPersistencePort {
+
+    private static final TypeReference<Map<String, Object>> PAYLOAD_TYPE = new TypeReference<>() {
+    };
+
+    // The unread filter is a literal so the planner can use the partial idx_notifications_unread
+    private static final String INBOX_SQL = """
+            SELECT n.id, n.type, n.payload::text AS payload, n.is_read, n.created_at
+            FROM notifications n
+            WHERE n.user_id = :userId
+            %s
+            %s
+            ORDER BY n.id DESC
+            LIMIT :limit
+            """;
+
+    private static final String MARK_READ_SQL = """
+            WITH marked AS (
+                UPDATE notifications SET is_read = TRUE
+                WHERE user_id = :userId AND id BETWEEN :fromId AND :toId AND is_read = FALSE
+                RETURNING id
+            )
+            UPDATE notification_counters
+            SET unread_count = GREATEST(unread_count - (SELECT COUNT(*) FROM marked), 0),
+                updated_at = CURRENT_TIMESTAMP
+            WHERE user_id = :userId
+            RETURNING unread_count
+            """;
+
+    private static final String CREATE_MISSING_COUNTERS_SQL = """
+            INSERT INTO notification_counters (user_id, unread_count)
+            SELECT n.user_id, COUNT(*) FROM notifications n
+            WHERE n.is_read = FALSE
+            AND NOT EXISTS (SELECT 1 FROM notification_counters c WHERE c.user_id = n.user_id)
+            GROUP BY n.user_id
+            ON CONFLICT (user_id) DO NOTHING
+            """;
+
+    private static final String RECONCILE_SQL = """
+            UPDATE notification_counters c
+            SET unread_count = actual.unread_count, updated_at = CURRENT_TIMESTAMP
+            FROM (
+                SELECT c2.user_id, COUNT(n.id) AS unread_count
+                FROM notification_counters c2
+                LEFT JOIN notifications n ON n.user_id = c2.user_id AND n.is_read = FALSE
+                WHERE c2.user_id IN (:userIds)
+                GROUP BY c2.user_id
+            ) actual
+            WHERE c.user_id = actual.user_id AND c.unread_count <> actual.unread_count
+            """;
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final JsonMapper jsonMapper;
+
+    private final RowMapper<NotificationRow> rowMapper = (rs, rowNum) -> new NotificationRow(
+            rs.getLong("id"),
+            rs.getString("type"),
+            readPayload(rs.getString("payload")),
+            rs.getBoolean("is_read"),
+            rs.getTimestamp("created_at").toLocalDateTime());
+
+    @Override
+    public List<NotificationRow> findByUserIdAfter(Long userId, boolean unreadOnly, NotificationCursor cursor, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("userId", userId)
+                .addValue("limit", limit);
+        if (cursor != null) {
+            params.addValue("afterId", cursor.lastId());
+        }
+        String sql = INBOX_SQL.formatted(
+                unreadOnly ? "AND n.is_read = FALSE" : "",
+                cursor != null ? "AND n.id < :afterId" : "");
+        return namedParameterJdbcTemplate.query(sql, params, rowMapper);
+    }
+
+    @Override
+    public int markRead(Long userId, long fromId, long toId) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("userId", userId)
+                .addValue("fromId", fromId)
+                .addValue("toId", toId);
+        List<Integer> remaining = namedParameterJdbcTemplate.queryForList(MARK_READ_SQL, params, Integer.class);
+        return remaining.isEmpty() ? 0 : remaining.get(0);
+    }
+
+    @Override
+    public int findUnreadCount(Long userId) {
+        List<Integer> counts = namedParameterJdbcTemplate.queryForList(
+                "SELECT unread_count FROM notification_counters WHERE user_id = :userId",
+                new MapSqlParameterSource("userId", userId), Integer.class);
+        return counts.isEmpty() ? 0 : counts.get(0);
+    }
+
+    @Override
+    public int createMissingCounters() {
+        return namedParameterJdbcTemplate.update(CREATE_MISSING_COUNTERS_SQL, new MapSqlParameterSource());
+    }
+
+    @Override
+    public List<Long> lockCounters(Long afterUserId, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("afterUserId", afterUserId)
+                .addValue("limit", limit);
+        return namedParameterJdbcTemplate.queryForList("""
+                SELECT user_id FROM notification_counters
+                WHERE user_id > :afterUserId
+                ORDER BY user_id
+                LIMIT :limit
+                FOR UPDATE
+                """, params, Long.class);
+    }
+
+    @Override
+    public int reconcileUnreadCounts(List<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return 0;
+        }
+        return namedParameterJdbcTemplate.update(RECONCILE_SQL,
+                new MapSqlParameterSource("userIds", userIds));
+    }
+
+    private Map<String, Object> readPayload(String json) {
+        return json != null ? jsonMapper.readValue(json, PAYLOAD_TYPE) : Map.of();
+    }
+}
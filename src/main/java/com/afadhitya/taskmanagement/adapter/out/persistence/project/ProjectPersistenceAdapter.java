@@ -1,9 +1,11 @@
 package com.afadhitya.taskmanagement.adapter.out.persistence.project;
 
+import com.afadhitya.taskmanagement.adapter.out.persistence.FullTextQuery;
 import com.afadhitya.taskmanagement.adapter.out.persistence.ProjectRepository;
 import com.afadhitya.taskmanagement.application.port.out.project.ProjectPersistencePort;
 import com.afadhitya.taskmanagement.domain.entity.Project;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
@@ -41,7 +43,16 @@ public class ProjectPersistenceAdapter implements ProjectPersistencePort {
     }
 
     @Override
-    public List<Project> searchByWorkspaceId(Long workspaceId, String query) {
-        return projectRepository.searchByWorkspaceId(workspaceId, query);
+    public List<Project> searchByWorkspaceId(Long workspaceId, String query, Pageable pageable) {
+        String tsQuery = FullTextQuery.toPrefixQuery(query);
+        if (tsQuery == null) {
+            return List.of();
+        }
+        return projectRepository.searchByWorkspaceId(workspaceId, tsQuery, pageable.getPageSize(), pageable.getOffset());
+    }
+
+    @Override
+    public Optional<Long> findWorkspaceIdById(Long projectId) {
+        return projectRepository.findWorkspaceIdById(projectId);
     }
 }
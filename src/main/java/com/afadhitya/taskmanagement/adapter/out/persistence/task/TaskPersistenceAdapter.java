@@ -1,14 +1,23 @@
 package com.afadhitya.taskmanagement.adapter.out.persistence.task;
 
+import com.afadhitya.taskmanagement.adapter.out.persistence.FullTextQuery;
 import com.afadhitya.taskmanagement.adapter.out.persistence.TaskRepository;
 import com.afadhitya.taskmanagement.application.dto.request.TaskFilterRequest;
+import com.afadhitya.taskmanagement.application.port.out.task.TaskCursor;
 import com.afadhitya.taskmanagement.application.port.out.task.TaskPersistencePort;
+import com.afadhitya.taskmanagement.application.port.out.task.TaskScope;
+import com.afadhitya.taskmanagement.application.port.out.task.TaskSortKey;
 import com.afadhitya.taskmanagement.domain.entity.Task;
+import com.afadhitya.taskmanagement.domain.enums.TaskPriority;
+import com.afadhitya.taskmanagement.domain.enums.TaskStatus;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -17,6 +26,9 @@ import java.util.Set;
 @RequiredArgsConstructor
 public class TaskPersistenceAdapter implements TaskPersistencePort {
 
+    // To-one associations every TaskResponse reads; collections are batch-fetched (hibernate.default_batch_fetch_size)
+    private static final List<String> RESPONSE_GRAPH = List.of("project", "createdBy");
+
     private final TaskRepository taskRepository;
 
     @Override
@@ -36,17 +48,24 @@ public class TaskPersistenceAdapter implements TaskPersistencePort {
 
     @Override
     public Page<Task> findByProjectIdWithFilters(Long projectId, TaskFilterRequest filter, Pageable pageable) {
-        return taskRepository.findByProjectIdWithFilters(
-                projectId,
-                filter.status(),
-                filter.priority(),
-                filter.parentTaskId(),
-                filter.dueDateFrom(),
-                filter.dueDateTo(),
-                filter.search(),
-                filter.assigneeIds(),
-                pageable
-        );
+        return taskRepository.findBy(
+                TaskSpecifications.inProject(projectId, filter),
+                query -> query.project(RESPONSE_GRAPH).page(pageable));
+    }
+
+    @Override
+    public List<Task> findByProjectIdAfter(Long projectId, TaskFilterRequest filter, TaskSortKey sortKey, boolean ascending,
+                                           TaskCursor cursor, int limit) {
+        Sort.Direction direction = ascending ? Sort.Direction.ASC : Sort.Direction.DESC;
+        Sort sort = Sort.by(direction, sortKey.property()).and(Sort.by(direction, "id"));
+        return taskRepository.findBy(
+                TaskSpecifications.inProjectAfter(projectId, filter, cursor),
+                query -> query.project(RESPONSE_GRAPH).sortBy(sort).limit(limit).all());
+    }
+
+    @Override
+    public long countByProjectIdWithFilters(Long projectId, TaskFilterRequest filter) {
+        return taskRepository.count(TaskSpecifications.inProject(projectId, filter));
     }
 
     @Override
@@ -60,8 +79,10 @@ public class TaskPersistenceAdapter implements TaskPersistencePort {
     }
 
     @Override
-    public List<Task> findByAssigneeId(Long assigneeId) {
-        return taskRepository.findByAssigneeId(assigneeId);
+    public List<Task> findByAssigneeIdAfter(Long assigneeId, TaskFilterRequest filter, TaskCursor cursor, int limit) {
+        return taskRepository.findBy(
+                TaskSpecifications.assignedToAfter(assigneeId, filter, cursor),
+                query -> query.project(RESPONSE_GRAPH).sortBy(Sort.by(Sort.Direction.DESC, "id")).limit(limit).all());
     }
 
     @Override
@@ -75,7 +96,46 @@ public class TaskPersistenceAdapter implements TaskPersistencePort {
     }
 
     @Override
-    public List<Task> searchByWorkspaceId(Long workspaceId, String query) {
-        return taskRepository.searchByWorkspaceId(workspaceId, query);
+    public List<Task> searchByWorkspaceId(Long workspaceId, String query, Pageable pageable) {
+        String tsQuery = FullTextQuery.toPrefixQuery(query);
+        if (tsQuery == null) {
+            return List.of();
+        }
+        return taskRepository.searchByWorkspaceId(workspaceId, tsQuery, pageable.getPageSize(), pageable.getOffset());
+    }
+
+    @Override
+    public int updateStatus(Collection<Long> ids, TaskStatus status) {
+        return taskRepository.updateStatusByIdIn(ids, status, LocalDateTime.now());
+    }
+
+    @Override
+    public int updatePriority(Collection<Long> ids, TaskPriority priority) {
+        return taskRepository.updatePriorityByIdIn(ids, priority, LocalDateTime.now());
+    }
+
+    @Override
+    public int addAssignees(Collection<Long> taskIds, Collection<Long> userIds) {
+        return taskRepository.insertAssignees(taskIds, userIds);
+    }
+
+    @Override
+    public int removeAllAssignees(Collection<Long> taskIds) {
+        return taskRepository.deleteAssigneesByTaskIdIn(taskIds);
+    }
+
+    @Override
+    public Optional<TaskScope> findScopeById(Long taskId) {
+        return taskRepository.findScopeById(taskId);
+    }
+
+    @Override
+    public List<TaskScope> findScopesByIds(Collection<Long> taskIds) {
+        return taskRepository.findScopesByIdIn(taskIds);
+    }
+
+    @Override
+    public Task getReferenceById(Long id) {
+        return taskRepository.getReferenceById(id);
     }
 }
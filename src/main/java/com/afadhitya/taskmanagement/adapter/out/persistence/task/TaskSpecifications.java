@@ -0,0 +1,115 @@
+package com.afadhitya.taskmanagement.adapter.out.persistence.task;
+
+import com.afadhitya.taskmanagement.application.dto.request.TaskFilterRequest;
+import com.afadhitya.taskmanagement.application.port.out.task.TaskCursor;
+import com.afadhitya.taskmanagement.domain.entity.Task;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Builds task queries that contain only the predicates a request actually uses,
+ * so Postgres plans each filter combination against the matching index.
+ */
+final class TaskSpecifications {
+
+    private TaskSpecifications() {
+    }
+
+    static Specification<Task> inProject(Long projectId, TaskFilterRequest filter) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = filterPredicates(root, query, cb, filter);
+            predicates.add(cb.equal(root.get("project").get("id"), projectId));
+            return cb.and(predicates.toArray(Predicate[]::new));
+        };
+    }
+
+    static Specification<Task> inProjectAfter(Long projectId, TaskFilterRequest filter, TaskCursor cursor) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = filterPredicates(root, query, cb, filter);
+            predicates.add(cb.equal(root.get("project").get("id"), projectId));
+            if (cursor != null) {
+                predicates.add(seek(root, cb, cursor));
+            }
+            return cb.and(predicates.toArray(Predicate[]::new));
+        };
+    }
+
+    /**
+     * Tasks assigned to the user, driven from task_assignees(user_id, task_id) so the seek on id stays an index range.
+     */
+    static Specification<Task> assignedToAfter(Long userId, TaskFilterRequest filter, TaskCursor cursor) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = filterPredicates(root, query, cb, filter);
+            Join<Task, Long> assignee = root.join("assigneeIds");
+            predicates.add(cb.equal(assignee, userId));
+            if (cursor != null) {
+                predicates.add(seek(root, cb, cursor));
+            }
+            return cb.and(predicates.toArray(Predicate[]::new));
+        };
+    }
+
+    private static List<Predicate> filterPredicates(Root<Task> root, CriteriaQuery<?> query, CriteriaBuilder cb,
+                                                    TaskFilterRequest filter) {
+        List<Predicate> predicates = new ArrayList<>();
+        if (filter == null) {
+            return predicates;
+        }
+        if (filter.status() != null) {
+            predicates.add(cb.equal(root.get("status"), filter.status()));
+        }
+        if (filter.priority() != null) {
+            predicates.add(cb.equal(root.get("priority"), filter.priority()));
+        }
+        if (filter.parentTaskId() != null) {
+            predicates.add(cb.equal(root.get("parentTask").get("id"), filter.parentTaskId()));
+        }
+        if (filter.dueDateFrom() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(root.get("dueDate"), filter.dueDateFrom()));
+        }
+        if (filter.dueDateTo() != null) {
+            predicates.add(cb.lessThanOrEqualTo(root.get("dueDate"), filter.dueDateTo()));
+        }
+        if (filter.search() != null && !filter.search().isBlank()) {
+            String pattern = "%" + filter.search().toLowerCase() + "%";
+            predicates.add(cb.or(
+                    cb.like(cb.lower(root.get("title")), pattern),
+                    cb.like(cb.lower(root.get("description")), pattern)));
+        }
+        if (filter.assigneeIds() != null && !filter.assigneeIds().isEmpty()) {
+            Subquery<Integer> assigned = query.subquery(Integer.class);
+            Root<Task> correlated = assigned.correlate(root);
+            Join<Task, Long> assignee = correlated.join("assigneeIds");
+            assigned.select(cb.literal(1)).where(assignee.in(filter.assigneeIds()));
+            predicates.add(cb.exists(assigned));
+        }
+        return predicates;
+    }
+
+    /**
+     * (sortKey, id) strictly after the cursor in the requested direction.
+     */
+    @SuppressWarnings("unchecked")
+    private static Predicate seek(Root<Task> root, CriteriaBuilder cb, TaskCursor cursor) {
+        Path<Comparable<Object>> sortPath = root.get(cursor.sortKey().property());
+        Comparable<Object> value = (Comparable<Object>) cursor.sortKey().parse(cursor.lastValue());
+        Path<Long> id = root.get("id");
+        if (cursor.ascending()) {
+            return cb.or(
+                    cb.greaterThan(sortPath, value),
+                    cb.and(cb.equal(sortPath, value), cb.greaterThan(id, cursor.lastId())));
+        }
+        return cb.or(
+                cb.lessThan(sortPath, value),
+                cb.and(cb.equal(sortPath, value), cb.lessThan(id, cursor.lastId())));
+    }
+}
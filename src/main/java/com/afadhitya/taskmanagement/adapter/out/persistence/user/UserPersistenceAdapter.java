@@ -1,9 +1,12 @@
 package com.afadhitya.taskmanagement.adapter.out.persistence.user;
 
+import com.afadhitya.taskmanagement.adapter.out.persistence.FullTextQuery;
 import com.afadhitya.taskmanagement.adapter.out.persistence.UserRepository;
+import com.afadhitya.taskmanagement.application.port.out.auth.UserStatusPort;
 import com.afadhitya.taskmanagement.application.port.out.user.UserPersistencePort;
 import com.afadhitya.taskmanagement.domain.entity.User;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
@@ -14,10 +17,16 @@ import java.util.Optional;
 public class UserPersistenceAdapter implements UserPersistencePort {
 
     private final UserRepository userRepository;
+    private final UserStatusPort userStatusPort;
 
     @Override
     public User save(User user) {
-        return userRepository.save(user);
+        User saved = userRepository.save(user);
+        // Active flag or role may have changed
+        if (saved.getId() != null) {
+            userStatusPort.evict(saved.getId());
+        }
+        return saved;
     }
 
     @Override
@@ -36,7 +45,11 @@ public class UserPersistenceAdapter implements UserPersistencePort {
     }
 
     @Override
-    public List<User> searchByWorkspaceId(Long workspaceId, String query) {
-        return userRepository.searchByWorkspaceId(workspaceId, query);
+    public List<User> searchByWorkspaceId(Long workspaceId, String query, Pageable pageable) {
+        String tsQuery = FullTextQuery.toPrefixQuery(query);
+        if (tsQuery == null) {
+            return List.of();
+        }
+        return userRepository.searchByWorkspaceId(workspaceId, tsQuery, pageable.getPageSize(), pageable.getOffset());
     }
 }
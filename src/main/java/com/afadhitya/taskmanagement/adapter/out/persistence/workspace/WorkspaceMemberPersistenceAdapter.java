@@ -46,6 +46,11 @@ public class WorkspaceMemberPersistenceAdapter implements WorkspaceMemberPersist
         return workspaceMemberRepository.findRoleByWorkspaceIdAndUserId(workspaceId, userId);
     }
 
+    @Override
+    public List<Long> findWorkspaceIdsByUserId(Long userId) {
+        return workspaceMemberRepository.findWorkspaceIdsByUserId(userId);
+    }
+
     @Override
     public void delete(WorkspaceMember workspaceMember) {
         workspaceMemberRepository.delete(workspaceMember);
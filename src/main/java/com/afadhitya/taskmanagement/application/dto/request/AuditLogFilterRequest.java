@@ -0,0 +1,14 @@
+package com.afadhitya.taskmanagement.application.dto.request;
+
+import lombok.Builder;
+
+import java.time.LocalDateTime;
+
+@Builder(toBuilder = true)
+public record AuditLogFilterRequest(
+        String entityType,
+        String action,
+        LocalDateTime from,
+        LocalDateTime to
+) {
+}
@@ -0,0 +1,18 @@
+package com.afadhitya.taskmanagement.application.dto.request;
+
+import jakarta.validation.constraints.Positive;
+import lombok.Builder;
+
+/**
+ * Inclusive id range to mark as read; a missing bound leaves that end open.
+ * An empty body marks the whole inbox as read.
+ */
+@Builder
+public record MarkNotificationsReadRequest(
+        @Positive(message = "fromId must be positive")
+        Long fromId,
+
+        @Positive(message = "toId must be positive")
+        Long toId
+) {
+}
@@ -14,6 +14,7 @@ public record CommentResponse(
         Long authorId,
         String authorName,
         Long parentCommentId,
+        Integer replyCount,
         List<CommentResponse> replies,
         LocalDateTime createdAt,
         LocalDateTime updatedAt
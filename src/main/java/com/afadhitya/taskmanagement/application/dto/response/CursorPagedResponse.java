@@ -0,0 +1,19 @@
+package com.afadhitya.taskmanagement.application.dto.response;
+
+import lombok.Builder;
+
+import java.util.List;
+
+/**
+ * A page addressed by an opaque continuation token instead of an offset.
+ * {@code totalElements} is only populated when the caller asks for it.
+ */
+@Builder
+public record CursorPagedResponse<T>(
+        List<T> content,
+        int size,
+        String nextCursor,
+        boolean hasNext,
+        Long totalElements
+) {
+}
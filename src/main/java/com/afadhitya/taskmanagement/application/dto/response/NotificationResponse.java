@@ -0,0 +1,16 @@
+package com.afadhitya.taskmanagement.application.dto.response;
+
+import lombok.Builder;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+@Builder
+public record NotificationResponse(
+        Long id,
+        String type,
+        Map<String, Object> payload,
+        Boolean isRead,
+        LocalDateTime createdAt
+) {
+}
@@ -1,5 +1,6 @@
 package com.afadhitya.taskmanagement.application.dto.response;
 
+import com.afadhitya.taskmanagement.domain.enums.SearchType;
 import lombok.Builder;
 
 import java.util.List;
@@ -8,6 +9,9 @@ import java.util.List;
 public record SearchResponse(
         List<TaskResponse> tasks,
         List<ProjectResponse> projects,
-        List<UserResponse> users
+        List<UserResponse> users,
+        int page,
+        int size,
+        List<SearchType> timedOut
 ) {
 }
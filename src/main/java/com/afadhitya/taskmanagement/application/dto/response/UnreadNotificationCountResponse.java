@@ -0,0 +1,9 @@
+package com.afadhitya.taskmanagement.application.dto.response;
+
+import lombok.Builder;
+
+@Builder
+public record UnreadNotificationCountResponse(
+        int unreadCount
+) {
+}
@@ -0,0 +1,24 @@
+package com.afadhitya.taskmanagement.application.event;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * An audit entry waiting to be written. Workspace and actor are carried by ID only,
+ * so producing one never touches the database.
+ */
+@Getter
+@Builder
+public class AuditLogEvent {
+
+    private final Long workspaceId;
+    private final Long actorId;
+    private final String entityType;
+    private final Long entityId;
+    private final String action;
+    private final Map<String, Object> diff;
+    private final LocalDateTime createdAt;
+}
@@ -1,21 +1,25 @@
 package com.afadhitya.taskmanagement.application.event;
 
-import com.afadhitya.taskmanagement.application.usecase.bulkjob.BulkJobProcessor;
+import com.afadhitya.taskmanagement.application.usecase.bulkjob.BulkJobPoller;
 import lombok.RequiredArgsConstructor;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
 
+/**
+ * Wakes the queue poller as soon as a job is committed instead of waiting for the next
+ * scheduled poll. The job itself is durable in bulk_jobs, so a lost wake-up only adds latency.
+ */
 @Component
 @RequiredArgsConstructor
 public class BulkJobEventListener {
 
-    private final BulkJobProcessor bulkJobProcessor;
+    private final BulkJobPoller bulkJobPoller;
 
     @Async
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     public void handleBulkJobSubmitted(BulkJobSubmittedEvent event) {
-        bulkJobProcessor.processBulkUpdateTasks(event.getJobId(), event.getRequest());
+        bulkJobPoller.poll();
     }
 }
@@ -1,6 +1,5 @@
 package com.afadhitya.taskmanagement.application.event;
 
-import com.afadhitya.taskmanagement.application.dto.request.BulkUpdateTasksRequest;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -9,5 +8,4 @@ import lombok.Getter;
 public class BulkJobSubmittedEvent {
 
     private final String jobId;
-    private final BulkUpdateTasksRequest request;
 }
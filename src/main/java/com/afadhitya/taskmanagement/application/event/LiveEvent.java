@@ -0,0 +1,19 @@
+package com.afadhitya.taskmanagement.application.event;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * A change pushed to open event streams. Project events reach the project's streams and the
+ * workspace streams above it; an event with {@code userId} reaches only that user's streams.
+ */
+@Getter
+@Builder
+public class LiveEvent {
+
+    private final String name;
+    private final Long workspaceId;
+    private final Long projectId;
+    private final Long userId;
+    private final Object data;
+}
@@ -0,0 +1,29 @@
+package com.afadhitya.taskmanagement.application.event;
+
+import com.afadhitya.taskmanagement.domain.enums.NotificationAudience;
+import com.afadhitya.taskmanagement.domain.enums.NotificationType;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A change that users should hear about. Recipients are named by audience and resolved
+ * when the event is fanned out, not when it is raised.
+ */
+@Getter
+@Builder
+public class NotificationEvent {
+
+    private final NotificationType type;
+    private final NotificationAudience audience;
+    private final Long workspaceId;
+    private final Long projectId;
+    private final Long taskId;
+    private final Long actorId;
+    @Builder.Default
+    private final Set<Long> recipientIds = Set.of();
+    @Builder.Default
+    private final Map<String, Object> payload = Map.of();
+}
@@ -0,0 +1,12 @@
+package com.afadhitya.taskmanagement.application.event;
+
+import java.util.List;
+
+/**
+ * Live event body for one applied chunk of a bulk update; clients refetch the listed tasks.
+ */
+public record TasksBulkUpdatedEvent(
+        String jobId,
+        List<Long> taskIds
+) {
+}
@@ -1,14 +1,56 @@
 package com.afadhitya.taskmanagement.application.mapper;
 
+import com.afadhitya.taskmanagement.application.dto.request.BulkUpdateTasksRequest;
 import com.afadhitya.taskmanagement.application.dto.response.BulkJobResponse;
 import com.afadhitya.taskmanagement.domain.entity.BulkJob;
+import com.afadhitya.taskmanagement.domain.enums.TaskPriority;
+import com.afadhitya.taskmanagement.domain.enums.TaskStatus;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
 @Mapper(componentModel = "spring")
 public interface BulkJobMapper {
 
     @Mapping(target = "createdBy", source = "createdBy.id")
     @Mapping(target = "progressPercentage", expression = "java(bulkJob.getProgressPercentage())")
     BulkJobResponse toResponse(BulkJob bulkJob);
+
+    default Map<String, Object> toPayload(BulkUpdateTasksRequest request) {
+        Map<String, Object> payload = new HashMap<>();
+        payload.put("taskIds", request.taskIds());
+        payload.put("status", request.status() != null ? request.status().name() : null);
+        payload.put("priority", request.priority() != null ? request.priority().name() : null);
+        payload.put("assigneeIds", request.assigneeIds());
+        payload.put("replaceAssignees", request.replaceAssignees());
+        return payload;
+    }
+
+    default BulkUpdateTasksRequest toBulkUpdateTasksRequest(Map<String, Object> payload) {
+        Object status = payload.get("status");
+        Object priority = payload.get("priority");
+        return BulkUpdateTasksRequest.builder()
+                .taskIds(toIdSet(payload.get("taskIds")))
+                .status(status != null ? TaskStatus.valueOf(status.toString()) : null)
+                .priority(priority != null ? TaskPriority.valueOf(priority.toString()) : null)
+                .assigneeIds(toIdSet(payload.get("assigneeIds")))
+                .replaceAssignees((Boolean) payload.get("replaceAssignees"))
+                .build();
+    }
+
+    private static Set<Long> toIdSet(Object value) {
+        if (value == null) {
+            return null;
+        }
+        Set<Long> ids = new LinkedHashSet<>();
+        for (Object id : (Collection<?>) value) {
+            ids.add(((Number) id).longValue());
+        }
+        return ids;
+    }
 }
@@ -0,0 +1,14 @@
+package com.afadhitya.taskmanagement.application.port.in.auditlog;
+
+import com.afadhitya.taskmanagement.application.dto.request.AuditLogFilterRequest;
+import com.afadhitya.taskmanagement.domain.enums.AuditLogExportFormat;
+
+import java.io.OutputStream;
+
+public interface ExportAuditLogsUseCase {
+
+    /**
+     * Writes every matching audit entry, newest first, to {@code out} without holding the result in memory.
+     */
+    void exportAuditLogs(Long workspaceId, AuditLogFilterRequest filter, AuditLogExportFormat format, OutputStream out);
+}
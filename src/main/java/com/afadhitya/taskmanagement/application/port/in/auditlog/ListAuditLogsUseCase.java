@@ -1,6 +1,8 @@
 package com.afadhitya.taskmanagement.application.port.in.auditlog;
 
+import com.afadhitya.taskmanagement.application.dto.request.AuditLogFilterRequest;
 import com.afadhitya.taskmanagement.application.dto.response.AuditLogResponse;
+import com.afadhitya.taskmanagement.application.dto.response.CursorPagedResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -15,4 +17,13 @@ public interface ListAuditLogsUseCase {
             LocalDateTime from,
             LocalDateTime to,
             Pageable pageable);
+
+    /**
+     * Keyset variant ordered by (createdAt, id) descending. A null or blank cursor starts at the newest entry.
+     */
+    CursorPagedResponse<AuditLogResponse> listAuditLogsAfter(
+            Long workspaceId,
+            AuditLogFilterRequest filter,
+            String cursor,
+            int size);
 }
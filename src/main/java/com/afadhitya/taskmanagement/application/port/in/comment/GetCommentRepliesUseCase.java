@@ -0,0 +1,12 @@
+package com.afadhitya.taskmanagement.application.port.in.comment;
+
+import com.afadhitya.taskmanagement.application.dto.response.CommentResponse;
+import com.afadhitya.taskmanagement.application.dto.response.CursorPagedResponse;
+
+public interface GetCommentRepliesUseCase {
+
+    /**
+     * Keyset page of a comment's direct replies, oldest first, each with its own reply count.
+     */
+    CursorPagedResponse<CommentResponse> getReplies(Long commentId, String cursor, int size);
+}
@@ -1,10 +1,16 @@
 package com.afadhitya.taskmanagement.application.port.in.comment;
 
 import com.afadhitya.taskmanagement.application.dto.response.CommentResponse;
-
-import java.util.List;
+import com.afadhitya.taskmanagement.application.dto.response.CursorPagedResponse;
 
 public interface GetCommentsByTaskUseCase {
 
-    List<CommentResponse> getCommentsByTask(Long taskId);
+    /**
+     * Keyset page of top-level comments, starting from the first when {@code cursor} is null or blank.
+     * Each comment carries its reply count and its replies down to {@code maxDepth} levels (every level
+     * up to the depth cap when null), keeping only the first {@code replyLimit} children of every comment
+     * at every level. The remaining replies are listed with {@link GetCommentRepliesUseCase}.
+     */
+    CursorPagedResponse<CommentResponse> getCommentsByTask(Long taskId, String cursor, int size,
+                                                           Integer maxDepth, int replyLimit);
 }
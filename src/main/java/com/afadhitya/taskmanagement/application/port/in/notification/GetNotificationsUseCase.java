@@ -0,0 +1,12 @@
+package com.afadhitya.taskmanagement.application.port.in.notification;
+
+import com.afadhitya.taskmanagement.application.dto.response.CursorPagedResponse;
+import com.afadhitya.taskmanagement.application.dto.response.NotificationResponse;
+
+public interface GetNotificationsUseCase {
+
+    /**
+     * Keyset page of the user's inbox, newest first.
+     */
+    CursorPagedResponse<NotificationResponse> getNotifications(Long userId, String cursor, int size, boolean unreadOnly);
+}
@@ -0,0 +1,8 @@
+package com.afadhitya.taskmanagement.application.port.in.notification;
+
+import com.afadhitya.taskmanagement.application.dto.response.UnreadNotificationCountResponse;
+
+public interface GetUnreadNotificationCountUseCase {
+
+    UnreadNotificationCountResponse getUnreadCount(Long userId);
+}
@@ -0,0 +1,9 @@
+package com.afadhitya.taskmanagement.application.port.in.notification;
+
+import com.afadhitya.taskmanagement.application.dto.request.MarkNotificationsReadRequest;
+import com.afadhitya.taskmanagement.application.dto.response.UnreadNotificationCountResponse;
+
+public interface MarkNotificationsReadUseCase {
+
+    UnreadNotificationCountResponse markRead(Long userId, MarkNotificationsReadRequest request);
+}
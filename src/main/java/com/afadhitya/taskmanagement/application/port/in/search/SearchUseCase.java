@@ -5,5 +5,5 @@ import com.afadhitya.taskmanagement.domain.enums.SearchType;
 
 public interface SearchUseCase {
 
-    SearchResponse search(Long workspaceId, String query, SearchType type);
+    SearchResponse search(Long workspaceId, String query, SearchType type, int page, int size);
 }
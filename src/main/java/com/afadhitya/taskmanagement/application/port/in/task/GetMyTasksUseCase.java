@@ -1,10 +1,14 @@
 package com.afadhitya.taskmanagement.application.port.in.task;
 
+import com.afadhitya.taskmanagement.application.dto.request.TaskFilterRequest;
+import com.afadhitya.taskmanagement.application.dto.response.CursorPagedResponse;
 import com.afadhitya.taskmanagement.application.dto.response.TaskResponse;
 
-import java.util.List;
-
 public interface GetMyTasksUseCase {
 
-    List<TaskResponse> getMyTasks(Long userId);
+    /**
+     * Tasks assigned to the user across all workspaces, newest first. Pass the previous page's
+     * {@code nextCursor} to continue; a null or blank cursor starts from the beginning.
+     */
+    CursorPagedResponse<TaskResponse> getMyTasks(Long userId, TaskFilterRequest filter, String cursor, int size);
 }
@@ -1,10 +1,18 @@
 package com.afadhitya.taskmanagement.application.port.in.task;
 
 import com.afadhitya.taskmanagement.application.dto.request.TaskFilterRequest;
+import com.afadhitya.taskmanagement.application.dto.response.CursorPagedResponse;
 import com.afadhitya.taskmanagement.application.dto.response.PagedResponse;
 import com.afadhitya.taskmanagement.application.dto.response.TaskResponse;
 
 public interface GetTasksByProjectUseCase {
 
     PagedResponse<TaskResponse> getTasksByProject(Long projectId, TaskFilterRequest filter, int page, int size, String sortBy, String sortDirection);
+
+    /**
+     * Keyset variant of {@link #getTasksByProject}. A non-blank {@code cursor} resumes the ordering it
+     * was issued for and overrides {@code sortBy}/{@code sortDirection}.
+     */
+    CursorPagedResponse<TaskResponse> getTasksByProjectAfter(Long projectId, TaskFilterRequest filter, String cursor, int size,
+                                                             String sortBy, String sortDirection, boolean includeTotal);
 }
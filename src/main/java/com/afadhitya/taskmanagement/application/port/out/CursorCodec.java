@@ -0,0 +1,55 @@
+package com.afadhitya.taskmanagement.application.port.out;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.StringJoiner;
+
+/**
+ * Opaque continuation tokens shared by every keyset-paginated list. Each token carries the
+ * scope of the list that issued it and is rejected by any other list, so a cursor cannot be
+ * replayed against another project, task, workspace or user.
+ */
+public final class CursorCodec {
+
+    private static final String SEPARATOR = "|";
+
+    private CursorCodec() {
+        // Utility class, prevent instantiation
+    }
+
+    /**
+     * Scope key of the list named {@code list} that belongs to {@code ownerId}.
+     */
+    public static String scope(String list, Long ownerId) {
+        return list + ":" + ownerId;
+    }
+
+    /**
+     * Only the last field may contain the separator.
+     */
+    public static String encode(String scope, String... fields) {
+        StringJoiner raw = new StringJoiner(SEPARATOR).add(scope);
+        for (String field : fields) {
+            raw.add(field);
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @throws IllegalArgumentException if the token is malformed or was issued for another scope
+     */
+    public static String[] decode(String token, String scope, int fieldCount) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            // The last field is not split further, so values containing the separator survive
+            String[] parts = raw.split("\\|", fieldCount + 1);
+            if (parts.length != fieldCount + 1 || !parts[0].equals(scope)) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            return Arrays.copyOfRange(parts, 1, parts.length);
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
+    }
+}
@@ -17,4 +17,6 @@ public interface AdminPlanPersistencePort {
     int updateFeatureStatus(Long planId, String featureCode, Boolean isEnabled);
 
     int updateLimitValue(Long planId, String limitType, Integer limitValue);
+
+    List<Integer> findLimitValues(String limitType);
 }
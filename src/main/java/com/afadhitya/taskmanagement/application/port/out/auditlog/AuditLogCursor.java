@@ -0,0 +1,31 @@
+package com.afadhitya.taskmanagement.application.port.out.auditlog;
+
+import com.afadhitya.taskmanagement.application.port.out.CursorCodec;
+
+import java.time.LocalDateTime;
+
+/**
+ * Position of the last audit entry on a page, in (createdAt, id) descending order.
+ */
+public record AuditLogCursor(
+        LocalDateTime lastCreatedAt,
+        Long lastId
+) {
+
+    public static String workspaceScope(Long workspaceId) {
+        return CursorCodec.scope("workspace-audit-logs", workspaceId);
+    }
+
+    public String encode(String scope) {
+        return CursorCodec.encode(scope, String.valueOf(lastCreatedAt), String.valueOf(lastId));
+    }
+
+    public static AuditLogCursor decode(String token, String scope) {
+        String[] fields = CursorCodec.decode(token, scope, 2);
+        try {
+            return new AuditLogCursor(LocalDateTime.parse(fields[0]), Long.valueOf(fields[1]));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.afadhitya.taskmanagement.application.port.out.auditlog;
+
+import java.time.LocalDateTime;
+
+/**
+ * A flat audit row for exports. {@code diffJson} is the stored jsonb text, passed through unparsed.
+ */
+public record AuditLogExportRow(
+        Long id,
+        Long workspaceId,
+        Long actorId,
+        String actorFullName,
+        String action,
+        String entityType,
+        Long entityId,
+        String diffJson,
+        LocalDateTime createdAt
+) {
+}
@@ -1,10 +1,16 @@
 package com.afadhitya.taskmanagement.application.port.out.auditlog;
 
+import com.afadhitya.taskmanagement.application.dto.request.AuditLogFilterRequest;
+import com.afadhitya.taskmanagement.application.event.AuditLogEvent;
 import com.afadhitya.taskmanagement.domain.entity.AuditLog;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.function.Consumer;
 
 public interface AuditLogPersistencePort {
 
@@ -17,4 +23,55 @@ public interface AuditLogPersistencePort {
             LocalDateTime from,
             LocalDateTime to,
             Pageable pageable);
+
+    /**
+     * Returns up to {@code limit} entries, newest first, that come after {@code cursor}
+     * (or from the newest when null), with the actor loaded. Never issues a count query.
+     */
+    List<AuditLog> findByWorkspaceIdAfter(Long workspaceId, AuditLogFilterRequest filter, AuditLogCursor cursor, int limit);
+
+    /**
+     * Feeds every matching row, newest first, to {@code consumer} from a server-side cursor.
+     * Must run inside a transaction so the driver fetches in batches instead of loading the result.
+     */
+    void streamByWorkspaceId(Long workspaceId, AuditLogFilterRequest filter, Consumer<AuditLogExportRow> consumer);
+
+    /**
+     * Inserts the events into audit_logs as one multi-row batch.
+     */
+    void saveAll(List<AuditLogEvent> events);
+
+    /**
+     * Inserts the event into the outbox, joining the caller's transaction if there is one.
+     */
+    void saveToOutbox(AuditLogEvent event);
+
+    /**
+     * Moves up to {@code limit} outbox rows into audit_logs. Rows whose workspace or actor no longer
+     * exists cannot be inserted; they are discarded and reported in the result.
+     */
+    AuditLogRelayBatch relayOutbox(int limit);
+
+    /**
+     * Takes the cluster-wide partition maintenance lock for the current transaction.
+     * Returns false if another node holds it.
+     */
+    boolean tryLockPartitionMaintenance();
+
+    /**
+     * Months of the existing monthly partitions. The default partition and unrecognised tables are skipped.
+     */
+    List<YearMonth> findPartitionMonths();
+
+    /**
+     * Creates the month's partition unless it exists, moving in any of its rows held by the default partition.
+     */
+    void createPartition(YearMonth month);
+
+    void dropPartition(YearMonth month);
+
+    /**
+     * Deletes rows older than {@code cutoff} from the default partition and returns how many were removed.
+     */
+    int deleteDefaultPartitionRowsBefore(LocalDate cutoff);
 }
@@ -0,0 +1,15 @@
+package com.afadhitya.taskmanagement.application.port.out.auditlog;
+
+import com.afadhitya.taskmanagement.application.event.AuditLogEvent;
+
+import java.util.List;
+
+/**
+ * One relayed outbox batch: how many rows left the outbox, and those among them that were discarded
+ * because their workspace or actor no longer exists (without their diff).
+ */
+public record AuditLogRelayBatch(
+        int moved,
+        List<AuditLogEvent> discarded
+) {
+}
@@ -0,0 +1,16 @@
+package com.afadhitya.taskmanagement.application.port.out.auth;
+
+import com.afadhitya.taskmanagement.domain.enums.UserRole;
+
+/**
+ * The parts of a user that can revoke or change an already issued access token.
+ */
+public record UserStatus(
+        Boolean active,
+        UserRole role
+) {
+
+    public boolean isEnabled() {
+        return Boolean.TRUE.equals(active);
+    }
+}
@@ -0,0 +1,16 @@
+package com.afadhitya.taskmanagement.application.port.out.auth;
+
+import java.util.Optional;
+
+public interface UserStatusPort {
+
+    /**
+     * Cached active flag and role; empty when the user no longer exists.
+     */
+    Optional<UserStatus> findStatus(Long userId);
+
+    /**
+     * Must be called whenever a user's active flag or role changes.
+     */
+    void evict(Long userId);
+}
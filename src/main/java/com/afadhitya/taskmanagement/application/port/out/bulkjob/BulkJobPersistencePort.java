@@ -1,7 +1,9 @@
 package com.afadhitya.taskmanagement.application.port.out.bulkjob;
 
 import com.afadhitya.taskmanagement.domain.entity.BulkJob;
+import com.afadhitya.taskmanagement.domain.enums.JobStatus;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -12,4 +14,36 @@ public interface BulkJobPersistencePort {
     Optional<BulkJob> findById(String id);
 
     List<BulkJob> findPendingJobs();
+
+    long countActiveByCreatedBy(Long userId);
+
+    /**
+     * Checkpoints progress and refreshes the heartbeat, provided the job is still locked by
+     * {@code workerId}.
+     *
+     * @return {@code false} if another worker has taken the job over
+     */
+    boolean updateProgress(String id, String workerId, int processedItems, int failedItems);
+
+    /**
+     * Moves a job owned by {@code workerId} to its terminal state and clears the lock.
+     *
+     * @return {@code false} if another worker has taken the job over
+     */
+    boolean finish(String id, String workerId, JobStatus status, int processedItems, int failedItems,
+                   String errorMessage);
+
+    /**
+     * Hands a claimed job that was never started back to the queue as PENDING, without
+     * counting the claim as an attempt.
+     */
+    void release(String id, String workerId);
+
+    /**
+     * Claims up to {@code limit} pending jobs, or processing jobs whose heartbeat is older than
+     * {@code staleBefore}, for the given worker. Rows locked by other nodes are skipped.
+     *
+     * @return IDs of the claimed jobs, now in PROCESSING state and owned by {@code workerId}
+     */
+    List<String> claimJobs(String workerId, int limit, LocalDateTime staleBefore);
 }
@@ -0,0 +1,35 @@
+package com.afadhitya.taskmanagement.application.port.out.comment;
+
+import com.afadhitya.taskmanagement.application.port.out.CursorCodec;
+
+import java.time.LocalDateTime;
+
+/**
+ * Position of the last comment on a page, in (createdAt, id) ascending order.
+ */
+public record CommentCursor(
+        LocalDateTime lastCreatedAt,
+        Long lastId
+) {
+
+    public static String taskScope(Long taskId) {
+        return CursorCodec.scope("task-comments", taskId);
+    }
+
+    public static String repliesScope(Long commentId) {
+        return CursorCodec.scope("comment-replies", commentId);
+    }
+
+    public String encode(String scope) {
+        return CursorCodec.encode(scope, String.valueOf(lastCreatedAt), String.valueOf(lastId));
+    }
+
+    public static CommentCursor decode(String token, String scope) {
+        String[] fields = CursorCodec.decode(token, scope, 2);
+        try {
+            return new CommentCursor(LocalDateTime.parse(fields[0]), Long.valueOf(fields[1]));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
+    }
+}
@@ -11,7 +11,26 @@ public interface CommentPersistencePort {
 
     Optional<Comment> findById(Long id);
 
-    List<Comment> findByTaskIdAndParentCommentIsNullAndIsDeletedFalse(Long taskId);
+    /**
+     * Up to {@code limit} non-deleted top-level comments of the task after the cursor, oldest first.
+     */
+    List<CommentThreadRow> findTopLevelByTaskIdAfter(Long taskId, CommentCursor after, int limit);
+
+    /**
+     * Replies below the given comments down to {@code maxDepth} levels, keeping the first
+     * {@code perParent} children of every comment, in one query. Rows are ordered by depth,
+     * then creation time.
+     */
+    List<CommentThreadRow> findReplyThreads(List<Long> parentIds, int maxDepth, int perParent);
+
+    /**
+     * Up to {@code limit} direct replies of the comment after the cursor, oldest first.
+     */
+    List<CommentThreadRow> findRepliesAfter(Long parentId, CommentCursor after, int limit);
+
+    Optional<Long> findTaskIdById(Long id);
+
+    void incrementReplyCount(Long id);
 
     void deleteById(Long id);
 }
@@ -0,0 +1,21 @@
+package com.afadhitya.taskmanagement.application.port.out.comment;
+
+import java.time.LocalDateTime;
+
+/**
+ * One comment of a thread fetched flat; {@code depth} is 0 for the top-level comment.
+ */
+public record CommentThreadRow(
+        Long id,
+        String body,
+        Boolean isDeleted,
+        Long taskId,
+        Long authorId,
+        String authorName,
+        Long parentCommentId,
+        int depth,
+        int replyCount,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {
+}
@@ -1,5 +1,6 @@
 package com.afadhitya.taskmanagement.application.port.out.feature;
 
+import com.afadhitya.taskmanagement.domain.feature.EntitlementSnapshot;
 import com.afadhitya.taskmanagement.domain.feature.Feature;
 import com.afadhitya.taskmanagement.domain.feature.LimitType;
 
@@ -9,6 +10,15 @@ import com.afadhitya.taskmanagement.domain.feature.LimitType;
  */
 public interface FeatureTogglePort {
 
+    /**
+     * Get every feature flag and limit of a workspace's plan as one cached snapshot.
+     * Callers that check more than one entitlement should read them from a single snapshot.
+     *
+     * @param workspaceId The workspace ID
+     * @return The snapshot; empty if the workspace has no plan
+     */
+    EntitlementSnapshot getEntitlements(Long workspaceId);
+
     /**
      * Check if a feature is enabled for a workspace.
      * 
@@ -29,10 +39,18 @@ public interface FeatureTogglePort {
     int getLimit(Long workspaceId, LimitType limitType);
 
     /**
-     * Invalidate the cache for a workspace.
+     * Invalidate the cached entitlements of one workspace on every node.
      * Should be called when a workspace's plan configuration changes.
      * 
      * @param workspaceId The workspace ID
      */
     void invalidateCache(Long workspaceId);
+
+    /**
+     * Invalidate the cached entitlements of every workspace on a plan, on every node.
+     * Should be called after a plan's features or limits are edited.
+     *
+     * @param planConfigurationId The plan configuration ID
+     */
+    void invalidatePlan(Long planConfigurationId);
 }
@@ -0,0 +1,24 @@
+package com.afadhitya.taskmanagement.application.port.out.live;
+
+import com.afadhitya.taskmanagement.application.event.LiveEvent;
+
+import java.util.List;
+
+public interface LiveEventPort {
+
+    /**
+     * Hands the event to every matching stream, on this node and its peers. Never blocks on a slow client.
+     */
+    void publish(LiveEvent event);
+
+    /**
+     * Same as publishing each event, but peers receive the whole batch in as few messages as possible.
+     */
+    void publishAll(List<LiveEvent> events);
+
+    /**
+     * Closes the user's open streams on every node: those of {@code projectId} if given, else those
+     * of {@code workspaceId} including its project streams, else all of them.
+     */
+    void disconnect(Long userId, Long workspaceId, Long projectId);
+}
@@ -0,0 +1,28 @@
+package com.afadhitya.taskmanagement.application.port.out.notification;
+
+import com.afadhitya.taskmanagement.application.port.out.CursorCodec;
+
+/**
+ * Position of the last notification on an inbox page, in id descending order.
+ */
+public record NotificationCursor(
+        Long lastId
+) {
+
+    public static String userScope(Long userId) {
+        return CursorCodec.scope("user-notifications", userId);
+    }
+
+    public String encode(String scope) {
+        return CursorCodec.encode(scope, String.valueOf(lastId));
+    }
+
+    public static NotificationCursor decode(String token, String scope) {
+        String[] fields = CursorCodec.decode(token, scope, 1);
+        try {
+            return new NotificationCursor(Long.valueOf(fields[0]));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
+    }
+}
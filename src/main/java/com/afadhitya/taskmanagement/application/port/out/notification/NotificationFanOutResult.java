@@ -0,0 +1,14 @@
+package com.afadhitya.taskmanagement.application.port.out.notification;
+
+import java.util.Map;
+
+/**
+ * Outcome of one fan-out pass: outbox events consumed, notification rows inserted,
+ * and the new unread count of every user who received one.
+ */
+public record NotificationFanOutResult(
+        int events,
+        int notifications,
+        Map<Long, Integer> unreadCounts
+) {
+}
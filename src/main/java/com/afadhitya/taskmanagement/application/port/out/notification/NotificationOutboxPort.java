@@ -0,0 +1,17 @@
+package com.afadhitya.taskmanagement.application.port.out.notification;
+
+import com.afadhitya.taskmanagement.application.event.NotificationEvent;
+
+public interface NotificationOutboxPort {
+
+    /**
+     * Writes the event to the outbox, in the caller's transaction when there is one.
+     */
+    void enqueue(NotificationEvent event);
+
+    /**
+     * Claims up to {@code limit} events no other worker holds, inserts a notification per
+     * recipient and removes the events, all in one statement. Safe to run on every node.
+     */
+    NotificationFanOutResult fanOut(int limit);
+}
@@ -0,0 +1,40 @@
+package com.afadhitya.taskmanagement.application.port.out.notification;
+
+import java.util.List;
+
+public interface NotificationPersistencePort {
+
+    /**
+     * Returns up to {@code limit} of the user's notifications, newest first, that come after
+     * {@code cursor} (or from the newest when null). Never issues a count query.
+     */
+    List<NotificationRow> findByUserIdAfter(Long userId, boolean unreadOnly, NotificationCursor cursor, int limit);
+
+    /**
+     * Marks the user's unread notifications with ids in [fromId, toId] as read and takes them
+     * off the counter in the same statement. Returns the remaining unread count.
+     */
+    int markRead(Long userId, long fromId, long toId);
+
+    /**
+     * The user's unread count from the counter row; a single primary key lookup.
+     */
+    int findUnreadCount(Long userId);
+
+    /**
+     * Adds counter rows for users who have unread notifications but no counter.
+     */
+    int createMissingCounters();
+
+    /**
+     * Locks the next {@code limit} counter rows after {@code afterUserId}, in user id order.
+     * Must run inside a transaction; the locks hold fan-out and mark-read back until it ends.
+     */
+    List<Long> lockCounters(Long afterUserId, int limit);
+
+    /**
+     * Recounts unread notifications for the given users and overwrites counters that drifted.
+     * Returns the number of counters corrected.
+     */
+    int reconcileUnreadCounts(List<Long> userIds);
+}
@@ -0,0 +1,16 @@
+package com.afadhitya.taskmanagement.application.port.out.notification;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * One inbox entry as read straight from notifications.
+ */
+public record NotificationRow(
+        Long id,
+        String type,
+        Map<String, Object> payload,
+        boolean isRead,
+        LocalDateTime createdAt
+) {
+}
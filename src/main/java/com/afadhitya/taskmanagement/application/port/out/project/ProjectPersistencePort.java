@@ -1,6 +1,7 @@
 package com.afadhitya.taskmanagement.application.port.out.project;
 
 import com.afadhitya.taskmanagement.domain.entity.Project;
+import org.springframework.data.domain.Pageable;
 
 import java.util.List;
 import java.util.Optional;
@@ -17,5 +18,7 @@ public interface ProjectPersistencePort {
 
     void deleteById(Long id);
 
-    List<Project> searchByWorkspaceId(Long workspaceId, String query);
+    List<Project> searchByWorkspaceId(Long workspaceId, String query, Pageable pageable);
+
+    Optional<Long> findWorkspaceIdById(Long projectId);
 }
@@ -0,0 +1,40 @@
+package com.afadhitya.taskmanagement.application.port.out.task;
+
+import com.afadhitya.taskmanagement.application.port.out.CursorCodec;
+
+/**
+ * Position of the last task on a page. The sort key and direction travel with the
+ * cursor so a continuation token always resumes the ordering it was issued for.
+ */
+public record TaskCursor(
+        TaskSortKey sortKey,
+        boolean ascending,
+        Long lastId,
+        String lastValue
+) {
+
+    public static String projectScope(Long projectId) {
+        return CursorCodec.scope("project-tasks", projectId);
+    }
+
+    public static String assigneeScope(Long userId) {
+        return CursorCodec.scope("assigned-tasks", userId);
+    }
+
+    public String encode(String scope) {
+        // The value goes last so titles containing the separator survive
+        return CursorCodec.encode(scope, sortKey.property(), ascending ? "asc" : "desc", String.valueOf(lastId), lastValue);
+    }
+
+    public static TaskCursor decode(String token, String scope) {
+        String[] fields = CursorCodec.decode(token, scope, 4);
+        try {
+            TaskSortKey sortKey = TaskSortKey.fromProperty(fields[0]);
+            TaskCursor cursor = new TaskCursor(sortKey, "asc".equals(fields[1]), Long.valueOf(fields[2]), fields[3]);
+            sortKey.parse(cursor.lastValue());
+            return cursor;
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
+    }
+}
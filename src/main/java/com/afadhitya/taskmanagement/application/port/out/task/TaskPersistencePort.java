@@ -2,9 +2,12 @@ package com.afadhitya.taskmanagement.application.port.out.task;
 
 import com.afadhitya.taskmanagement.application.dto.request.TaskFilterRequest;
 import com.afadhitya.taskmanagement.domain.entity.Task;
+import com.afadhitya.taskmanagement.domain.enums.TaskPriority;
+import com.afadhitya.taskmanagement.domain.enums.TaskStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -19,15 +22,44 @@ public interface TaskPersistencePort {
 
     Page<Task> findByProjectIdWithFilters(Long projectId, TaskFilterRequest filter, Pageable pageable);
 
+    /**
+     * Returns up to {@code limit} tasks ordered by (sortKey, id) that come after {@code cursor},
+     * or from the start when the cursor is null. Never issues a count query.
+     */
+    List<Task> findByProjectIdAfter(Long projectId, TaskFilterRequest filter, TaskSortKey sortKey, boolean ascending,
+                                    TaskCursor cursor, int limit);
+
+    long countByProjectIdWithFilters(Long projectId, TaskFilterRequest filter);
+
     List<Task> findByParentTaskId(Long parentTaskId);
 
     List<Task> findAllById(Set<Long> ids);
 
-    List<Task> findByAssigneeId(Long assigneeId);
+    /**
+     * Returns up to {@code limit} tasks assigned to the user in descending id order, after {@code cursor} if given.
+     */
+    List<Task> findByAssigneeIdAfter(Long assigneeId, TaskFilterRequest filter, TaskCursor cursor, int limit);
 
     boolean existsById(Long id);
 
     void deleteById(Long id);
 
-    List<Task> searchByWorkspaceId(Long workspaceId, String query);
+    List<Task> searchByWorkspaceId(Long workspaceId, String query, Pageable pageable);
+
+    int updateStatus(Collection<Long> ids, TaskStatus status);
+
+    int updatePriority(Collection<Long> ids, TaskPriority priority);
+
+    int addAssignees(Collection<Long> taskIds, Collection<Long> userIds);
+
+    int removeAllAssignees(Collection<Long> taskIds);
+
+    Optional<TaskScope> findScopeById(Long taskId);
+
+    List<TaskScope> findScopesByIds(Collection<Long> taskIds);
+
+    /**
+     * Returns an uninitialized reference for associating other entities with an existing task.
+     */
+    Task getReferenceById(Long id);
 }
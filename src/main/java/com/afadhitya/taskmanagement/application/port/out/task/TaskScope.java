@@ -0,0 +1,12 @@
+package com.afadhitya.taskmanagement.application.port.out.task;
+
+/**
+ * Identifiers that place a task in the project/workspace hierarchy,
+ * for callers that need ownership but not the task itself.
+ */
+public record TaskScope(
+        Long taskId,
+        Long projectId,
+        Long workspaceId
+) {
+}
@@ -0,0 +1,49 @@
+package com.afadhitya.taskmanagement.application.port.out.task;
+
+import com.afadhitya.taskmanagement.domain.entity.Task;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.function.Function;
+
+/**
+ * Task columns that can drive keyset pagination. Only non-null columns qualify,
+ * so the (sortKey, id) seek predicate never has to reason about NULL ordering.
+ */
+public enum TaskSortKey {
+
+    CREATED_AT("createdAt", Task::getCreatedAt, LocalDateTime::parse),
+    UPDATED_AT("updatedAt", Task::getUpdatedAt, LocalDateTime::parse),
+    TITLE("title", Task::getTitle, value -> value),
+    POSITION("position", Task::getPosition, Integer::valueOf),
+    ID("id", Task::getId, Long::valueOf);
+
+    private final String property;
+    private final Function<Task, Comparable<?>> extractor;
+    private final Function<String, Comparable<?>> parser;
+
+    TaskSortKey(String property, Function<Task, Comparable<?>> extractor, Function<String, Comparable<?>> parser) {
+        this.property = property;
+        this.extractor = extractor;
+        this.parser = parser;
+    }
+
+    public String property() {
+        return property;
+    }
+
+    public String valueOf(Task task) {
+        return String.valueOf(extractor.apply(task));
+    }
+
+    public Comparable<?> parse(String value) {
+        return parser.apply(value);
+    }
+
+    public static TaskSortKey fromProperty(String property) {
+        return Arrays.stream(values())
+                .filter(key -> key.property.equals(property))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Cursor pagination does not support sorting by: " + property));
+    }
+}
@@ -1,6 +1,7 @@
 package com.afadhitya.taskmanagement.application.port.out.user;
 
 import com.afadhitya.taskmanagement.domain.entity.User;
+import org.springframework.data.domain.Pageable;
 
 import java.util.List;
 import java.util.Optional;
@@ -19,5 +20,5 @@ public interface UserPersistencePort {
 
     boolean existsByEmail(String email);
 
-    List<User> searchByWorkspaceId(Long workspaceId, String query);
+    List<User> searchByWorkspaceId(Long workspaceId, String query, Pageable pageable);
 }
@@ -16,6 +16,8 @@ public interface WorkspaceMemberPersistencePort {
 
     Optional<WorkspaceRole> findRoleByWorkspaceIdAndUserId(Long workspaceId, Long userId);
 
+    List<Long> findWorkspaceIdsByUserId(Long userId);
+
     boolean existsByWorkspaceIdAndUserIdAndRole(Long workspaceId, Long userId, WorkspaceRole role);
 
     boolean existsByWorkspaceIdAndUserId(Long workspaceId, Long userId);
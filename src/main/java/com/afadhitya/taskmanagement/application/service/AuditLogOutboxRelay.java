@@ -0,0 +1,57 @@
+package com.afadhitya.taskmanagement.application.service;
+
+import com.afadhitya.taskmanagement.application.event.AuditLogEvent;
+import com.afadhitya.taskmanagement.application.port.out.auditlog.AuditLogPersistencePort;
+import com.afadhitya.taskmanagement.application.port.out.auditlog.AuditLogRelayBatch;
+import com.afadhitya.taskmanagement.infrastructure.config.AuditLogProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Moves audit events that overflowed into the outbox table over to audit_logs.
+ * Uses {@code SKIP LOCKED}, so every node can run it. Entries whose workspace or actor was
+ * deleted in the meantime cannot be stored; each one is logged and counted.
+ */
+@Slf4j
+@Component
+public class AuditLogOutboxRelay {
+
+    private final AuditLogPersistencePort auditLogPersistencePort;
+    private final AuditLogProperties auditLogProperties;
+    private final Counter discarded;
+
+    public AuditLogOutboxRelay(AuditLogPersistencePort auditLogPersistencePort,
+                               AuditLogProperties auditLogProperties,
+                               MeterRegistry meterRegistry) {
+        this.auditLogPersistencePort = auditLogPersistencePort;
+        this.auditLogProperties = auditLogProperties;
+        this.discarded = Counter.builder("audit.log.discarded")
+                .description("Outbox audit events discarded because their workspace or actor no longer exists")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${audit-log.relay-interval-ms:5000}")
+    public void relay() {
+        int batchSize = auditLogProperties.getRelayBatchSize();
+        try {
+            AuditLogRelayBatch batch;
+            do {
+                batch = auditLogPersistencePort.relayOutbox(batchSize);
+                if (batch.moved() > 0) {
+                    log.debug("Relayed {} audit events from the outbox", batch.moved());
+                }
+                for (AuditLogEvent event : batch.discarded()) {
+                    log.warn("Discarded audit event {} on {} {} in workspace {} by user {} at {}: workspace or actor no longer exists",
+                            event.getAction(), event.getEntityType(), event.getEntityId(),
+                            event.getWorkspaceId(), event.getActorId(), event.getCreatedAt());
+                }
+                discarded.increment(batch.discarded().size());
+            } while (batch.moved() == batchSize);
+        } catch (Exception e) {
+            log.error("Failed to relay audit outbox", e);
+        }
+    }
+}
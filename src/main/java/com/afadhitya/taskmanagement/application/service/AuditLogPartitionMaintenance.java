@@ -0,0 +1,97 @@
+package com.afadhitya.taskmanagement.application.service;
+
+import com.afadhitya.taskmanagement.application.port.out.admin.AdminPlanPersistencePort;
+import com.afadhitya.taskmanagement.application.port.out.auditlog.AuditLogPersistencePort;
+import com.afadhitya.taskmanagement.domain.feature.LimitType;
+import com.afadhitya.taskmanagement.infrastructure.config.AuditLogProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.OptionalInt;
+
+/**
+ * Keeps the monthly audit_logs partitions ahead of time and drops the ones every plan has outgrown.
+ * Partitions are shared by all workspaces, so only months older than the longest plan retention are
+ * dropped; shorter plans are clamped at read time instead.
+ */
+@Slf4j
+@Component
+public class AuditLogPartitionMaintenance {
+
+    private final AuditLogPersistencePort auditLogPersistencePort;
+    private final AdminPlanPersistencePort adminPlanPersistencePort;
+    private final AuditLogProperties auditLogProperties;
+    private final TransactionTemplate transactionTemplate;
+
+    public AuditLogPartitionMaintenance(AuditLogPersistencePort auditLogPersistencePort,
+                                        AdminPlanPersistencePort adminPlanPersistencePort,
+                                        AuditLogProperties auditLogProperties,
+                                        PlatformTransactionManager transactionManager) {
+        this.auditLogPersistencePort = auditLogPersistencePort;
+        this.adminPlanPersistencePort = adminPlanPersistencePort;
+        this.auditLogProperties = auditLogProperties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${audit-log.partition-maintenance-cron:0 15 3 * * *}")
+    public void maintain() {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                if (!auditLogPersistencePort.tryLockPartitionMaintenance()) {
+                    log.debug("Audit partition maintenance already running on another node");
+                    return;
+                }
+                createUpcomingPartitions();
+                dropExpiredPartitions();
+            });
+        } catch (Exception e) {
+            log.error("Audit partition maintenance failed", e);
+        }
+    }
+
+    private void createUpcomingPartitions() {
+        YearMonth current = YearMonth.now();
+        for (int i = 0; i <= auditLogProperties.getPartitionMonthsAhead(); i++) {
+            auditLogPersistencePort.createPartition(current.plusMonths(i));
+        }
+    }
+
+    private void dropExpiredPartitions() {
+        OptionalInt retentionDays = longestRetentionDays();
+        if (retentionDays.isEmpty()) {
+            return;
+        }
+        LocalDate cutoff = LocalDate.now().minusDays(retentionDays.getAsInt());
+        for (YearMonth month : auditLogPersistencePort.findPartitionMonths()) {
+            // Only whole months that ended before the cutoff
+            if (!month.plusMonths(1).atDay(1).isAfter(cutoff)) {
+                auditLogPersistencePort.dropPartition(month);
+                log.info("Dropped audit_logs partition for {} (retention {} days)", month, retentionDays.getAsInt());
+            }
+        }
+        int purged = auditLogPersistencePort.deleteDefaultPartitionRowsBefore(cutoff);
+        if (purged > 0) {
+            log.info("Deleted {} expired audit_logs rows from the default partition", purged);
+        }
+    }
+
+    /**
+     * The longest retention over all plans, or empty if any plan keeps history forever (or none is configured).
+     */
+    private OptionalInt longestRetentionDays() {
+        List<Integer> values = adminPlanPersistencePort.findLimitValues(LimitType.AUDIT_LOG_RETENTION_DAYS.getCode());
+        if (values.isEmpty() || values.stream().anyMatch(value -> value == null || value < 0)) {
+            return OptionalInt.empty();
+        }
+        return values.stream().mapToInt(Integer::intValue).max();
+    }
+}
@@ -0,0 +1,28 @@
+package com.afadhitya.taskmanagement.application.service;
+
+import com.afadhitya.taskmanagement.application.port.out.feature.FeatureTogglePort;
+import com.afadhitya.taskmanagement.domain.feature.LimitType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * Hides audit rows older than the workspace plan's retention. Partitions are only dropped once the
+ * longest retention has passed, so shorter plans rely on this, and it lets Postgres prune partitions.
+ */
+@Component
+@RequiredArgsConstructor
+public class AuditLogRetentionPolicy {
+
+    private final FeatureTogglePort featureTogglePort;
+
+    public LocalDateTime clampFrom(Long workspaceId, LocalDateTime from) {
+        int retentionDays = featureTogglePort.getLimit(workspaceId, LimitType.AUDIT_LOG_RETENTION_DAYS);
+        if (retentionDays <= 0) {
+            return from;
+        }
+        LocalDateTime earliest = LocalDateTime.now().minusDays(retentionDays);
+        return from == null || from.isBefore(earliest) ? earliest : from;
+    }
+}
@@ -1,19 +1,13 @@
 package com.afadhitya.taskmanagement.application.service;
 
-import com.afadhitya.taskmanagement.application.port.out.auditlog.AuditLogPersistencePort;
-import com.afadhitya.taskmanagement.application.port.out.user.UserPersistencePort;
-import com.afadhitya.taskmanagement.application.port.out.workspace.WorkspacePersistencePort;
-import com.afadhitya.taskmanagement.domain.entity.AuditLog;
-import com.afadhitya.taskmanagement.domain.entity.User;
-import com.afadhitya.taskmanagement.domain.entity.Workspace;
+import com.afadhitya.taskmanagement.application.event.AuditLogEvent;
 import com.afadhitya.taskmanagement.domain.enums.AuditAction;
 import com.afadhitya.taskmanagement.domain.enums.AuditEntityType;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Propagation;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.Map;
 
 @Service
@@ -21,11 +15,11 @@ import java.util.Map;
 @Slf4j
 public class AuditLogService {
 
-    private final AuditLogPersistencePort auditLogPersistencePort;
-    private final WorkspacePersistencePort workspacePersistencePort;
-    private final UserPersistencePort userPersistencePort;
+    private final AuditLogWriter auditLogWriter;
 
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    /**
+     * Queues an audit entry. The write happens asynchronously once the surrounding transaction commits.
+     */
     public void create(
             Long workspaceId,
             Long actorId,
@@ -33,27 +27,19 @@ public class AuditLogService {
             Long entityId,
             AuditAction action,
             Map<String, Object> diff) {
-        
-        log.debug("Creating audit log: workspaceId={}, entityType={}, action={}", 
-                workspaceId, entityType, action);
-
-        Workspace workspace = workspacePersistencePort.findById(workspaceId)
-                .orElseThrow(() -> new IllegalArgumentException("Workspace not found: " + workspaceId));
 
-        User actor = userPersistencePort.findById(actorId)
-                .orElseThrow(() -> new IllegalArgumentException("User not found: " + actorId));
+        log.debug("Queueing audit log: workspaceId={}, entityType={}, action={}",
+                workspaceId, entityType, action);
 
-        AuditLog auditLog = AuditLog.builder()
-                .workspace(workspace)
-                .actor(actor)
+        auditLogWriter.submit(AuditLogEvent.builder()
+                .workspaceId(workspaceId)
+                .actorId(actorId)
                 .entityType(entityType.name())
                 .entityId(entityId)
                 .action(action.name())
                 .diff(diff)
-                .build();
-
-        auditLogPersistencePort.save(auditLog);
-        log.debug("Audit log created successfully");
+                .createdAt(LocalDateTime.now())
+                .build());
     }
 
     public void createCreate(
@@ -0,0 +1,160 @@
+package com.afadhitya.taskmanagement.application.service;
+
+import com.afadhitya.taskmanagement.application.event.AuditLogEvent;
+import com.afadhitya.taskmanagement.application.port.out.auditlog.AuditLogPersistencePort;
+import com.afadhitya.taskmanagement.infrastructure.config.AuditLogProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writes audit events off the request path. Events are queued in memory and flushed in
+ * multi-row batches by a single writer thread. A queue slot is reserved before the audited
+ * transaction commits; when none is free the event goes to the outbox inside that transaction
+ * instead, so overflow costs one extra insert rather than a lost entry or a second connection.
+ */
+@Slf4j
+@Component
+public class AuditLogWriter {
+
+    private final AuditLogPersistencePort auditLogPersistencePort;
+    private final AuditLogProperties auditLogProperties;
+    private final BlockingQueue<AuditLogEvent> queue = new LinkedBlockingQueue<>();
+    private final Semaphore freeSlots;
+    private final Counter enqueued;
+    private final Counter outboxed;
+    private final Counter written;
+    private final Counter dropped;
+    private volatile boolean running;
+    private Thread writerThread;
+
+    public AuditLogWriter(AuditLogPersistencePort auditLogPersistencePort,
+                          AuditLogProperties auditLogProperties,
+                          MeterRegistry meterRegistry) {
+        this.auditLogPersistencePort = auditLogPersistencePort;
+        this.auditLogProperties = auditLogProperties;
+        this.freeSlots = new Semaphore(auditLogProperties.getQueueCapacity());
+        this.enqueued = counter(meterRegistry, "audit.log.enqueued", "Audit events accepted by the in-memory queue");
+        this.outboxed = counter(meterRegistry, "audit.log.outboxed", "Audit events diverted to the outbox table");
+        this.written = counter(meterRegistry, "audit.log.written", "Audit events inserted by the writer thread");
+        this.dropped = counter(meterRegistry, "audit.log.dropped", "Audit events that could not be stored anywhere");
+        meterRegistry.gauge("audit.log.queue.size", queue, BlockingQueue::size);
+    }
+
+    @PostConstruct
+    void start() {
+        running = true;
+        writerThread = new Thread(this::drainLoop, "audit-log-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        writerThread.join(TimeUnit.SECONDS.toMillis(10));
+    }
+
+    /**
+     * Accepts an event. Inside a transaction the event is only published once the transaction
+     * commits, and is discarded if it rolls back.
+     */
+    public void submit(AuditLogEvent event) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            if (freeSlots.tryAcquire()) {
+                enqueue(event);
+            } else {
+                saveToOutbox(event);
+            }
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            private boolean reserved;
+
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                reserved = freeSlots.tryAcquire();
+                if (!reserved) {
+                    saveToOutbox(event);
+                }
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (!reserved) {
+                    return;
+                }
+                if (status == STATUS_COMMITTED) {
+                    enqueue(event);
+                } else {
+                    freeSlots.release();
+                }
+            }
+        });
+    }
+
+    private void enqueue(AuditLogEvent event) {
+        queue.add(event);
+        enqueued.increment();
+    }
+
+    private void saveToOutbox(AuditLogEvent event) {
+        try {
+            auditLogPersistencePort.saveToOutbox(event);
+            outboxed.increment();
+        } catch (RuntimeException e) {
+            dropped.increment();
+            log.error("Dropping audit event for {} {}: outbox insert failed", event.getEntityType(), event.getEntityId(), e);
+        }
+    }
+
+    private void drainLoop() {
+        int batchSize = auditLogProperties.getBatchSize();
+        List<AuditLogEvent> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                AuditLogEvent first = queue.poll(auditLogProperties.getIdlePollMs(), TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                freeSlots.release(batch.size());
+                flush(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void flush(List<AuditLogEvent> batch) {
+        try {
+            auditLogPersistencePort.saveAll(batch);
+            written.increment(batch.size());
+        } catch (RuntimeException e) {
+            // One bad row fails the whole batch; park them all and let the relay sort them out
+            log.warn("Audit batch of {} failed, moving it to the outbox", batch.size(), e);
+            batch.forEach(this::saveToOutbox);
+        }
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String name, String description) {
+        return Counter.builder(name).description(description).register(meterRegistry);
+    }
+}
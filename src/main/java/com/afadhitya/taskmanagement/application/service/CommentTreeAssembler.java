@@ -0,0 +1,65 @@
+package com.afadhitya.taskmanagement.application.service;
+
+import com.afadhitya.taskmanagement.application.dto.response.CommentResponse;
+import com.afadhitya.taskmanagement.application.port.out.comment.CommentThreadRow;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Builds nested {@link CommentResponse} trees from flat thread rows in O(n):
+ * rows are grouped by parent once, then each row is visited exactly once.
+ */
+@Component
+public class CommentTreeAssembler {
+
+    private static final String DELETED_BODY = "[deleted]";
+
+    /**
+     * @param rows    thread rows, children in display order
+     * @param rootIds top-level comment ids in display order; ids without a row are skipped
+     */
+    public List<CommentResponse> assemble(List<CommentThreadRow> rows, List<Long> rootIds) {
+        Map<Long, CommentThreadRow> byId = new HashMap<>(rows.size() * 2);
+        Map<Long, List<CommentThreadRow>> childrenByParent = new HashMap<>();
+        for (CommentThreadRow row : rows) {
+            byId.put(row.id(), row);
+            if (row.depth() > 0) {
+                childrenByParent.computeIfAbsent(row.parentCommentId(), id -> new ArrayList<>()).add(row);
+            }
+        }
+
+        List<CommentResponse> roots = new ArrayList<>(rootIds.size());
+        for (Long rootId : rootIds) {
+            CommentThreadRow root = byId.get(rootId);
+            if (root != null) {
+                roots.add(toResponse(root, childrenByParent));
+            }
+        }
+        return roots;
+    }
+
+    private CommentResponse toResponse(CommentThreadRow row, Map<Long, List<CommentThreadRow>> childrenByParent) {
+        List<CommentThreadRow> children = childrenByParent.getOrDefault(row.id(), List.of());
+        List<CommentResponse> replies = new ArrayList<>(children.size());
+        for (CommentThreadRow child : children) {
+            replies.add(toResponse(child, childrenByParent));
+        }
+        return CommentResponse.builder()
+                .id(row.id())
+                .body(Boolean.TRUE.equals(row.isDeleted()) ? DELETED_BODY : row.body())
+                .isDeleted(row.isDeleted())
+                .taskId(row.taskId())
+                .authorId(row.authorId())
+                .authorName(row.authorName())
+                .parentCommentId(row.parentCommentId())
+                .replyCount(row.replyCount())
+                .replies(replies)
+                .createdAt(row.createdAt())
+                .updatedAt(row.updatedAt())
+                .build();
+    }
+}
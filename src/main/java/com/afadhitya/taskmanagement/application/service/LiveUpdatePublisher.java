@@ -0,0 +1,121 @@
+package com.afadhitya.taskmanagement.application.service;
+
+import com.afadhitya.taskmanagement.application.event.LiveEvent;
+import com.afadhitya.taskmanagement.application.port.out.live.LiveEventPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Pushes task, comment, job and notification changes to open event streams. Inside a
+ * transaction the event goes out only after commit, so clients never see a rolled-back change.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LiveUpdatePublisher {
+
+    public static final String TASK_CREATED = "task.created";
+    public static final String TASK_UPDATED = "task.updated";
+    public static final String TASK_DELETED = "task.deleted";
+    public static final String TASK_BULK_UPDATED = "task.bulk_updated";
+    public static final String COMMENT_CREATED = "comment.created";
+    public static final String COMMENT_UPDATED = "comment.updated";
+    public static final String COMMENT_DELETED = "comment.deleted";
+    public static final String JOB_PROGRESS = "job.progress";
+    public static final String NOTIFICATION_UNREAD_COUNT = "notification.unread_count";
+
+    private final LiveEventPort liveEventPort;
+
+    public void toProject(String name, Long workspaceId, Long projectId, Object data) {
+        publish(LiveEvent.builder()
+                .name(name)
+                .workspaceId(workspaceId)
+                .projectId(projectId)
+                .data(data)
+                .build());
+    }
+
+    public void toUser(String name, Long userId, Object data) {
+        publish(LiveEvent.builder()
+                .name(name)
+                .userId(userId)
+                .data(data)
+                .build());
+    }
+
+    /**
+     * One event per user, published as a single batch.
+     */
+    public void toUsers(String name, Map<Long, Object> dataByUser) {
+        if (dataByUser.isEmpty()) {
+            return;
+        }
+        List<LiveEvent> events = dataByUser.entrySet().stream()
+                .map(entry -> LiveEvent.builder()
+                        .name(name)
+                        .userId(entry.getKey())
+                        .data(entry.getValue())
+                        .build())
+                .toList();
+        afterCommit(() -> sendAll(events));
+    }
+
+    /**
+     * Streams are only authorized when opened, so they are closed once access is revoked.
+     */
+    public void revokeProjectStreams(Long userId, Long projectId) {
+        afterCommit(() -> disconnect(userId, null, projectId));
+    }
+
+    public void revokeWorkspaceStreams(Long userId, Long workspaceId) {
+        afterCommit(() -> disconnect(userId, workspaceId, null));
+    }
+
+    private void publish(LiveEvent event) {
+        afterCommit(() -> send(event));
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private void send(LiveEvent event) {
+        try {
+            liveEventPort.publish(event);
+        } catch (RuntimeException e) {
+            // Streams are best effort; clients resync with a normal read
+            log.warn("Failed to publish live event {}", event.getName(), e);
+        }
+    }
+
+    private void sendAll(List<LiveEvent> events) {
+        try {
+            liveEventPort.publishAll(events);
+        } catch (RuntimeException e) {
+            log.warn("Failed to publish {} live events", events.size(), e);
+        }
+    }
+
+    private void disconnect(Long userId, Long workspaceId, Long projectId) {
+        try {
+            liveEventPort.disconnect(userId, workspaceId, projectId);
+        } catch (RuntimeException e) {
+            log.warn("Failed to close live streams of user {}", userId, e);
+        }
+    }
+}
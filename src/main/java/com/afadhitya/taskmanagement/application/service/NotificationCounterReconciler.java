@@ -0,0 +1,61 @@
+package com.afadhitya.taskmanagement.application.service;
+
+import com.afadhitya.taskmanagement.application.port.out.notification.NotificationPersistencePort;
+import com.afadhitya.taskmanagement.infrastructure.config.NotificationProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * Corrects drift in the unread counters. Counters are walked in user id order, a batch per
+ * transaction; each batch is locked before it is recounted, so a fan-out or mark-read that
+ * commits in between is either already in the recount or applied on top of it afterwards.
+ */
+@Slf4j
+@Component
+public class NotificationCounterReconciler {
+
+    private final NotificationPersistencePort notificationPersistencePort;
+    private final NotificationProperties notificationProperties;
+    private final TransactionTemplate transactionTemplate;
+
+    public NotificationCounterReconciler(NotificationPersistencePort notificationPersistencePort,
+                                         NotificationProperties notificationProperties,
+                                         PlatformTransactionManager transactionManager) {
+        this.notificationPersistencePort = notificationPersistencePort;
+        this.notificationProperties = notificationProperties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Scheduled(cron = "${notification.counter-reconcile-cron:0 20 * * * *}")
+    public void reconcile() {
+        try {
+            int created = notificationPersistencePort.createMissingCounters();
+            int corrected = 0;
+            Long afterUserId = 0L;
+            while (afterUserId != null) {
+                Long from = afterUserId;
+                int[] fixed = new int[1];
+                afterUserId = transactionTemplate.execute(status -> {
+                    List<Long> userIds = notificationPersistencePort.lockCounters(
+                            from, notificationProperties.getCounterReconcileBatchSize());
+                    if (userIds.isEmpty()) {
+                        return null;
+                    }
+                    fixed[0] = notificationPersistencePort.reconcileUnreadCounts(userIds);
+                    return userIds.get(userIds.size() - 1);
+                });
+                corrected += fixed[0];
+            }
+            if (created > 0 || corrected > 0) {
+                log.info("Notification counters reconciled: {} created, {} corrected", created, corrected);
+            }
+        } catch (Exception e) {
+            log.error("Notification counter reconciliation failed", e);
+        }
+    }
+}
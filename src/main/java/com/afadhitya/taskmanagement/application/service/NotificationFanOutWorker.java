@@ -0,0 +1,85 @@
+package com.afadhitya.taskmanagement.application.service;
+
+import com.afadhitya.taskmanagement.application.port.out.notification.NotificationFanOutResult;
+import com.afadhitya.taskmanagement.application.port.out.notification.NotificationOutboxPort;
+import com.afadhitya.taskmanagement.infrastructure.config.NotificationProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Drains the notification outbox with a small pool of workers. Workers claim disjoint batches
+ * with {@code SKIP LOCKED}, so they can run side by side here and on other nodes, and an event
+ * left behind by a crash is simply claimed again on the next poll.
+ */
+@Slf4j
+@Component
+public class NotificationFanOutWorker {
+
+    private final NotificationOutboxPort notificationOutboxPort;
+    private final NotificationProperties notificationProperties;
+    private final LiveUpdatePublisher liveUpdatePublisher;
+    private final Executor notificationExecutor;
+    private final Semaphore idleWorkers;
+
+    public NotificationFanOutWorker(NotificationOutboxPort notificationOutboxPort,
+                                    NotificationProperties notificationProperties,
+                                    LiveUpdatePublisher liveUpdatePublisher,
+                                    @Qualifier("notificationExecutor") Executor notificationExecutor) {
+        this.notificationOutboxPort = notificationOutboxPort;
+        this.notificationProperties = notificationProperties;
+        this.liveUpdatePublisher = liveUpdatePublisher;
+        this.notificationExecutor = notificationExecutor;
+        this.idleWorkers = new Semaphore(notificationProperties.getWorkers());
+    }
+
+    @Scheduled(fixedDelayString = "${notification.poll-interval-ms:1000}")
+    public void poll() {
+        // One worker checks the outbox; more join only once it comes back with a full batch
+        startWorker();
+    }
+
+    private void startWorker() {
+        if (!idleWorkers.tryAcquire()) {
+            return;
+        }
+        try {
+            notificationExecutor.execute(this::drain);
+        } catch (RejectedExecutionException e) {
+            // A worker that just released its permit may not have returned its thread yet
+            idleWorkers.release();
+        }
+    }
+
+    private void drain() {
+        int batchSize = notificationProperties.getBatchSize();
+        try {
+            NotificationFanOutResult result;
+            do {
+                result = notificationOutboxPort.fanOut(batchSize);
+                if (result.events() > 0) {
+                    log.debug("Fanned out {} notification events into {} notifications",
+                            result.events(), result.notifications());
+                }
+                Map<Long, Object> unreadCounts = new HashMap<>();
+                result.unreadCounts().forEach((userId, unreadCount) ->
+                        unreadCounts.put(userId, Map.of("unreadCount", unreadCount)));
+                liveUpdatePublisher.toUsers(LiveUpdatePublisher.NOTIFICATION_UNREAD_COUNT, unreadCounts);
+                if (result.events() == batchSize) {
+                    startWorker();
+                }
+            } while (result.events() == batchSize);
+        } catch (Exception e) {
+            log.error("Failed to fan out notification outbox", e);
+        } finally {
+            idleWorkers.release();
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.afadhitya.taskmanagement.application.service;
+
+import com.afadhitya.taskmanagement.application.event.NotificationEvent;
+import com.afadhitya.taskmanagement.application.port.out.feature.FeatureTogglePort;
+import com.afadhitya.taskmanagement.application.port.out.notification.NotificationOutboxPort;
+import com.afadhitya.taskmanagement.domain.entity.Comment;
+import com.afadhitya.taskmanagement.domain.entity.Project;
+import com.afadhitya.taskmanagement.domain.entity.Task;
+import com.afadhitya.taskmanagement.domain.enums.NotificationAudience;
+import com.afadhitya.taskmanagement.domain.enums.NotificationType;
+import com.afadhitya.taskmanagement.domain.feature.Feature;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Raises notification events for task, comment and membership changes. Each event is one
+ * outbox row written in the caller's transaction; recipients are resolved later by
+ * {@link NotificationFanOutWorker}, so the request cost does not grow with project size.
+ */
+@Component
+@RequiredArgsConstructor
+public class NotificationPublisher {
+
+    private final NotificationOutboxPort notificationOutboxPort;
+    private final FeatureTogglePort featureToggle;
+
+    public void taskCreated(Task task, Long actorId) {
+        Long workspaceId = task.getProject().getWorkspace().getId();
+        if (!isEnabled(workspaceId)) {
+            return;
+        }
+
+        publish(taskEvent(NotificationType.TASK_CREATED, NotificationAudience.PROJECT_MEMBERS, task, workspaceId, actorId)
+                .build());
+        if (!task.getAssigneeIds().isEmpty()) {
+            publish(taskEvent(NotificationType.TASK_ASSIGNED, NotificationAudience.NAMED_USERS, task, workspaceId, actorId)
+                    .recipientIds(Set.copyOf(task.getAssigneeIds()))
+                    .build());
+        }
+    }
+
+    public void taskUpdated(Task task, Set<Long> previousAssigneeIds, Long actorId) {
+        Long workspaceId = task.getProject().getWorkspace().getId();
+        if (!isEnabled(workspaceId)) {
+            return;
+        }
+
+        publish(taskEvent(NotificationType.TASK_UPDATED, NotificationAudience.TASK_ASSIGNEES, task, workspaceId, actorId)
+                .build());
+        Set<Long> newAssignees = new HashSet<>(task.getAssigneeIds());
+        newAssignees.removeAll(previousAssigneeIds);
+        if (!newAssignees.isEmpty()) {
+            publish(taskEvent(NotificationType.TASK_ASSIGNED, NotificationAudience.NAMED_USERS, task, workspaceId, actorId)
+                    .recipientIds(newAssignees)
+                    .build());
+        }
+    }
+
+    /**
+     * Notifies the task's assignees and creator; a reply also reaches the parent comment's author.
+     */
+    public void commentAdded(Comment comment, Long actorId) {
+        Task task = comment.getTask();
+        Long workspaceId = task.getProject().getWorkspace().getId();
+        if (!isEnabled(workspaceId)) {
+            return;
+        }
+
+        Comment parent = comment.getParentComment();
+        NotificationEvent.NotificationEventBuilder event = taskEvent(
+                parent != null ? NotificationType.COMMENT_REPLY : NotificationType.COMMENT_ADDED,
+                NotificationAudience.TASK_PARTICIPANTS, task, workspaceId, actorId);
+        Map<String, Object> payload = taskPayload(task);
+        payload.put("commentId", comment.getId());
+        if (parent != null) {
+            payload.put("parentCommentId", parent.getId());
+            event.recipientIds(Set.of(parent.getAuthor().getId()));
+        }
+        publish(event.payload(payload).build());
+    }
+
+    public void projectMemberAdded(Project project, Long userId, Long actorId) {
+        Long workspaceId = project.getWorkspace().getId();
+        if (!isEnabled(workspaceId)) {
+            return;
+        }
+
+        publish(NotificationEvent.builder()
+                .type(NotificationType.PROJECT_MEMBER_ADDED)
+                .audience(NotificationAudience.NAMED_USERS)
+                .workspaceId(workspaceId)
+                .projectId(project.getId())
+                .actorId(actorId)
+                .recipientIds(Set.of(userId))
+                .payload(Map.of("projectId", project.getId(), "projectName", project.getName()))
+                .build());
+    }
+
+    public void workspaceMemberAdded(Long workspaceId, String workspaceName, Long userId, Long actorId) {
+        if (!isEnabled(workspaceId)) {
+            return;
+        }
+
+        publish(NotificationEvent.builder()
+                .type(NotificationType.WORKSPACE_MEMBER_ADDED)
+                .audience(NotificationAudience.NAMED_USERS)
+                .workspaceId(workspaceId)
+                .actorId(actorId)
+                .recipientIds(Set.of(userId))
+                .payload(Map.of("workspaceId", workspaceId, "workspaceName", workspaceName))
+                .build());
+    }
+
+    private boolean isEnabled(Long workspaceId) {
+        return featureToggle.getEntitlements(workspaceId).isEnabled(Feature.NOTIFICATIONS);
+    }
+
+    private void publish(NotificationEvent event) {
+        notificationOutboxPort.enqueue(event);
+    }
+
+    private static NotificationEvent.NotificationEventBuilder taskEvent(
+            NotificationType type, NotificationAudience audience, Task task, Long workspaceId, Long actorId) {
+        return NotificationEvent.builder()
+                .type(type)
+                .audience(audience)
+                .workspaceId(workspaceId)
+                .projectId(task.getProject().getId())
+                .taskId(task.getId())
+                .actorId(actorId)
+                .payload(taskPayload(task));
+    }
+
+    private static Map<String, Object> taskPayload(Task task) {
+        Map<String, Object> payload = new HashMap<>();
+        payload.put("taskId", task.getId());
+        payload.put("projectId", task.getProject().getId());
+        payload.put("title", task.getTitle());
+        return payload;
+    }
+}
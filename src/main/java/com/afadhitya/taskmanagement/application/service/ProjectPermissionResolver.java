@@ -0,0 +1,153 @@
+package com.afadhitya.taskmanagement.application.service;
+
+import com.afadhitya.taskmanagement.domain.enums.ProjectPermission;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Memoizes {@link ProjectPermission} decisions per (project, user, workspace argument).
+ * Decisions are kept for the current HTTP request and in the short-lived
+ * {@value #CACHE_NAME} cache shared across requests. Both group decisions by
+ * user, so an eviction only touches that user's entries. Membership changes must
+ * evict the affected entries; evictions are repeated after commit, and a load that
+ * overlaps an eviction is discarded, so a concurrent read cannot re-cache the
+ * pre-change decision.
+ * <p>
+ * Evictions are local to this node. Other nodes keep serving a revoked decision
+ * until their entry expires, which is at most the cache's expire-after-write
+ * (30 seconds by default).
+ */
+@Service
+@RequiredArgsConstructor
+public class ProjectPermissionResolver {
+
+    public static final String CACHE_NAME = "projectPermissions";
+
+    private static final String REQUEST_ATTRIBUTE = ProjectPermissionResolver.class.getName() + ".decisions";
+
+    private final CacheManager cacheManager;
+
+    /**
+     * @param workspaceId passed through to the loader unchanged; decisions made with and without it
+     *                    are kept apart since they can differ
+     */
+    public ProjectPermission resolve(Long projectId, Long userId, Long workspaceId, Supplier<ProjectPermission> loader) {
+        DecisionKey key = new DecisionKey(projectId, workspaceId);
+        Map<Long, Map<DecisionKey, Optional<ProjectPermission>>> requestDecisions = requestDecisions();
+        if (requestDecisions != null) {
+            Optional<ProjectPermission> decision = requestDecisions.getOrDefault(userId, Map.of()).get(key);
+            if (decision != null) {
+                return decision.orElse(null);
+            }
+        }
+
+        UserDecisions userDecisions = userDecisions(userId);
+        Optional<ProjectPermission> decision = userDecisions.decisions().get(key);
+        if (decision == null) {
+            long evictions = userDecisions.evictions().get();
+            // Loaded outside the map so the queries never run under its lock
+            decision = Optional.ofNullable(loader.get());
+            userDecisions.decisions().putIfAbsent(key, decision);
+            // An eviction that ran while loading may have missed this entry; the loaded value may predate it
+            if (userDecisions.evictions().get() != evictions) {
+                userDecisions.decisions().remove(key, decision);
+            }
+        }
+
+        if (requestDecisions != null) {
+            requestDecisions.computeIfAbsent(userId, id -> new HashMap<>()).put(key, decision);
+        }
+        return decision.orElse(null);
+    }
+
+    public void evict(Long projectId, Long userId) {
+        afterCommitToo(() -> {
+            UserDecisions userDecisions = cachedUserDecisions(userId);
+            if (userDecisions != null) {
+                userDecisions.evictions().incrementAndGet();
+                userDecisions.decisions().keySet().removeIf(key -> key.projectId().equals(projectId));
+            }
+            Map<Long, Map<DecisionKey, Optional<ProjectPermission>>> requestDecisions = requestDecisions();
+            if (requestDecisions != null && requestDecisions.containsKey(userId)) {
+                requestDecisions.get(userId).keySet().removeIf(key -> key.projectId().equals(projectId));
+            }
+        });
+    }
+
+    /**
+     * Evicts every project decision of a user, e.g. after a workspace role change.
+     */
+    public void evictUser(Long userId) {
+        afterCommitToo(() -> {
+            UserDecisions userDecisions = cachedUserDecisions(userId);
+            if (userDecisions != null) {
+                userDecisions.evictions().incrementAndGet();
+            }
+            cache().evict(userId);
+            Map<Long, Map<DecisionKey, Optional<ProjectPermission>>> requestDecisions = requestDecisions();
+            if (requestDecisions != null) {
+                requestDecisions.remove(userId);
+            }
+        });
+    }
+
+    private void afterCommitToo(Runnable eviction) {
+        eviction.run();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    eviction.run();
+                }
+            });
+        }
+    }
+
+    private UserDecisions userDecisions(Long userId) {
+        return cache().get(userId, () -> new UserDecisions(new ConcurrentHashMap<>(), new AtomicLong()));
+    }
+
+    private UserDecisions cachedUserDecisions(Long userId) {
+        return cache().get(userId, UserDecisions.class);
+    }
+
+    private Cache cache() {
+        return cacheManager.getCache(CACHE_NAME);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<Long, Map<DecisionKey, Optional<ProjectPermission>>> requestDecisions() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return null;
+        }
+        Object decisions = attributes.getAttribute(REQUEST_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (decisions == null) {
+            decisions = new HashMap<Long, Map<DecisionKey, Optional<ProjectPermission>>>();
+            attributes.setAttribute(REQUEST_ATTRIBUTE, decisions, RequestAttributes.SCOPE_REQUEST);
+        }
+        return (Map<Long, Map<DecisionKey, Optional<ProjectPermission>>>) decisions;
+    }
+
+    private record DecisionKey(Long projectId, Long workspaceId) {
+    }
+
+    /**
+     * One user's decisions, with a count of evictions so a load that overlaps one can tell.
+     */
+    private record UserDecisions(Map<DecisionKey, Optional<ProjectPermission>> decisions, AtomicLong evictions) {
+    }
+}
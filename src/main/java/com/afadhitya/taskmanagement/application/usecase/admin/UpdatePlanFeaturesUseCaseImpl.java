@@ -3,6 +3,7 @@ package com.afadhitya.taskmanagement.application.usecase.admin;
 import com.afadhitya.taskmanagement.application.dto.request.admin.UpdateFeaturesRequest;
 import com.afadhitya.taskmanagement.application.port.in.admin.UpdatePlanFeaturesUseCase;
 import com.afadhitya.taskmanagement.application.port.out.admin.AdminPlanPersistencePort;
+import com.afadhitya.taskmanagement.application.port.out.feature.FeatureTogglePort;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -12,6 +13,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class UpdatePlanFeaturesUseCaseImpl implements UpdatePlanFeaturesUseCase {
 
     private final AdminPlanPersistencePort adminPlanPersistencePort;
+    private final FeatureTogglePort featureTogglePort;
 
     @Override
     @Transactional
@@ -22,5 +24,6 @@ public class UpdatePlanFeaturesUseCaseImpl implements UpdatePlanFeaturesUseCase
                 throw new IllegalArgumentException("Feature not found: " + toggle.code());
             }
         }
+        featureTogglePort.invalidatePlan(planId);
     }
 }
@@ -7,6 +7,7 @@ import com.afadhitya.taskmanagement.application.port.in.comment.CreateCommentUse
 import com.afadhitya.taskmanagement.application.port.in.comment.DeleteCommentUseCase;
 import com.afadhitya.taskmanagement.application.port.in.comment.UpdateCommentUseCase;
 import com.afadhitya.taskmanagement.application.port.out.comment.CommentPersistencePort;
+import com.afadhitya.taskmanagement.application.port.out.task.TaskPersistencePort;
 import com.afadhitya.taskmanagement.application.service.AuditLogService;
 import com.afadhitya.taskmanagement.application.usecase.comment.CreateCommentUseCaseImpl;
 import com.afadhitya.taskmanagement.application.usecase.comment.DeleteCommentUseCaseImpl;
@@ -27,6 +28,7 @@ import java.util.Map;
 public class AuditedCommentUseCases {
 
     private final CommentPersistencePort commentPersistencePort;
+    private final TaskPersistencePort taskPersistencePort;
     private final AuditLogService auditLogService;
     private final AuditFeatureInterceptor auditInterceptor;
 
@@ -43,7 +45,7 @@ public class AuditedCommentUseCases {
             CommentResponse response = delegate.createComment(taskId, request, authorId);
 
             Comment comment = commentPersistencePort.findById(response.id()).orElseThrow();
-            Long workspaceId = comment.getTask().getProject().getWorkspace().getId();
+            Long workspaceId = workspaceIdOf(comment);
 
             if (!auditInterceptor.shouldAudit(workspaceId)) {
                 return response;
@@ -74,7 +76,7 @@ public class AuditedCommentUseCases {
             CommentResponse response = delegate.updateComment(commentId, request, currentUserId);
 
             Comment comment = commentPersistencePort.findById(response.id()).orElseThrow();
-            Long workspaceId = comment.getTask().getProject().getWorkspace().getId();
+            Long workspaceId = workspaceIdOf(comment);
 
             if (!auditInterceptor.shouldAudit(workspaceId)) {
                 return response;
@@ -105,7 +107,7 @@ public class AuditedCommentUseCases {
             Comment comment = commentPersistencePort.findById(commentId)
                     .orElseThrow(() -> new IllegalArgumentException("Comment not found with id: " + commentId));
 
-            Long workspaceId = comment.getTask().getProject().getWorkspace().getId();
+            Long workspaceId = workspaceIdOf(comment);
 
             if (auditInterceptor.shouldAudit(workspaceId)) {
                 auditInterceptor.auditDelete(
@@ -120,4 +122,8 @@ public class AuditedCommentUseCases {
             delegate.deleteComment(commentId, currentUserId);
         }
     }
+
+    private Long workspaceIdOf(Comment comment) {
+        return taskPersistencePort.findScopeById(comment.getTask().getId()).orElseThrow().workspaceId();
+    }
 }
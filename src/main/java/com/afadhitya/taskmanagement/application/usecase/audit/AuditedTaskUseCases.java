@@ -9,6 +9,7 @@ import com.afadhitya.taskmanagement.application.port.in.task.CreateTaskUseCase;
 import com.afadhitya.taskmanagement.application.port.in.task.DeleteTaskUseCase;
 import com.afadhitya.taskmanagement.application.port.in.task.UpdateTaskUseCase;
 import com.afadhitya.taskmanagement.application.port.out.task.TaskPersistencePort;
+import com.afadhitya.taskmanagement.application.port.out.task.TaskScope;
 import com.afadhitya.taskmanagement.application.service.AuditLogService;
 import com.afadhitya.taskmanagement.application.usecase.feature.AuditFeatureInterceptor;
 import com.afadhitya.taskmanagement.application.usecase.task.CreateSubtaskUseCaseImpl;
@@ -46,8 +47,7 @@ public class AuditedTaskUseCases {
         public TaskResponse createTask(CreateTaskRequest request, Long createdByUserId) {
             TaskResponse response = delegate.createTask(request, createdByUserId);
 
-            Task task = taskPersistencePort.findById(response.id()).orElseThrow();
-            Long workspaceId = task.getProject().getWorkspace().getId();
+            Long workspaceId = taskPersistencePort.findScopeById(response.id()).orElseThrow().workspaceId();
 
             if (!auditInterceptor.shouldAudit(workspaceId)) {
                 return response;
@@ -83,8 +83,7 @@ public class AuditedTaskUseCases {
         public TaskResponse createSubtask(Long parentTaskId, CreateSubtaskRequest request, Long createdByUserId) {
             TaskResponse response = delegate.createSubtask(parentTaskId, request, createdByUserId);
 
-            Task task = taskPersistencePort.findById(response.id()).orElseThrow();
-            Long workspaceId = task.getProject().getWorkspace().getId();
+            Long workspaceId = taskPersistencePort.findScopeById(response.id()).orElseThrow().workspaceId();
 
             if (!auditInterceptor.shouldAudit(workspaceId)) {
                 return response;
@@ -118,14 +117,15 @@ public class AuditedTaskUseCases {
         @Override
         @Transactional
         public TaskResponse updateTask(Long id, UpdateTaskRequest request) {
-            Task task = taskPersistencePort.findById(id)
+            TaskScope scope = taskPersistencePort.findScopeById(id)
                     .orElseThrow(() -> new IllegalArgumentException("Task not found with id: " + id));
 
-            Long workspaceId = task.getProject().getWorkspace().getId();
+            Long workspaceId = scope.workspaceId();
             boolean shouldAudit = auditInterceptor.shouldAudit(workspaceId);
 
             Map<String, Object> diff = new HashMap<>();
             if (shouldAudit) {
+                Task task = taskPersistencePort.findById(id).orElseThrow();
                 if (request.title() != null && !request.title().equals(task.getTitle())) {
                     diff.put("title", Map.of("old", task.getTitle(), "new", request.title()));
                 }
@@ -172,12 +172,13 @@ public class AuditedTaskUseCases {
         @Override
         @Transactional
         public void deleteTask(Long id) {
-            Task task = taskPersistencePort.findById(id)
+            TaskScope scope = taskPersistencePort.findScopeById(id)
                     .orElseThrow(() -> new IllegalArgumentException("Task not found with id: " + id));
 
-            Long workspaceId = task.getProject().getWorkspace().getId();
+            Long workspaceId = scope.workspaceId();
 
             if (auditInterceptor.shouldAudit(workspaceId)) {
+                Task task = taskPersistencePort.findById(id).orElseThrow();
                 auditInterceptor.auditDelete(
                         workspaceId,
                         SecurityUtils.getCurrentUserId(),
@@ -186,7 +187,7 @@ public class AuditedTaskUseCases {
                         Map.of(
                                 "title", task.getTitle(),
                                 "status", task.getStatus().name(),
-                                "projectId", task.getProject().getId()
+                                "projectId", scope.projectId()
                         )
                 );
             }
@@ -1,9 +1,13 @@
 package com.afadhitya.taskmanagement.application.usecase.auditlog;
 
+import com.afadhitya.taskmanagement.application.dto.request.AuditLogFilterRequest;
 import com.afadhitya.taskmanagement.application.dto.response.AuditLogResponse;
+import com.afadhitya.taskmanagement.application.dto.response.CursorPagedResponse;
 import com.afadhitya.taskmanagement.application.mapper.AuditLogMapper;
 import com.afadhitya.taskmanagement.application.port.in.auditlog.ListAuditLogsUseCase;
+import com.afadhitya.taskmanagement.application.port.out.auditlog.AuditLogCursor;
 import com.afadhitya.taskmanagement.application.port.out.auditlog.AuditLogPersistencePort;
+import com.afadhitya.taskmanagement.application.service.AuditLogRetentionPolicy;
 import com.afadhitya.taskmanagement.domain.entity.AuditLog;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -12,14 +16,18 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class ListAuditLogsUseCaseImpl implements ListAuditLogsUseCase {
 
+    private static final int MAX_CURSOR_PAGE_SIZE = 500;
+
     private final AuditLogPersistencePort auditLogPersistencePort;
     private final AuditLogMapper auditLogMapper;
+    private final AuditLogRetentionPolicy auditLogRetentionPolicy;
 
     @Override
     public Page<AuditLogResponse> listAuditLogs(
@@ -30,7 +38,38 @@ public class ListAuditLogsUseCaseImpl implements ListAuditLogsUseCase {
             LocalDateTime to,
             Pageable pageable) {
         Page<AuditLog> auditLogs = auditLogPersistencePort.findByWorkspaceIdWithFilters(
-                workspaceId, entityType, action, from, to, pageable);
+                workspaceId, entityType, action, auditLogRetentionPolicy.clampFrom(workspaceId, from), to, pageable);
         return auditLogs.map(auditLogMapper::toResponse);
     }
+
+    @Override
+    public CursorPagedResponse<AuditLogResponse> listAuditLogsAfter(
+            Long workspaceId,
+            AuditLogFilterRequest filter,
+            String cursor,
+            int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_CURSOR_PAGE_SIZE);
+        String scope = AuditLogCursor.workspaceScope(workspaceId);
+        AuditLogCursor after = cursor == null || cursor.isBlank() ? null : AuditLogCursor.decode(cursor, scope);
+        AuditLogFilterRequest clamped = filter.toBuilder()
+                .from(auditLogRetentionPolicy.clampFrom(workspaceId, filter.from()))
+                .build();
+
+        List<AuditLog> auditLogs = auditLogPersistencePort.findByWorkspaceIdAfter(workspaceId, clamped, after, pageSize + 1);
+        boolean hasNext = auditLogs.size() > pageSize;
+        List<AuditLog> page = hasNext ? auditLogs.subList(0, pageSize) : auditLogs;
+
+        String nextCursor = null;
+        if (hasNext) {
+            AuditLog last = page.get(page.size() - 1);
+            nextCursor = new AuditLogCursor(last.getCreatedAt(), last.getId()).encode(scope);
+        }
+
+        return CursorPagedResponse.<AuditLogResponse>builder()
+                .content(page.stream().map(auditLogMapper::toResponse).toList())
+                .size(pageSize)
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
+    }
 }
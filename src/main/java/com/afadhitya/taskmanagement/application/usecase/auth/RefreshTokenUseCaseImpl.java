@@ -6,6 +6,7 @@ import com.afadhitya.taskmanagement.application.port.in.auth.RefreshTokenUseCase
 import com.afadhitya.taskmanagement.application.port.out.auth.UserAuthPersistencePort;
 import com.afadhitya.taskmanagement.domain.entity.User;
 import com.afadhitya.taskmanagement.infrastructure.security.JwtService;
+import com.afadhitya.taskmanagement.infrastructure.security.VerifiedToken;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -22,18 +23,16 @@ public class RefreshTokenUseCaseImpl implements RefreshTokenUseCase {
     public AuthResponse refreshToken(RefreshTokenRequest request) {
         String refreshToken = request.refreshToken();
 
-        // Validate token format and signature
-        if (!jwtService.isTokenValid(refreshToken)) {
-            throw new IllegalArgumentException("Invalid refresh token");
-        }
+        // Validate token format, signature and expiry
+        VerifiedToken token = jwtService.verify(refreshToken)
+                .orElseThrow(() -> new IllegalArgumentException("Invalid refresh token"));
 
         // Ensure it's a refresh token, not access token
-        if (!jwtService.isRefreshToken(refreshToken)) {
+        if (!token.isRefreshToken()) {
             throw new IllegalArgumentException("Invalid token type");
         }
 
-        // Extract user ID from token
-        Long userId = jwtService.extractUserId(refreshToken);
+        Long userId = token.userId();
 
         // Find user and verify refresh token matches
         User user = userAuthPersistencePort.findById(userId)
@@ -0,0 +1,97 @@
+package com.afadhitya.taskmanagement.application.usecase.bulkjob;
+
+import com.afadhitya.taskmanagement.application.port.out.bulkjob.BulkJobPersistencePort;
+import com.afadhitya.taskmanagement.infrastructure.config.BulkJobProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Drains the durable bulk job queue. Each poll claims at most as many jobs as there are
+ * idle workers, using {@code FOR UPDATE SKIP LOCKED} so several nodes can poll concurrently.
+ */
+@Slf4j
+@Component
+public class BulkJobPoller {
+
+    private final BulkJobPersistencePort bulkJobPersistencePort;
+    private final BulkJobProcessor bulkJobProcessor;
+    private final BulkJobProperties bulkJobProperties;
+    private final Executor bulkJobExecutor;
+    private final Semaphore idleWorkers;
+    private final String workerId;
+
+    public BulkJobPoller(BulkJobPersistencePort bulkJobPersistencePort,
+                         BulkJobProcessor bulkJobProcessor,
+                         BulkJobProperties bulkJobProperties,
+                         @Qualifier("bulkJobExecutor") Executor bulkJobExecutor) {
+        this.bulkJobPersistencePort = bulkJobPersistencePort;
+        this.bulkJobProcessor = bulkJobProcessor;
+        this.bulkJobProperties = bulkJobProperties;
+        this.bulkJobExecutor = bulkJobExecutor;
+        this.idleWorkers = new Semaphore(bulkJobProperties.getWorkers());
+        this.workerId = resolveHostName() + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    @Scheduled(fixedDelayString = "${bulk-job.poll-interval-ms:2000}")
+    public void poll() {
+        int available = idleWorkers.drainPermits();
+        if (available == 0) {
+            return;
+        }
+
+        List<String> jobIds;
+        try {
+            LocalDateTime staleBefore = LocalDateTime.now().minusSeconds(bulkJobProperties.getStaleAfterSeconds());
+            jobIds = bulkJobPersistencePort.claimJobs(workerId, available, staleBefore);
+        } catch (Exception e) {
+            idleWorkers.release(available);
+            log.error("Failed to claim bulk jobs", e);
+            return;
+        }
+
+        idleWorkers.release(available - jobIds.size());
+        for (String jobId : jobIds) {
+            dispatch(jobId);
+        }
+    }
+
+    private void dispatch(String jobId) {
+        try {
+            bulkJobExecutor.execute(() -> {
+                try {
+                    bulkJobProcessor.processJob(jobId, workerId);
+                } finally {
+                    idleWorkers.release();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // A previous task can hold its pool thread for a moment after releasing its permit.
+            // Hand the job back so the next poll, here or on another node, picks it up.
+            idleWorkers.release();
+            log.warn("Bulk job executor rejected job {}, returning it to the queue", jobId);
+            try {
+                bulkJobPersistencePort.release(jobId, workerId);
+            } catch (Exception releaseError) {
+                log.error("Failed to release bulk job {}; it will be reclaimed once stale", jobId, releaseError);
+            }
+        }
+    }
+
+    private static String resolveHostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            return "unknown-host";
+        }
+    }
+}
@@ -1,18 +1,19 @@
 package com.afadhitya.taskmanagement.application.usecase.bulkjob;
 
 import com.afadhitya.taskmanagement.application.dto.request.BulkUpdateTasksRequest;
+import com.afadhitya.taskmanagement.application.mapper.BulkJobMapper;
 import com.afadhitya.taskmanagement.application.port.out.bulkjob.BulkJobPersistencePort;
-import com.afadhitya.taskmanagement.application.port.out.task.TaskPersistencePort;
+import com.afadhitya.taskmanagement.application.service.LiveUpdatePublisher;
 import com.afadhitya.taskmanagement.domain.entity.BulkJob;
-import com.afadhitya.taskmanagement.domain.entity.Task;
 import com.afadhitya.taskmanagement.domain.enums.JobStatus;
+import com.afadhitya.taskmanagement.domain.exception.JobOwnershipLostException;
+import com.afadhitya.taskmanagement.infrastructure.config.BulkJobProperties;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
-import java.util.Set;
+import java.util.List;
 
 @Slf4j
 @Component
@@ -20,74 +21,101 @@ import java.util.Set;
 public class BulkJobProcessor {
 
     private final BulkJobPersistencePort bulkJobPersistencePort;
-    private final TaskPersistencePort taskPersistencePort;
-
-    @Transactional
-    public void processBulkUpdateTasks(String jobId, BulkUpdateTasksRequest request) {
-        log.info("Starting bulk update job: {} for {} tasks", jobId, request.taskIds().size());
-
+    private final BulkTaskChunkWriter bulkTaskChunkWriter;
+    private final BulkJobMapper bulkJobMapper;
+    private final BulkJobProperties bulkJobProperties;
+    private final LiveUpdatePublisher liveUpdatePublisher;
+
+    /**
+     * Runs a job previously claimed by {@code workerId}. A job that was abandoned mid-way
+     * resumes after the last checkpointed chunk: task IDs are processed in ascending order and
+     * {@code processedItems + failedItems} is the number of IDs already handled.
+     */
+    public void processJob(String jobId, String workerId) {
         BulkJob job = bulkJobPersistencePort.findById(jobId)
                 .orElseThrow(() -> new IllegalArgumentException("Job not found: " + jobId));
 
-        try {
-            job.setStatus(JobStatus.PROCESSING);
-            bulkJobPersistencePort.save(job);
-
-            int processed = 0;
-            int failed = 0;
+        if (job.getStatus() != JobStatus.PROCESSING || !workerId.equals(job.getLockedBy())) {
+            log.info("Skipping bulk job {} - no longer owned by worker {}", jobId, workerId);
+            return;
+        }
 
-            for (Long taskId : request.taskIds()) {
-                try {
-                    Task task = taskPersistencePort.findById(taskId).orElse(null);
-                    if (task == null) {
-                        failed++;
-                        continue;
-                    }
+        try {
+            if (job.getAttempts() > bulkJobProperties.getMaxAttempts()) {
+                throw new IllegalStateException("Job exceeded maximum attempts: " + bulkJobProperties.getMaxAttempts());
+            }
+            if (job.getPayload() == null) {
+                throw new IllegalStateException("Job has no payload");
+            }
 
-                    if (request.status() != null) {
-                        task.setStatus(request.status());
-                    }
-                    if (request.priority() != null) {
-                        task.setPriority(request.priority());
-                    }
-                    if (request.assigneeIds() != null) {
-                        if (Boolean.TRUE.equals(request.replaceAssignees())) {
-                            task.getAssigneeIds().clear();
-                            task.getAssigneeIds().addAll(request.assigneeIds());
-                        } else {
-                            task.getAssigneeIds().addAll(request.assigneeIds());
-                        }
-                    }
+            BulkUpdateTasksRequest request = bulkJobMapper.toBulkUpdateTasksRequest(job.getPayload());
+            List<Long> taskIds = request.taskIds().stream().sorted().toList();
+            int chunkSize = Math.max(1, bulkJobProperties.getChunkSize());
 
-                    taskPersistencePort.save(task);
-                    processed++;
+            int processed = job.getProcessedItems();
+            int failed = job.getFailedItems();
+            int offset = Math.min(processed + failed, taskIds.size());
 
-                    // Update progress periodically
-                    if (processed % 10 == 0) {
-                        job.setProcessedItems(processed);
-                        job.setFailedItems(failed);
-                        bulkJobPersistencePort.save(job);
-                    }
+            log.info("Starting bulk update job: {} for {} tasks (resuming at {})", jobId, taskIds.size(), offset);
 
+            for (int from = offset; from < taskIds.size(); from += chunkSize) {
+                List<Long> chunk = taskIds.subList(from, Math.min(from + chunkSize, taskIds.size()));
+                try {
+                    int updated = bulkTaskChunkWriter.applyChunk(jobId, workerId, chunk, request, processed, failed);
+                    processed += updated;
+                    failed += chunk.size() - updated;
+                } catch (JobOwnershipLostException e) {
+                    throw e;
                 } catch (Exception e) {
-                    log.error("Error processing task {} in job {}", taskId, jobId, e);
-                    failed++;
+                    log.error("Error processing chunk of {} tasks starting at {} in job {}", chunk.size(), from, jobId, e);
+                    failed += chunk.size();
+                    if (!bulkJobPersistencePort.updateProgress(jobId, workerId, processed, failed)) {
+                        throw new JobOwnershipLostException("Bulk job " + jobId + " is no longer owned by worker " + workerId);
+                    }
                 }
+                job.setProcessedItems(processed);
+                job.setFailedItems(failed);
+                publishProgress(job);
             }
 
-            job.setStatus(JobStatus.COMPLETED);
             job.setProcessedItems(processed);
             job.setFailedItems(failed);
-            job.setCompletedAt(LocalDateTime.now());
-            bulkJobPersistencePort.save(job);
-
-            log.info("Completed bulk update job: {} - Processed: {}, Failed: {}", jobId, processed, failed);
+            if (finish(job, workerId, JobStatus.COMPLETED, null)) {
+                log.info("Completed bulk update job: {} - Processed: {}, Failed: {}", jobId, processed, failed);
+            }
 
+        } catch (JobOwnershipLostException e) {
+            log.warn("Stopping bulk job {} - {}", jobId, e.getMessage());
         } catch (Exception e) {
             log.error("Error processing bulk job: {}", jobId, e);
-            job.setStatus(JobStatus.FAILED);
-            job.setErrorMessage(e.getMessage());
-            bulkJobPersistencePort.save(job);
+            finish(job, workerId, JobStatus.FAILED, e.getMessage());
+        }
+    }
+
+    /**
+     * Writes the terminal state only while {@code workerId} still holds the lock, so a worker
+     * that stalled past the stale timeout cannot overwrite the job's new owner.
+     */
+    private boolean finish(BulkJob job, String workerId, JobStatus status, String errorMessage) {
+        if (!bulkJobPersistencePort.finish(job.getId(), workerId, status, job.getProcessedItems(),
+                job.getFailedItems(), errorMessage)) {
+            log.warn("Not finishing bulk job {} - no longer owned by worker {}", job.getId(), workerId);
+            return false;
+        }
+        job.setStatus(status);
+        job.setErrorMessage(errorMessage);
+        job.setLockedBy(null);
+        job.setCompletedAt(LocalDateTime.now());
+        publishProgress(job);
+        return true;
+    }
+
+    /**
+     * Pushes the job's current state to its creator's open streams, replacing status polling.
+     */
+    private void publishProgress(BulkJob job) {
+        if (job.getCreatedBy() != null) {
+            liveUpdatePublisher.toUser(LiveUpdatePublisher.JOB_PROGRESS, job.getCreatedBy().getId(), bulkJobMapper.toResponse(job));
         }
     }
 }
@@ -0,0 +1,79 @@
+package com.afadhitya.taskmanagement.application.usecase.bulkjob;
+
+import com.afadhitya.taskmanagement.application.dto.request.BulkUpdateTasksRequest;
+import com.afadhitya.taskmanagement.application.event.TasksBulkUpdatedEvent;
+import com.afadhitya.taskmanagement.application.port.out.bulkjob.BulkJobPersistencePort;
+import com.afadhitya.taskmanagement.application.port.out.task.TaskPersistencePort;
+import com.afadhitya.taskmanagement.application.port.out.task.TaskScope;
+import com.afadhitya.taskmanagement.application.service.LiveUpdatePublisher;
+import com.afadhitya.taskmanagement.domain.exception.JobOwnershipLostException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Applies one chunk of a bulk update with set-based statements and checkpoints
+ * the job progress in the same transaction, so a chunk is either fully applied
+ * and counted or not at all. Open project streams get one event per applied chunk.
+ */
+@Component
+@RequiredArgsConstructor
+public class BulkTaskChunkWriter {
+
+    private final TaskPersistencePort taskPersistencePort;
+    private final BulkJobPersistencePort bulkJobPersistencePort;
+    private final LiveUpdatePublisher liveUpdatePublisher;
+
+    /**
+     * @return the number of tasks in the chunk that exist and were updated
+     * @throws JobOwnershipLostException if {@code workerId} no longer owns the job; the chunk is rolled back
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public int applyChunk(String jobId, String workerId, List<Long> taskIds, BulkUpdateTasksRequest request,
+                          int processedSoFar, int failedSoFar) {
+        List<TaskScope> existing = taskPersistencePort.findScopesByIds(taskIds);
+        List<Long> existingIds = existing.stream().map(TaskScope::taskId).toList();
+
+        if (!existingIds.isEmpty()) {
+            if (request.status() != null) {
+                taskPersistencePort.updateStatus(existingIds, request.status());
+            }
+            if (request.priority() != null) {
+                taskPersistencePort.updatePriority(existingIds, request.priority());
+            }
+            if (request.assigneeIds() != null) {
+                if (Boolean.TRUE.equals(request.replaceAssignees())) {
+                    taskPersistencePort.removeAllAssignees(existingIds);
+                }
+                if (!request.assigneeIds().isEmpty()) {
+                    taskPersistencePort.addAssignees(existingIds, request.assigneeIds());
+                }
+            }
+        }
+
+        int missing = taskIds.size() - existingIds.size();
+        if (!bulkJobPersistencePort.updateProgress(jobId, workerId, processedSoFar + existingIds.size(), failedSoFar + missing)) {
+            throw new JobOwnershipLostException("Bulk job " + jobId + " is no longer owned by worker " + workerId);
+        }
+        publishUpdated(jobId, existing);
+        return existingIds.size();
+    }
+
+    /**
+     * Sent after the chunk commits; a job's tasks normally all belong to one project.
+     */
+    private void publishUpdated(String jobId, List<TaskScope> updated) {
+        Map<Long, List<TaskScope>> byProject = updated.stream()
+                .collect(Collectors.groupingBy(TaskScope::projectId));
+        byProject.forEach((projectId, scopes) -> liveUpdatePublisher.toProject(
+                LiveUpdatePublisher.TASK_BULK_UPDATED,
+                scopes.get(0).workspaceId(),
+                projectId,
+                new TasksBulkUpdatedEvent(jobId, scopes.stream().map(TaskScope::taskId).toList())));
+    }
+}
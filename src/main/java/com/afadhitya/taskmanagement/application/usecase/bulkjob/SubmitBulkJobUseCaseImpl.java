@@ -7,11 +7,13 @@ import com.afadhitya.taskmanagement.application.mapper.BulkJobMapper;
 import com.afadhitya.taskmanagement.application.port.in.bulkjob.SubmitBulkJobUseCase;
 import com.afadhitya.taskmanagement.application.port.out.bulkjob.BulkJobPersistencePort;
 import com.afadhitya.taskmanagement.application.port.out.task.TaskPersistencePort;
+import com.afadhitya.taskmanagement.application.port.out.task.TaskScope;
 import com.afadhitya.taskmanagement.application.port.out.user.UserPersistencePort;
 import com.afadhitya.taskmanagement.domain.entity.BulkJob;
-import com.afadhitya.taskmanagement.domain.entity.Task;
 import com.afadhitya.taskmanagement.domain.entity.User;
 import com.afadhitya.taskmanagement.domain.enums.JobStatus;
+import com.afadhitya.taskmanagement.domain.exception.TooManyActiveJobsException;
+import com.afadhitya.taskmanagement.infrastructure.config.BulkJobProperties;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
@@ -31,12 +33,19 @@ public class SubmitBulkJobUseCaseImpl implements SubmitBulkJobUseCase {
     private final TaskPersistencePort taskPersistencePort;
     private final ApplicationEventPublisher eventPublisher;
     private final BulkJobMapper bulkJobMapper;
+    private final BulkJobProperties bulkJobProperties;
 
     @Override
     public BulkJobResponse submitBulkUpdateTasks(Long projectId, BulkUpdateTasksRequest request, Long createdByUserId) {
         User createdBy = userPersistencePort.findById(createdByUserId)
                 .orElseThrow(() -> new IllegalArgumentException("User not found with id: " + createdByUserId));
 
+        // The in-flight cap only bounds submit requests; this bounds the queued work itself
+        long activeJobs = bulkJobPersistencePort.countActiveByCreatedBy(createdByUserId);
+        if (activeJobs >= bulkJobProperties.getMaxActivePerUser()) {
+            throw new TooManyActiveJobsException(activeJobs, bulkJobProperties.getMaxActivePerUser());
+        }
+
         // Validate all tasks belong to the same project
         validateTasksBelongToProject(projectId, request.taskIds());
 
@@ -44,15 +53,15 @@ public class SubmitBulkJobUseCaseImpl implements SubmitBulkJobUseCase {
                 .status(JobStatus.PENDING)
                 .totalItems(request.taskIds().size())
                 .jobType("BULK_UPDATE_TASKS")
+                .payload(bulkJobMapper.toPayload(request))
                 .createdBy(createdBy)
                 .build();
 
         BulkJob savedJob = bulkJobPersistencePort.save(bulkJob);
 
-        // Publish event - will trigger after transaction commits
+        // Wake the queue poller once the job is committed
         BulkJobSubmittedEvent event = BulkJobSubmittedEvent.builder()
                 .jobId(savedJob.getId())
-                .request(request)
                 .build();
         eventPublisher.publishEvent(event);
 
@@ -60,12 +69,12 @@ public class SubmitBulkJobUseCaseImpl implements SubmitBulkJobUseCase {
     }
 
     private void validateTasksBelongToProject(Long projectId, Set<Long> taskIds) {
-        // Bulk fetch all tasks in single query
-        List<Task> tasks = taskPersistencePort.findAllById(taskIds);
+        // Bulk fetch all task scopes in single query
+        List<TaskScope> taskScopes = taskPersistencePort.findScopesByIds(taskIds);
 
         // Check if any task IDs were not found
-        Set<Long> foundTaskIds = tasks.stream()
-                .map(Task::getId)
+        Set<Long> foundTaskIds = taskScopes.stream()
+                .map(TaskScope::taskId)
                 .collect(Collectors.toSet());
 
         Set<Long> notFoundIds = taskIds.stream()
@@ -77,10 +86,10 @@ public class SubmitBulkJobUseCaseImpl implements SubmitBulkJobUseCase {
         }
 
         // Validate all tasks belong to the specified project
-        for (Task task : tasks) {
-            if (!task.getProject().getId().equals(projectId)) {
+        for (TaskScope taskScope : taskScopes) {
+            if (!taskScope.projectId().equals(projectId)) {
                 throw new IllegalArgumentException(
-                        "Task " + task.getId() + " does not belong to project " + projectId + ". " +
+                        "Task " + taskScope.taskId() + " does not belong to project " + projectId + ". " +
                         "All tasks in bulk update must belong to the same project.");
             }
         }
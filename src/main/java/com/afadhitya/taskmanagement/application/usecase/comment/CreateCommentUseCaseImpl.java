@@ -7,6 +7,8 @@ import com.afadhitya.taskmanagement.application.port.in.comment.CreateCommentUse
 import com.afadhitya.taskmanagement.application.port.out.comment.CommentPersistencePort;
 import com.afadhitya.taskmanagement.application.port.out.task.TaskPersistencePort;
 import com.afadhitya.taskmanagement.application.port.out.user.UserPersistencePort;
+import com.afadhitya.taskmanagement.application.service.LiveUpdatePublisher;
+import com.afadhitya.taskmanagement.application.service.NotificationPublisher;
 import com.afadhitya.taskmanagement.domain.entity.Comment;
 import com.afadhitya.taskmanagement.domain.entity.Task;
 import com.afadhitya.taskmanagement.domain.entity.User;
@@ -23,11 +25,15 @@ public class CreateCommentUseCaseImpl implements CreateCommentUseCase {
     private final TaskPersistencePort taskPersistencePort;
     private final UserPersistencePort userPersistencePort;
     private final CommentMapper commentMapper;
+    private final NotificationPublisher notificationPublisher;
+    private final LiveUpdatePublisher liveUpdatePublisher;
 
     @Override
     public CommentResponse createComment(Long taskId, CreateCommentRequest request, Long authorId) {
-        Task task = taskPersistencePort.findById(taskId)
-                .orElseThrow(() -> new IllegalArgumentException("Task not found with id: " + taskId));
+        if (!taskPersistencePort.existsById(taskId)) {
+            throw new IllegalArgumentException("Task not found with id: " + taskId);
+        }
+        Task task = taskPersistencePort.getReferenceById(taskId);
 
         User author = userPersistencePort.findById(authorId)
                 .orElseThrow(() -> new IllegalArgumentException("User not found with id: " + authorId));
@@ -49,7 +55,14 @@ public class CreateCommentUseCaseImpl implements CreateCommentUseCase {
 
         Comment comment = commentBuilder.build();
         Comment savedComment = commentPersistencePort.save(comment);
+        if (request.parentCommentId() != null) {
+            commentPersistencePort.incrementReplyCount(request.parentCommentId());
+        }
+        notificationPublisher.commentAdded(savedComment, authorId);
 
-        return commentMapper.toResponse(savedComment);
+        CommentResponse response = commentMapper.toResponse(savedComment);
+        liveUpdatePublisher.toProject(LiveUpdatePublisher.COMMENT_CREATED,
+                task.getProject().getWorkspace().getId(), task.getProject().getId(), response);
+        return response;
     }
 }
@@ -2,17 +2,22 @@ package com.afadhitya.taskmanagement.application.usecase.comment;
 
 import com.afadhitya.taskmanagement.application.port.in.comment.DeleteCommentUseCase;
 import com.afadhitya.taskmanagement.application.port.out.comment.CommentPersistencePort;
+import com.afadhitya.taskmanagement.application.service.LiveUpdatePublisher;
 import com.afadhitya.taskmanagement.domain.entity.Comment;
+import com.afadhitya.taskmanagement.domain.entity.Project;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Map;
+
 @Service
 @RequiredArgsConstructor
 @Transactional
 public class DeleteCommentUseCaseImpl implements DeleteCommentUseCase {
 
     private final CommentPersistencePort commentPersistencePort;
+    private final LiveUpdatePublisher liveUpdatePublisher;
 
     @Override
     public void deleteComment(Long commentId, Long currentUserId) {
@@ -21,5 +26,9 @@ public class DeleteCommentUseCaseImpl implements DeleteCommentUseCase {
 
         comment.setIsDeleted(true);
         commentPersistencePort.save(comment);
+
+        Project project = comment.getTask().getProject();
+        liveUpdatePublisher.toProject(LiveUpdatePublisher.COMMENT_DELETED, project.getWorkspace().getId(), project.getId(),
+                Map.of("id", commentId, "taskId", comment.getTask().getId()));
     }
 }
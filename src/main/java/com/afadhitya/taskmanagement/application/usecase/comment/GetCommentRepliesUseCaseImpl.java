@@ -0,0 +1,49 @@
+package com.afadhitya.taskmanagement.application.usecase.comment;
+
+import com.afadhitya.taskmanagement.application.dto.response.CommentResponse;
+import com.afadhitya.taskmanagement.application.dto.response.CursorPagedResponse;
+import com.afadhitya.taskmanagement.application.port.in.comment.GetCommentRepliesUseCase;
+import com.afadhitya.taskmanagement.application.port.out.comment.CommentCursor;
+import com.afadhitya.taskmanagement.application.port.out.comment.CommentPersistencePort;
+import com.afadhitya.taskmanagement.application.port.out.comment.CommentThreadRow;
+import com.afadhitya.taskmanagement.application.service.CommentTreeAssembler;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class GetCommentRepliesUseCaseImpl implements GetCommentRepliesUseCase {
+
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final CommentPersistencePort commentPersistencePort;
+    private final CommentTreeAssembler commentTreeAssembler;
+
+    @Override
+    public CursorPagedResponse<CommentResponse> getReplies(Long commentId, String cursor, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        String scope = CommentCursor.repliesScope(commentId);
+        CommentCursor after = cursor == null || cursor.isBlank() ? null : CommentCursor.decode(cursor, scope);
+
+        List<CommentThreadRow> replies = commentPersistencePort.findRepliesAfter(commentId, after, pageSize + 1);
+        boolean hasNext = replies.size() > pageSize;
+        List<CommentThreadRow> page = hasNext ? replies.subList(0, pageSize) : replies;
+
+        String nextCursor = null;
+        if (hasNext) {
+            CommentThreadRow last = page.get(page.size() - 1);
+            nextCursor = new CommentCursor(last.createdAt(), last.id()).encode(scope);
+        }
+
+        return CursorPagedResponse.<CommentResponse>builder()
+                .content(commentTreeAssembler.assemble(page, page.stream().map(CommentThreadRow::id).toList()))
+                .size(pageSize)
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
+    }
+}
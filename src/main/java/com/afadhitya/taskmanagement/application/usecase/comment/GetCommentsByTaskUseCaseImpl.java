@@ -1,14 +1,17 @@
 package com.afadhitya.taskmanagement.application.usecase.comment;
 
 import com.afadhitya.taskmanagement.application.dto.response.CommentResponse;
-import com.afadhitya.taskmanagement.application.mapper.CommentMapper;
+import com.afadhitya.taskmanagement.application.dto.response.CursorPagedResponse;
 import com.afadhitya.taskmanagement.application.port.in.comment.GetCommentsByTaskUseCase;
+import com.afadhitya.taskmanagement.application.port.out.comment.CommentCursor;
 import com.afadhitya.taskmanagement.application.port.out.comment.CommentPersistencePort;
-import com.afadhitya.taskmanagement.domain.entity.Comment;
+import com.afadhitya.taskmanagement.application.port.out.comment.CommentThreadRow;
+import com.afadhitya.taskmanagement.application.service.CommentTreeAssembler;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
 
 @Service
@@ -16,14 +19,46 @@ import java.util.List;
 @Transactional(readOnly = true)
 public class GetCommentsByTaskUseCaseImpl implements GetCommentsByTaskUseCase {
 
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_DEPTH = 10;
+    private static final int MAX_REPLY_LIMIT = 20;
+
     private final CommentPersistencePort commentPersistencePort;
-    private final CommentMapper commentMapper;
+    private final CommentTreeAssembler commentTreeAssembler;
 
     @Override
-    public List<CommentResponse> getCommentsByTask(Long taskId) {
-        List<Comment> comments = commentPersistencePort.findByTaskIdAndParentCommentIsNullAndIsDeletedFalse(taskId);
-        return comments.stream()
-                .map(commentMapper::toResponse)
+    public CursorPagedResponse<CommentResponse> getCommentsByTask(Long taskId, String cursor, int size,
+                                                                  Integer maxDepth, int replyLimit) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        // No depth means every level up to MAX_DEPTH; replyLimit still caps the replies kept per comment
+        int depth = maxDepth == null ? MAX_DEPTH : Math.min(Math.max(maxDepth, 0), MAX_DEPTH);
+        int perParent = Math.min(Math.max(replyLimit, 0), MAX_REPLY_LIMIT);
+        CommentCursor after = cursor == null || cursor.isBlank() ? null : CommentCursor.decode(cursor, CommentCursor.taskScope(taskId));
+
+        // Fetch one extra row to learn whether another page exists
+        List<CommentThreadRow> roots = commentPersistencePort.findTopLevelByTaskIdAfter(taskId, after, pageSize + 1);
+        boolean hasNext = roots.size() > pageSize;
+        List<CommentThreadRow> page = hasNext ? roots.subList(0, pageSize) : roots;
+
+        // Only comments that have replies need the second query
+        List<Long> rootIds = page.stream().map(CommentThreadRow::id).toList();
+        List<Long> parentIds = page.stream()
+                .filter(row -> row.replyCount() > 0)
+                .map(CommentThreadRow::id)
                 .toList();
+        List<CommentThreadRow> rows = new ArrayList<>(page);
+        rows.addAll(commentPersistencePort.findReplyThreads(parentIds, depth, perParent));
+
+        return CursorPagedResponse.<CommentResponse>builder()
+                .content(commentTreeAssembler.assemble(rows, rootIds))
+                .size(pageSize)
+                .nextCursor(hasNext ? nextCursor(taskId, page) : null)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    private static String nextCursor(Long taskId, List<CommentThreadRow> page) {
+        CommentThreadRow last = page.get(page.size() - 1);
+        return new CommentCursor(last.createdAt(), last.id()).encode(CommentCursor.taskScope(taskId));
     }
 }
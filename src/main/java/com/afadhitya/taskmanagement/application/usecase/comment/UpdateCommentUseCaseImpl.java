@@ -5,7 +5,9 @@ import com.afadhitya.taskmanagement.application.dto.response.CommentResponse;
 import com.afadhitya.taskmanagement.application.mapper.CommentMapper;
 import com.afadhitya.taskmanagement.application.port.in.comment.UpdateCommentUseCase;
 import com.afadhitya.taskmanagement.application.port.out.comment.CommentPersistencePort;
+import com.afadhitya.taskmanagement.application.service.LiveUpdatePublisher;
 import com.afadhitya.taskmanagement.domain.entity.Comment;
+import com.afadhitya.taskmanagement.domain.entity.Project;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -17,6 +19,7 @@ public class UpdateCommentUseCaseImpl implements UpdateCommentUseCase {
 
     private final CommentPersistencePort commentPersistencePort;
     private final CommentMapper commentMapper;
+    private final LiveUpdatePublisher liveUpdatePublisher;
 
     @Override
     public CommentResponse updateComment(Long commentId, UpdateCommentRequest request, Long currentUserId) {
@@ -26,6 +29,9 @@ public class UpdateCommentUseCaseImpl implements UpdateCommentUseCase {
         commentMapper.updateEntityFromRequest(request, comment);
         Comment updatedComment = commentPersistencePort.save(comment);
 
-        return commentMapper.toResponse(updatedComment);
+        CommentResponse response = commentMapper.toResponse(updatedComment);
+        Project project = updatedComment.getTask().getProject();
+        liveUpdatePublisher.toProject(LiveUpdatePublisher.COMMENT_UPDATED, project.getWorkspace().getId(), project.getId(), response);
+        return response;
     }
 }
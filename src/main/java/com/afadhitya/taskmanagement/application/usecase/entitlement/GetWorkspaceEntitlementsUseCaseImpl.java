@@ -9,6 +9,7 @@ import com.afadhitya.taskmanagement.application.dto.response.WorkspaceEntitlemen
 import com.afadhitya.taskmanagement.application.port.in.entitlement.GetWorkspaceEntitlementsUseCase;
 import com.afadhitya.taskmanagement.application.port.out.feature.FeatureTogglePort;
 import com.afadhitya.taskmanagement.domain.entity.Workspace;
+import com.afadhitya.taskmanagement.domain.feature.EntitlementSnapshot;
 import com.afadhitya.taskmanagement.domain.feature.Feature;
 import com.afadhitya.taskmanagement.domain.feature.LimitType;
 import lombok.RequiredArgsConstructor;
@@ -36,17 +37,19 @@ public class GetWorkspaceEntitlementsUseCaseImpl implements GetWorkspaceEntitlem
         PlanConfigurationEntity plan = planConfigRepository.findById(workspace.getPlanConfigurationId())
             .orElseThrow(() -> new IllegalArgumentException("Plan configuration not found"));
 
+        EntitlementSnapshot entitlements = featureTogglePort.getEntitlements(workspaceId);
+
         List<WorkspaceEntitlementResponse.FeatureInfo> features = Arrays.stream(Feature.values())
             .map(f -> WorkspaceEntitlementResponse.FeatureInfo.builder()
                 .code(f.getCode())
                 .name(f.name())
-                .isEnabled(featureTogglePort.isEnabled(workspaceId, f))
+                .isEnabled(entitlements.isEnabled(f))
                 .build())
             .collect(Collectors.toList());
 
         List<WorkspaceEntitlementResponse.LimitInfo> limits = Arrays.asList(
-            buildLimitInfo(workspaceId, LimitType.MAX_PROJECTS, projectRepository.countByWorkspaceId(workspaceId)),
-            buildLimitInfo(workspaceId, LimitType.MAX_MEMBERS, workspaceMemberRepository.countByWorkspaceId(workspaceId))
+            buildLimitInfo(entitlements, LimitType.MAX_PROJECTS, projectRepository.countByWorkspaceId(workspaceId)),
+            buildLimitInfo(entitlements, LimitType.MAX_MEMBERS, workspaceMemberRepository.countByWorkspaceId(workspaceId))
         );
 
         return WorkspaceEntitlementResponse.builder()
@@ -60,8 +63,8 @@ public class GetWorkspaceEntitlementsUseCaseImpl implements GetWorkspaceEntitlem
             .build();
     }
 
-    private WorkspaceEntitlementResponse.LimitInfo buildLimitInfo(Long workspaceId, LimitType limitType, int used) {
-        int limit = featureTogglePort.getLimit(workspaceId, limitType);
+    private WorkspaceEntitlementResponse.LimitInfo buildLimitInfo(EntitlementSnapshot entitlements, LimitType limitType, int used) {
+        int limit = entitlements.getLimit(limitType);
         int remaining = limit < 0 ? -1 : Math.max(0, limit - used);
 
         return WorkspaceEntitlementResponse.LimitInfo.builder()
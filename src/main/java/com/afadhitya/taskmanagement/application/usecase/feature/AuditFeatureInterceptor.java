@@ -20,7 +20,7 @@ public class AuditFeatureInterceptor {
     private final AuditLogService auditLogService;
 
     public boolean shouldAudit(Long workspaceId) {
-        boolean enabled = featureToggle.isEnabled(workspaceId, Feature.AUDIT_LOG);
+        boolean enabled = featureToggle.getEntitlements(workspaceId).isEnabled(Feature.AUDIT_LOG);
         log.debug("Audit feature check for workspace {}: {}", workspaceId, enabled);
         return enabled;
     }
@@ -7,6 +7,7 @@ import com.afadhitya.taskmanagement.application.port.feature.FeatureHandler;
 import com.afadhitya.taskmanagement.application.port.in.workspace.InviteMemberUseCase;
 import com.afadhitya.taskmanagement.application.port.out.feature.FeatureTogglePort;
 import com.afadhitya.taskmanagement.application.usecase.audit.AuditedWorkspaceUseCases;
+import com.afadhitya.taskmanagement.domain.feature.EntitlementSnapshot;
 import com.afadhitya.taskmanagement.domain.feature.Feature;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -58,9 +59,10 @@ public class InviteMemberFeatureDispatcher implements InviteMemberUseCase {
     }
 
     private Map<Feature, Boolean> checkFeatures(Long workspaceId) {
+        EntitlementSnapshot entitlements = featureTogglePort.getEntitlements(workspaceId);
         Map<Feature, Boolean> result = new EnumMap<>(Feature.class);
-        result.put(Feature.MEMBER_LIMITS, featureTogglePort.isEnabled(workspaceId, Feature.MEMBER_LIMITS));
-        result.put(Feature.AUDIT_LOG, featureTogglePort.isEnabled(workspaceId, Feature.AUDIT_LOG));
+        result.put(Feature.MEMBER_LIMITS, entitlements.isEnabled(Feature.MEMBER_LIMITS));
+        result.put(Feature.AUDIT_LOG, entitlements.isEnabled(Feature.AUDIT_LOG));
         return result;
     }
 
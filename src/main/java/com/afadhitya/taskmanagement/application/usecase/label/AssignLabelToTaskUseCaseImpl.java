@@ -6,8 +6,8 @@ import com.afadhitya.taskmanagement.application.port.in.label.AssignLabelToTaskU
 import com.afadhitya.taskmanagement.application.port.out.label.LabelPersistencePort;
 import com.afadhitya.taskmanagement.application.port.out.task.TaskLabelPersistencePort;
 import com.afadhitya.taskmanagement.application.port.out.task.TaskPersistencePort;
+import com.afadhitya.taskmanagement.application.port.out.task.TaskScope;
 import com.afadhitya.taskmanagement.domain.entity.Label;
-import com.afadhitya.taskmanagement.domain.entity.Task;
 import com.afadhitya.taskmanagement.domain.entity.TaskLabel;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -25,15 +25,15 @@ public class AssignLabelToTaskUseCaseImpl implements AssignLabelToTaskUseCase {
 
     @Override
     public LabelResponse assignLabelToTask(Long taskId, Long labelId, Long currentUserId) {
-        Task task = taskPersistencePort.findById(taskId)
+        TaskScope taskScope = taskPersistencePort.findScopeById(taskId)
                 .orElseThrow(() -> new IllegalArgumentException("Task not found with id: " + taskId));
 
         Label label = labelPersistencePort.findById(labelId)
                 .orElseThrow(() -> new IllegalArgumentException("Label not found with id: " + labelId));
 
         // Validate that the label belongs to the same workspace/project as the task
-        Long taskProjectId = task.getProject().getId();
-        Long taskWorkspaceId = task.getProject().getWorkspace().getId();
+        Long taskProjectId = taskScope.projectId();
+        Long taskWorkspaceId = taskScope.workspaceId();
         Long labelWorkspaceId = label.getWorkspace().getId();
 
         if (!taskWorkspaceId.equals(labelWorkspaceId)) {
@@ -54,7 +54,7 @@ public class AssignLabelToTaskUseCaseImpl implements AssignLabelToTaskUseCase {
         }
 
         TaskLabel taskLabel = TaskLabel.builder()
-                .task(task)
+                .task(taskPersistencePort.getReferenceById(taskId))
                 .label(label)
                 .build();
 
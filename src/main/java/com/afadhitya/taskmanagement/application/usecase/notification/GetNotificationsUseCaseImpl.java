@@ -0,0 +1,53 @@
+package com.afadhitya.taskmanagement.application.usecase.notification;
+
+import com.afadhitya.taskmanagement.application.dto.response.CursorPagedResponse;
+import com.afadhitya.taskmanagement.application.dto.response.NotificationResponse;
+import com.afadhitya.taskmanagement.application.port.in.notification.GetNotificationsUseCase;
+import com.afadhitya.taskmanagement.application.port.out.notification.NotificationCursor;
+import com.afadhitya.taskmanagement.application.port.out.notification.NotificationPersistencePort;
+import com.afadhitya.taskmanagement.application.port.out.notification.NotificationRow;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class GetNotificationsUseCaseImpl implements GetNotificationsUseCase {
+
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final NotificationPersistencePort notificationPersistencePort;
+
+    @Override
+    public CursorPagedResponse<NotificationResponse> getNotifications(Long userId, String cursor, int size, boolean unreadOnly) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        String scope = NotificationCursor.userScope(userId);
+        NotificationCursor after = cursor == null || cursor.isBlank() ? null : NotificationCursor.decode(cursor, scope);
+
+        List<NotificationRow> rows = notificationPersistencePort.findByUserIdAfter(userId, unreadOnly, after, pageSize + 1);
+        boolean hasNext = rows.size() > pageSize;
+        List<NotificationRow> page = hasNext ? rows.subList(0, pageSize) : rows;
+
+        String nextCursor = hasNext ? new NotificationCursor(page.get(page.size() - 1).id()).encode(scope) : null;
+
+        return CursorPagedResponse.<NotificationResponse>builder()
+                .content(page.stream().map(GetNotificationsUseCaseImpl::toResponse).toList())
+                .size(pageSize)
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    private static NotificationResponse toResponse(NotificationRow row) {
+        return NotificationResponse.builder()
+                .id(row.id())
+                .type(row.type())
+                .payload(row.payload())
+                .isRead(row.isRead())
+                .createdAt(row.createdAt())
+                .build();
+    }
+}
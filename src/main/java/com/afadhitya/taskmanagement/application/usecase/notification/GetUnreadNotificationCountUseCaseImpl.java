@@ -0,0 +1,21 @@
+package com.afadhitya.taskmanagement.application.usecase.notification;
+
+import com.afadhitya.taskmanagement.application.dto.response.UnreadNotificationCountResponse;
+import com.afadhitya.taskmanagement.application.port.in.notification.GetUnreadNotificationCountUseCase;
+import com.afadhitya.taskmanagement.application.port.out.notification.NotificationPersistencePort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class GetUnreadNotificationCountUseCaseImpl implements GetUnreadNotificationCountUseCase {
+
+    private final NotificationPersistencePort notificationPersistencePort;
+
+    @Override
+    public UnreadNotificationCountResponse getUnreadCount(Long userId) {
+        return new UnreadNotificationCountResponse(notificationPersistencePort.findUnreadCount(userId));
+    }
+}
@@ -0,0 +1,35 @@
+package com.afadhitya.taskmanagement.application.usecase.notification;
+
+import com.afadhitya.taskmanagement.application.dto.request.MarkNotificationsReadRequest;
+import com.afadhitya.taskmanagement.application.dto.response.UnreadNotificationCountResponse;
+import com.afadhitya.taskmanagement.application.port.in.notification.MarkNotificationsReadUseCase;
+import com.afadhitya.taskmanagement.application.port.out.notification.NotificationPersistencePort;
+import com.afadhitya.taskmanagement.application.service.LiveUpdatePublisher;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Map;
+
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class MarkNotificationsReadUseCaseImpl implements MarkNotificationsReadUseCase {
+
+    private final NotificationPersistencePort notificationPersistencePort;
+    private final LiveUpdatePublisher liveUpdatePublisher;
+
+    @Override
+    public UnreadNotificationCountResponse markRead(Long userId, MarkNotificationsReadRequest request) {
+        long fromId = request.fromId() != null ? request.fromId() : 1L;
+        long toId = request.toId() != null ? request.toId() : Long.MAX_VALUE;
+        if (fromId > toId) {
+            throw new IllegalArgumentException("fromId must not be greater than toId");
+        }
+
+        int unreadCount = notificationPersistencePort.markRead(userId, fromId, toId);
+        // Keeps the badge in step on the user's other tabs and devices
+        liveUpdatePublisher.toUser(LiveUpdatePublisher.NOTIFICATION_UNREAD_COUNT, userId, Map.of("unreadCount", unreadCount));
+        return new UnreadNotificationCountResponse(unreadCount);
+    }
+}
@@ -7,9 +7,12 @@ import com.afadhitya.taskmanagement.application.port.in.project.AddProjectMember
 import com.afadhitya.taskmanagement.application.port.out.project.ProjectMemberPersistencePort;
 import com.afadhitya.taskmanagement.application.port.out.project.ProjectPersistencePort;
 import com.afadhitya.taskmanagement.application.port.out.user.UserPersistencePort;
+import com.afadhitya.taskmanagement.application.service.NotificationPublisher;
+import com.afadhitya.taskmanagement.application.service.ProjectPermissionResolver;
 import com.afadhitya.taskmanagement.domain.entity.Project;
 import com.afadhitya.taskmanagement.domain.entity.ProjectMember;
 import com.afadhitya.taskmanagement.domain.entity.User;
+import com.afadhitya.taskmanagement.infrastructure.security.SecurityUtils;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -23,6 +26,8 @@ public class AddProjectMemberUseCaseImpl implements AddProjectMemberUseCase {
     private final ProjectPersistencePort projectPersistencePort;
     private final UserPersistencePort userPersistencePort;
     private final ProjectMemberMapper projectMemberMapper;
+    private final ProjectPermissionResolver projectPermissionResolver;
+    private final NotificationPublisher notificationPublisher;
 
     @Override
     public ProjectMemberResponse addMember(Long projectId, AddProjectMemberRequest request) {
@@ -43,6 +48,8 @@ public class AddProjectMemberUseCaseImpl implements AddProjectMemberUseCase {
                 .build();
 
         ProjectMember savedMember = projectMemberPersistencePort.save(projectMember);
+        projectPermissionResolver.evict(projectId, request.userId());
+        notificationPublisher.projectMemberAdded(project, request.userId(), SecurityUtils.getCurrentUserId());
         return projectMemberMapper.toResponse(savedMember);
     }
 }
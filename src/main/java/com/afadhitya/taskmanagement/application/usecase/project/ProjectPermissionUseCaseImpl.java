@@ -3,6 +3,7 @@ package com.afadhitya.taskmanagement.application.usecase.project;
 import com.afadhitya.taskmanagement.application.port.in.project.ProjectPermissionUseCase;
 import com.afadhitya.taskmanagement.application.port.in.workspace.WorkspacePermissionUseCase;
 import com.afadhitya.taskmanagement.application.port.out.project.ProjectMemberPersistencePort;
+import com.afadhitya.taskmanagement.application.service.ProjectPermissionResolver;
 import com.afadhitya.taskmanagement.domain.entity.ProjectMember;
 import com.afadhitya.taskmanagement.domain.enums.ProjectPermission;
 import com.afadhitya.taskmanagement.domain.enums.WorkspaceRole;
@@ -22,6 +23,7 @@ public class ProjectPermissionUseCaseImpl implements ProjectPermissionUseCase {
 
     private final ProjectMemberPersistencePort projectMemberPersistencePort;
     private final WorkspacePermissionUseCase workspacePermissionUseCase;
+    private final ProjectPermissionResolver projectPermissionResolver;
 
     @Override
     public boolean hasPermission(Long projectId, Long userId, ProjectPermission... permissions) {
@@ -50,6 +52,11 @@ public class ProjectPermissionUseCaseImpl implements ProjectPermissionUseCase {
 
     @Override
     public ProjectPermission getEffectivePermission(Long projectId, Long userId, Long workspaceId) {
+        return projectPermissionResolver.resolve(projectId, userId, workspaceId,
+                () -> resolveEffectivePermission(projectId, userId, workspaceId));
+    }
+
+    private ProjectPermission resolveEffectivePermission(Long projectId, Long userId, Long workspaceId) {
         // Get user's workspace role if workspaceId provided, otherwise try to determine from project
         Optional<WorkspaceRole> workspaceRoleOpt = workspacePermissionUseCase.getUserRole(workspaceId, userId);
 
@@ -2,6 +2,8 @@ package com.afadhitya.taskmanagement.application.usecase.project;
 
 import com.afadhitya.taskmanagement.application.port.in.project.RemoveProjectMemberUseCase;
 import com.afadhitya.taskmanagement.application.port.out.project.ProjectMemberPersistencePort;
+import com.afadhitya.taskmanagement.application.service.LiveUpdatePublisher;
+import com.afadhitya.taskmanagement.application.service.ProjectPermissionResolver;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -12,6 +14,8 @@ import org.springframework.transaction.annotation.Transactional;
 public class RemoveProjectMemberUseCaseImpl implements RemoveProjectMemberUseCase {
 
     private final ProjectMemberPersistencePort projectMemberPersistencePort;
+    private final ProjectPermissionResolver projectPermissionResolver;
+    private final LiveUpdatePublisher liveUpdatePublisher;
 
     @Override
     public void removeMember(Long projectId, Long userId) {
@@ -19,5 +23,7 @@ public class RemoveProjectMemberUseCaseImpl implements RemoveProjectMemberUseCas
             throw new IllegalArgumentException("User is not a member of this project");
         }
         projectMemberPersistencePort.deleteByProjectIdAndUserId(projectId, userId);
+        projectPermissionResolver.evict(projectId, userId);
+        liveUpdatePublisher.revokeProjectStreams(userId, projectId);
     }
 }
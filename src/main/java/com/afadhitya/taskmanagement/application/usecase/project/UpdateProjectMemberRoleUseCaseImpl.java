@@ -7,6 +7,7 @@ import com.afadhitya.taskmanagement.application.port.in.project.UpdateProjectMem
 import com.afadhitya.taskmanagement.application.port.in.workspace.WorkspacePermissionUseCase;
 import com.afadhitya.taskmanagement.application.port.out.project.ProjectMemberPersistencePort;
 import com.afadhitya.taskmanagement.application.port.out.project.ProjectPersistencePort;
+import com.afadhitya.taskmanagement.application.service.ProjectPermissionResolver;
 import com.afadhitya.taskmanagement.domain.entity.Project;
 import com.afadhitya.taskmanagement.domain.entity.ProjectMember;
 import com.afadhitya.taskmanagement.domain.enums.ProjectPermission;
@@ -24,6 +25,7 @@ public class UpdateProjectMemberRoleUseCaseImpl implements UpdateProjectMemberRo
     private final ProjectPersistencePort projectPersistencePort;
     private final WorkspacePermissionUseCase workspacePermissionUseCase;
     private final ProjectMemberMapper projectMemberMapper;
+    private final ProjectPermissionResolver projectPermissionResolver;
 
     @Override
     public ProjectMemberResponse updateMemberRole(Long projectId, Long targetUserId, UpdateProjectMemberRoleRequest request, Long currentUserId) {
@@ -54,6 +56,7 @@ public class UpdateProjectMemberRoleUseCaseImpl implements UpdateProjectMemberRo
 
         targetMember.setPermission(request.permission());
         ProjectMember updatedMember = projectMemberPersistencePort.save(targetMember);
+        projectPermissionResolver.evict(projectId, targetUserId);
 
         return projectMemberMapper.toResponse(updatedMember);
     }
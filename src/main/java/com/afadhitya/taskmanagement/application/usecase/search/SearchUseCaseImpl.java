@@ -11,62 +11,137 @@ import com.afadhitya.taskmanagement.application.port.in.search.SearchUseCase;
 import com.afadhitya.taskmanagement.application.port.out.project.ProjectPersistencePort;
 import com.afadhitya.taskmanagement.application.port.out.task.TaskPersistencePort;
 import com.afadhitya.taskmanagement.application.port.out.user.UserPersistencePort;
-import com.afadhitya.taskmanagement.domain.entity.Project;
-import com.afadhitya.taskmanagement.domain.entity.Task;
-import com.afadhitya.taskmanagement.domain.entity.User;
 import com.afadhitya.taskmanagement.domain.enums.SearchType;
-import lombok.RequiredArgsConstructor;
+import com.afadhitya.taskmanagement.infrastructure.config.SearchProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.util.Collections;
+import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
 
+/**
+ * Runs the task, project and user searches concurrently, each in its own read-only transaction.
+ * Branches that miss the deadline are left out of the response and listed in {@code timedOut}.
+ */
+@Slf4j
 @Service
-@RequiredArgsConstructor
-@Transactional(readOnly = true)
 public class SearchUseCaseImpl implements SearchUseCase {
 
+    private static final int MAX_PAGE_SIZE = 50;
+
     private final TaskPersistencePort taskPersistencePort;
     private final ProjectPersistencePort projectPersistencePort;
     private final UserPersistencePort userPersistencePort;
     private final TaskMapper taskMapper;
     private final ProjectMapper projectMapper;
     private final UserMapper userMapper;
+    private final Executor searchExecutor;
+    private final SearchProperties searchProperties;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public SearchUseCaseImpl(TaskPersistencePort taskPersistencePort,
+                             ProjectPersistencePort projectPersistencePort,
+                             UserPersistencePort userPersistencePort,
+                             TaskMapper taskMapper,
+                             ProjectMapper projectMapper,
+                             UserMapper userMapper,
+                             @Qualifier("searchExecutor") Executor searchExecutor,
+                             SearchProperties searchProperties,
+                             PlatformTransactionManager transactionManager) {
+        this.taskPersistencePort = taskPersistencePort;
+        this.projectPersistencePort = projectPersistencePort;
+        this.userPersistencePort = userPersistencePort;
+        this.taskMapper = taskMapper;
+        this.projectMapper = projectMapper;
+        this.userMapper = userMapper;
+        this.searchExecutor = searchExecutor;
+        this.searchProperties = searchProperties;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        // Bounds the SQL statement too, so an abandoned branch does not keep its connection busy
+        this.readOnlyTransaction.setTimeout((int) Math.max(1, TimeUnit.MILLISECONDS.toSeconds(
+                searchProperties.getBranchTimeoutMs() + 999)));
+    }
 
     @Override
-    public SearchResponse search(Long workspaceId, String query, SearchType type) {
-        List<TaskResponse> tasks = Collections.emptyList();
-        List<ProjectResponse> projects = Collections.emptyList();
-        List<UserResponse> users = Collections.emptyList();
+    public SearchResponse search(Long workspaceId, String query, SearchType type, int page, int size) {
+        Pageable pageable = PageRequest.of(Math.max(page, 0), Math.min(Math.max(size, 1), MAX_PAGE_SIZE));
+        Set<SearchType> timedOut = EnumSet.noneOf(SearchType.class);
 
         // If type is specified, search only that type
         // If type is null, search all types
-        if (type == null || type == SearchType.TASKS) {
-            List<Task> taskEntities = taskPersistencePort.searchByWorkspaceId(workspaceId, query);
-            tasks = taskEntities.stream()
-                    .map(taskMapper::toResponse)
-                    .toList();
-        }
+        CompletableFuture<List<TaskResponse>> taskSearch = startBranch(type, SearchType.TASKS, timedOut,
+                () -> taskPersistencePort.searchByWorkspaceId(workspaceId, query, pageable).stream()
+                        .map(taskMapper::toResponse)
+                        .toList());
 
-        if (type == null || type == SearchType.PROJECTS) {
-            List<Project> projectEntities = projectPersistencePort.searchByWorkspaceId(workspaceId, query);
-            projects = projectEntities.stream()
-                    .map(projectMapper::toResponse)
-                    .toList();
-        }
+        CompletableFuture<List<ProjectResponse>> projectSearch = startBranch(type, SearchType.PROJECTS, timedOut,
+                () -> projectPersistencePort.searchByWorkspaceId(workspaceId, query, pageable).stream()
+                        .map(projectMapper::toResponse)
+                        .toList());
 
-        if (type == null || type == SearchType.USERS) {
-            List<User> userEntities = userPersistencePort.searchByWorkspaceId(workspaceId, query);
-            users = userEntities.stream()
-                    .map(userMapper::toResponse)
-                    .toList();
-        }
+        CompletableFuture<List<UserResponse>> userSearch = startBranch(type, SearchType.USERS, timedOut,
+                () -> userPersistencePort.searchByWorkspaceId(workspaceId, query, pageable).stream()
+                        .map(userMapper::toResponse)
+                        .toList());
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(searchProperties.getBranchTimeoutMs());
 
         return SearchResponse.builder()
-                .tasks(tasks)
-                .projects(projects)
-                .users(users)
+                .tasks(await(taskSearch, SearchType.TASKS, deadline, timedOut))
+                .projects(await(projectSearch, SearchType.PROJECTS, deadline, timedOut))
+                .users(await(userSearch, SearchType.USERS, deadline, timedOut))
+                .page(pageable.getPageNumber())
+                .size(pageable.getPageSize())
+                .timedOut(new ArrayList<>(timedOut))
                 .build();
     }
+
+    private <T> CompletableFuture<List<T>> startBranch(SearchType requested, SearchType branch,
+                                                       Set<SearchType> timedOut, Supplier<List<T>> search) {
+        if (requested != null && requested != branch) {
+            return CompletableFuture.completedFuture(List.of());
+        }
+        try {
+            return CompletableFuture.supplyAsync(() -> readOnlyTransaction.execute(status -> search.get()), searchExecutor);
+        } catch (RejectedExecutionException e) {
+            log.warn("Search executor saturated, skipping {} branch", branch);
+            timedOut.add(branch);
+            return CompletableFuture.completedFuture(List.of());
+        }
+    }
+
+    private <T> List<T> await(CompletableFuture<List<T>> branch, SearchType type, long deadline, Set<SearchType> timedOut) {
+        try {
+            return branch.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            log.warn("Search branch {} timed out", type);
+            branch.cancel(true);
+            timedOut.add(type);
+            return List.of();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            timedOut.add(type);
+            return List.of();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Search branch " + type + " failed", e.getCause());
+        }
+    }
 }
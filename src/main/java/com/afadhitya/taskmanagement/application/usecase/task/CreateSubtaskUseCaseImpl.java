@@ -6,6 +6,8 @@ import com.afadhitya.taskmanagement.application.mapper.TaskMapper;
 import com.afadhitya.taskmanagement.application.port.in.task.CreateSubtaskUseCase;
 import com.afadhitya.taskmanagement.application.port.out.task.TaskPersistencePort;
 import com.afadhitya.taskmanagement.application.port.out.user.UserPersistencePort;
+import com.afadhitya.taskmanagement.application.service.LiveUpdatePublisher;
+import com.afadhitya.taskmanagement.application.service.NotificationPublisher;
 import com.afadhitya.taskmanagement.domain.entity.Project;
 import com.afadhitya.taskmanagement.domain.entity.Task;
 import com.afadhitya.taskmanagement.domain.entity.User;
@@ -25,6 +27,8 @@ public class CreateSubtaskUseCaseImpl implements CreateSubtaskUseCase {
     private final TaskPersistencePort taskPersistencePort;
     private final UserPersistencePort userPersistencePort;
     private final TaskMapper taskMapper;
+    private final NotificationPublisher notificationPublisher;
+    private final LiveUpdatePublisher liveUpdatePublisher;
 
     @Override
     public TaskResponse createSubtask(Long parentTaskId, CreateSubtaskRequest request, Long createdByUserId) {
@@ -49,7 +53,10 @@ public class CreateSubtaskUseCaseImpl implements CreateSubtaskUseCase {
                 .build();
 
         Task savedSubtask = taskPersistencePort.save(subtask);
+        notificationPublisher.taskCreated(savedSubtask, createdByUserId);
 
-        return taskMapper.toResponse(savedSubtask);
+        TaskResponse response = taskMapper.toResponse(savedSubtask);
+        liveUpdatePublisher.toProject(LiveUpdatePublisher.TASK_CREATED, project.getWorkspace().getId(), project.getId(), response);
+        return response;
     }
 }
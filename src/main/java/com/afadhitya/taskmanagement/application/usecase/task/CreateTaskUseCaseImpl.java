@@ -8,6 +8,8 @@ import com.afadhitya.taskmanagement.application.port.out.project.ProjectMemberPe
 import com.afadhitya.taskmanagement.application.port.out.project.ProjectPersistencePort;
 import com.afadhitya.taskmanagement.application.port.out.task.TaskPersistencePort;
 import com.afadhitya.taskmanagement.application.port.out.user.UserPersistencePort;
+import com.afadhitya.taskmanagement.application.service.LiveUpdatePublisher;
+import com.afadhitya.taskmanagement.application.service.NotificationPublisher;
 import com.afadhitya.taskmanagement.domain.entity.Project;
 import com.afadhitya.taskmanagement.domain.entity.Task;
 import com.afadhitya.taskmanagement.domain.entity.User;
@@ -31,6 +33,8 @@ public class CreateTaskUseCaseImpl implements CreateTaskUseCase {
     private final ProjectMemberPersistencePort projectMemberPersistencePort;
     private final UserPersistencePort userPersistencePort;
     private final TaskMapper taskMapper;
+    private final NotificationPublisher notificationPublisher;
+    private final LiveUpdatePublisher liveUpdatePublisher;
 
     @Override
     public TaskResponse createTask(CreateTaskRequest request, Long createdByUserId) {
@@ -63,8 +67,11 @@ public class CreateTaskUseCaseImpl implements CreateTaskUseCase {
 
         Task task = taskBuilder.build();
         Task savedTask = taskPersistencePort.save(task);
+        notificationPublisher.taskCreated(savedTask, createdByUserId);
 
-        return taskMapper.toResponse(savedTask);
+        TaskResponse response = taskMapper.toResponse(savedTask);
+        liveUpdatePublisher.toProject(LiveUpdatePublisher.TASK_CREATED, project.getWorkspace().getId(), project.getId(), response);
+        return response;
     }
 
     private void validateAssigneesAreProjectMembers(Long projectId, Set<Long> assigneeIds) {
@@ -2,22 +2,27 @@ package com.afadhitya.taskmanagement.application.usecase.task;
 
 import com.afadhitya.taskmanagement.application.port.in.task.DeleteTaskUseCase;
 import com.afadhitya.taskmanagement.application.port.out.task.TaskPersistencePort;
+import com.afadhitya.taskmanagement.application.port.out.task.TaskScope;
+import com.afadhitya.taskmanagement.application.service.LiveUpdatePublisher;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Map;
+
 @Service
 @RequiredArgsConstructor
 @Transactional
 public class DeleteTaskUseCaseImpl implements DeleteTaskUseCase {
 
     private final TaskPersistencePort taskPersistencePort;
+    private final LiveUpdatePublisher liveUpdatePublisher;
 
     @Override
     public void deleteTask(Long id) {
-        if (!taskPersistencePort.existsById(id)) {
-            throw new IllegalArgumentException("Task not found with id: " + id);
-        }
+        TaskScope scope = taskPersistencePort.findScopeById(id)
+                .orElseThrow(() -> new IllegalArgumentException("Task not found with id: " + id));
         taskPersistencePort.deleteById(id);
+        liveUpdatePublisher.toProject(LiveUpdatePublisher.TASK_DELETED, scope.workspaceId(), scope.projectId(), Map.of("id", id));
     }
 }
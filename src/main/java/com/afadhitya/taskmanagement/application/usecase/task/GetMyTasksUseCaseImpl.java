@@ -1,9 +1,13 @@
 package com.afadhitya.taskmanagement.application.usecase.task;
 
+import com.afadhitya.taskmanagement.application.dto.request.TaskFilterRequest;
+import com.afadhitya.taskmanagement.application.dto.response.CursorPagedResponse;
 import com.afadhitya.taskmanagement.application.dto.response.TaskResponse;
 import com.afadhitya.taskmanagement.application.mapper.TaskMapper;
 import com.afadhitya.taskmanagement.application.port.in.task.GetMyTasksUseCase;
+import com.afadhitya.taskmanagement.application.port.out.task.TaskCursor;
 import com.afadhitya.taskmanagement.application.port.out.task.TaskPersistencePort;
+import com.afadhitya.taskmanagement.application.port.out.task.TaskSortKey;
 import com.afadhitya.taskmanagement.domain.entity.Task;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -16,14 +20,39 @@ import java.util.List;
 @Transactional(readOnly = true)
 public class GetMyTasksUseCaseImpl implements GetMyTasksUseCase {
 
+    private static final int MAX_PAGE_SIZE = 500;
+
     private final TaskPersistencePort taskPersistencePort;
     private final TaskMapper taskMapper;
 
     @Override
-    public List<TaskResponse> getMyTasks(Long userId) {
-        List<Task> tasks = taskPersistencePort.findByAssigneeId(userId);
-        return tasks.stream()
+    public CursorPagedResponse<TaskResponse> getMyTasks(Long userId, TaskFilterRequest filter, String cursor, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        String scope = TaskCursor.assigneeScope(userId);
+        TaskCursor after = cursor == null || cursor.isBlank() ? null : TaskCursor.decode(cursor, scope);
+        if (after != null && (after.sortKey() != TaskSortKey.ID || after.ascending())) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+
+        List<Task> tasks = taskPersistencePort.findByAssigneeIdAfter(userId, filter, after, pageSize + 1);
+        boolean hasNext = tasks.size() > pageSize;
+        List<Task> page = hasNext ? tasks.subList(0, pageSize) : tasks;
+
+        String nextCursor = null;
+        if (hasNext) {
+            Long lastId = page.get(page.size() - 1).getId();
+            nextCursor = new TaskCursor(TaskSortKey.ID, false, lastId, String.valueOf(lastId)).encode(scope);
+        }
+
+        List<TaskResponse> content = page.stream()
                 .map(taskMapper::toResponse)
                 .toList();
+
+        return CursorPagedResponse.<TaskResponse>builder()
+                .content(content)
+                .size(pageSize)
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
     }
 }
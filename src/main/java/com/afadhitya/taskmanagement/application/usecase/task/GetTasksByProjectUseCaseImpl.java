@@ -1,11 +1,14 @@
 package com.afadhitya.taskmanagement.application.usecase.task;
 
 import com.afadhitya.taskmanagement.application.dto.request.TaskFilterRequest;
+import com.afadhitya.taskmanagement.application.dto.response.CursorPagedResponse;
 import com.afadhitya.taskmanagement.application.dto.response.PagedResponse;
 import com.afadhitya.taskmanagement.application.dto.response.TaskResponse;
 import com.afadhitya.taskmanagement.application.mapper.TaskMapper;
 import com.afadhitya.taskmanagement.application.port.in.task.GetTasksByProjectUseCase;
+import com.afadhitya.taskmanagement.application.port.out.task.TaskCursor;
 import com.afadhitya.taskmanagement.application.port.out.task.TaskPersistencePort;
+import com.afadhitya.taskmanagement.application.port.out.task.TaskSortKey;
 import com.afadhitya.taskmanagement.domain.entity.Task;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -22,20 +25,21 @@ import java.util.List;
 @Transactional(readOnly = true)
 public class GetTasksByProjectUseCaseImpl implements GetTasksByProjectUseCase {
 
+    private static final int MAX_CURSOR_PAGE_SIZE = 200;
+
     private final TaskPersistencePort taskPersistencePort;
     private final TaskMapper taskMapper;
 
     @Override
     public PagedResponse<TaskResponse> getTasksByProject(Long projectId, TaskFilterRequest filter, int page, int size, String sortBy, String sortDirection) {
-        Sort sort = Sort.by("asc".equalsIgnoreCase(sortDirection) ? Sort.Direction.ASC : Sort.Direction.DESC,
-                sortBy != null ? sortBy : "createdAt");
+        Sort.Direction direction = "asc".equalsIgnoreCase(sortDirection) ? Sort.Direction.ASC : Sort.Direction.DESC;
+        // id breaks ties so rows never shift between pages and the (project_id, ..., id) indexes apply
+        Sort sort = Sort.by(direction, sortBy != null ? sortBy : "createdAt").and(Sort.by(direction, "id"));
         Pageable pageable = PageRequest.of(page, size, sort);
 
         Page<Task> taskPage = taskPersistencePort.findByProjectIdWithFilters(projectId, filter, pageable);
 
-        List<TaskResponse> content = taskPage.getContent().stream()
-                .map(taskMapper::toResponse)
-                .toList();
+        List<TaskResponse> content = toResponses(taskPage.getContent());
 
         return PagedResponse.<TaskResponse>builder()
                 .content(content)
@@ -47,4 +51,39 @@ public class GetTasksByProjectUseCaseImpl implements GetTasksByProjectUseCase {
                 .last(taskPage.isLast())
                 .build();
     }
+
+    @Override
+    public CursorPagedResponse<TaskResponse> getTasksByProjectAfter(Long projectId, TaskFilterRequest filter, String cursor, int size,
+                                                                    String sortBy, String sortDirection, boolean includeTotal) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_CURSOR_PAGE_SIZE);
+        String scope = TaskCursor.projectScope(projectId);
+        TaskCursor after = cursor == null || cursor.isBlank() ? null : TaskCursor.decode(cursor, scope);
+        TaskSortKey sortKey = after != null ? after.sortKey() : TaskSortKey.fromProperty(sortBy != null ? sortBy : "createdAt");
+        boolean ascending = after != null ? after.ascending() : "asc".equalsIgnoreCase(sortDirection);
+
+        // One extra row tells us whether another page exists without counting
+        List<Task> tasks = taskPersistencePort.findByProjectIdAfter(projectId, filter, sortKey, ascending, after, pageSize + 1);
+        boolean hasNext = tasks.size() > pageSize;
+        List<Task> page = hasNext ? tasks.subList(0, pageSize) : tasks;
+
+        String nextCursor = null;
+        if (hasNext) {
+            Task last = page.get(page.size() - 1);
+            nextCursor = new TaskCursor(sortKey, ascending, last.getId(), sortKey.valueOf(last)).encode(scope);
+        }
+
+        return CursorPagedResponse.<TaskResponse>builder()
+                .content(toResponses(page))
+                .size(pageSize)
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .totalElements(includeTotal ? taskPersistencePort.countByProjectIdWithFilters(projectId, filter) : null)
+                .build();
+    }
+
+    private List<TaskResponse> toResponses(List<Task> tasks) {
+        return tasks.stream()
+                .map(taskMapper::toResponse)
+                .toList();
+    }
 }
@@ -3,7 +3,7 @@ package com.afadhitya.taskmanagement.application.usecase.task;
 import com.afadhitya.taskmanagement.application.port.in.project.ProjectPermissionUseCase;
 import com.afadhitya.taskmanagement.application.port.in.task.TaskPermissionUseCase;
 import com.afadhitya.taskmanagement.application.port.out.task.TaskPersistencePort;
-import com.afadhitya.taskmanagement.domain.entity.Task;
+import com.afadhitya.taskmanagement.application.port.out.task.TaskScope;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -18,25 +18,22 @@ public class TaskPermissionUseCaseImpl implements TaskPermissionUseCase {
 
     @Override
     public boolean canViewTask(Long taskId, Long userId) {
-        Long projectId = getProjectIdByTaskId(taskId);
-        return projectPermissionUseCase.canViewProject(projectId, userId);
+        return projectPermissionUseCase.canViewProject(getProjectIdByTaskId(taskId), userId);
     }
 
     @Override
     public boolean canContributeToTask(Long taskId, Long userId) {
-        Long projectId = getProjectIdByTaskId(taskId);
-        return projectPermissionUseCase.canContributeToProject(projectId, userId);
+        return projectPermissionUseCase.canContributeToProject(getProjectIdByTaskId(taskId), userId);
     }
 
     @Override
     public boolean canManageTask(Long taskId, Long userId) {
-        Long projectId = getProjectIdByTaskId(taskId);
-        return projectPermissionUseCase.canManageProject(projectId, userId);
+        return projectPermissionUseCase.canManageProject(getProjectIdByTaskId(taskId), userId);
     }
 
     private Long getProjectIdByTaskId(Long taskId) {
-        Task task = taskPersistencePort.findById(taskId)
+        return taskPersistencePort.findScopeById(taskId)
+                .map(TaskScope::projectId)
                 .orElseThrow(() -> new IllegalArgumentException("Task not found with id: " + taskId));
-        return task.getProject().getId();
     }
 }
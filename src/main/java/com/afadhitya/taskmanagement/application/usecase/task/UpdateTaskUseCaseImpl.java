@@ -5,11 +5,16 @@ import com.afadhitya.taskmanagement.application.dto.response.TaskResponse;
 import com.afadhitya.taskmanagement.application.mapper.TaskMapper;
 import com.afadhitya.taskmanagement.application.port.in.task.UpdateTaskUseCase;
 import com.afadhitya.taskmanagement.application.port.out.task.TaskPersistencePort;
+import com.afadhitya.taskmanagement.application.service.LiveUpdatePublisher;
+import com.afadhitya.taskmanagement.application.service.NotificationPublisher;
 import com.afadhitya.taskmanagement.domain.entity.Task;
+import com.afadhitya.taskmanagement.infrastructure.security.SecurityUtils;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Set;
+
 @Service
 @RequiredArgsConstructor
 @Transactional
@@ -17,15 +22,23 @@ public class UpdateTaskUseCaseImpl implements UpdateTaskUseCase {
 
     private final TaskPersistencePort taskPersistencePort;
     private final TaskMapper taskMapper;
+    private final NotificationPublisher notificationPublisher;
+    private final LiveUpdatePublisher liveUpdatePublisher;
 
     @Override
     public TaskResponse updateTask(Long id, UpdateTaskRequest request) {
         Task task = taskPersistencePort.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("Task not found with id: " + id));
 
+        Set<Long> previousAssigneeIds = Set.copyOf(task.getAssigneeIds());
         taskMapper.updateEntityFromRequest(request, task);
 
         Task updatedTask = taskPersistencePort.save(task);
-        return taskMapper.toResponse(updatedTask);
+        notificationPublisher.taskUpdated(updatedTask, previousAssigneeIds, SecurityUtils.getCurrentUserId());
+
+        TaskResponse response = taskMapper.toResponse(updatedTask);
+        liveUpdatePublisher.toProject(LiveUpdatePublisher.TASK_UPDATED,
+                updatedTask.getProject().getWorkspace().getId(), updatedTask.getProject().getId(), response);
+        return response;
     }
 }
@@ -6,6 +6,8 @@ import com.afadhitya.taskmanagement.application.port.in.workspace.InviteMemberUs
 import com.afadhitya.taskmanagement.application.port.out.user.UserPersistencePort;
 import com.afadhitya.taskmanagement.application.port.out.workspace.WorkspaceMemberPersistencePort;
 import com.afadhitya.taskmanagement.application.port.out.workspace.WorkspacePersistencePort;
+import com.afadhitya.taskmanagement.application.service.NotificationPublisher;
+import com.afadhitya.taskmanagement.application.service.ProjectPermissionResolver;
 import com.afadhitya.taskmanagement.domain.entity.User;
 import com.afadhitya.taskmanagement.domain.entity.Workspace;
 import com.afadhitya.taskmanagement.domain.entity.WorkspaceMember;
@@ -22,6 +24,8 @@ public class InviteMemberUseCaseImpl implements InviteMemberUseCase {
     private final WorkspacePersistencePort workspacePersistencePort;
     private final WorkspaceMemberPersistencePort workspaceMemberPersistencePort;
     private final UserPersistencePort userPersistencePort;
+    private final ProjectPermissionResolver projectPermissionResolver;
+    private final NotificationPublisher notificationPublisher;
 
     @Override
     public WorkspaceMemberResponse inviteMember(Long workspaceId, InviteMemberRequest request, Long currentUserId) {
@@ -53,6 +57,8 @@ public class InviteMemberUseCaseImpl implements InviteMemberUseCase {
                 .build();
 
         WorkspaceMember savedMember = workspaceMemberPersistencePort.save(newMember);
+        projectPermissionResolver.evictUser(userToInvite.getId());
+        notificationPublisher.workspaceMemberAdded(workspaceId, workspace.getName(), userToInvite.getId(), currentUserId);
 
         return mapToResponse(savedMember);
     }
@@ -3,6 +3,8 @@ package com.afadhitya.taskmanagement.application.usecase.workspace;
 import com.afadhitya.taskmanagement.application.port.in.workspace.LeaveWorkspaceUseCase;
 import com.afadhitya.taskmanagement.application.port.out.workspace.WorkspaceMemberPersistencePort;
 import com.afadhitya.taskmanagement.application.port.out.workspace.WorkspacePersistencePort;
+import com.afadhitya.taskmanagement.application.service.LiveUpdatePublisher;
+import com.afadhitya.taskmanagement.application.service.ProjectPermissionResolver;
 import com.afadhitya.taskmanagement.domain.entity.Workspace;
 import com.afadhitya.taskmanagement.domain.entity.WorkspaceMember;
 import com.afadhitya.taskmanagement.domain.enums.WorkspaceRole;
@@ -17,6 +19,8 @@ public class LeaveWorkspaceUseCaseImpl implements LeaveWorkspaceUseCase {
 
     private final WorkspacePersistencePort workspacePersistencePort;
     private final WorkspaceMemberPersistencePort workspaceMemberPersistencePort;
+    private final ProjectPermissionResolver projectPermissionResolver;
+    private final LiveUpdatePublisher liveUpdatePublisher;
 
     @Override
     public void leaveWorkspace(Long workspaceId, Long currentUserId) {
@@ -33,5 +37,7 @@ public class LeaveWorkspaceUseCaseImpl implements LeaveWorkspaceUseCase {
         }
 
         workspaceMemberPersistencePort.delete(currentUserMembership);
+        projectPermissionResolver.evictUser(currentUserId);
+        liveUpdatePublisher.revokeWorkspaceStreams(currentUserId, workspaceId);
     }
 }
@@ -3,6 +3,8 @@ package com.afadhitya.taskmanagement.application.usecase.workspace;
 import com.afadhitya.taskmanagement.application.port.in.workspace.RemoveMemberUseCase;
 import com.afadhitya.taskmanagement.application.port.out.workspace.WorkspaceMemberPersistencePort;
 import com.afadhitya.taskmanagement.application.port.out.workspace.WorkspacePersistencePort;
+import com.afadhitya.taskmanagement.application.service.LiveUpdatePublisher;
+import com.afadhitya.taskmanagement.application.service.ProjectPermissionResolver;
 import com.afadhitya.taskmanagement.domain.entity.WorkspaceMember;
 import com.afadhitya.taskmanagement.domain.enums.WorkspaceRole;
 import com.afadhitya.taskmanagement.domain.exception.WorkspaceAccessDeniedException;
@@ -17,6 +19,8 @@ public class RemoveMemberUseCaseImpl implements RemoveMemberUseCase {
 
     private final WorkspacePersistencePort workspacePersistencePort;
     private final WorkspaceMemberPersistencePort workspaceMemberPersistencePort;
+    private final ProjectPermissionResolver projectPermissionResolver;
+    private final LiveUpdatePublisher liveUpdatePublisher;
 
     @Override
     public void removeMember(Long workspaceId, Long userId, Long currentUserId) {
@@ -47,5 +51,7 @@ public class RemoveMemberUseCaseImpl implements RemoveMemberUseCase {
         }
 
         workspaceMemberPersistencePort.delete(targetMember);
+        projectPermissionResolver.evictUser(userId);
+        liveUpdatePublisher.revokeWorkspaceStreams(userId, workspaceId);
     }
 }
@@ -5,6 +5,7 @@ import com.afadhitya.taskmanagement.application.dto.response.WorkspaceMemberResp
 import com.afadhitya.taskmanagement.application.port.in.workspace.TransferOwnershipUseCase;
 import com.afadhitya.taskmanagement.application.port.out.workspace.WorkspaceMemberPersistencePort;
 import com.afadhitya.taskmanagement.application.port.out.workspace.WorkspacePersistencePort;
+import com.afadhitya.taskmanagement.application.service.ProjectPermissionResolver;
 import com.afadhitya.taskmanagement.domain.entity.Workspace;
 import com.afadhitya.taskmanagement.domain.entity.WorkspaceMember;
 import com.afadhitya.taskmanagement.domain.enums.WorkspaceRole;
@@ -19,6 +20,7 @@ public class TransferOwnershipUseCaseImpl implements TransferOwnershipUseCase {
 
     private final WorkspacePersistencePort workspacePersistencePort;
     private final WorkspaceMemberPersistencePort workspaceMemberPersistencePort;
+    private final ProjectPermissionResolver projectPermissionResolver;
 
     @Override
     public WorkspaceMemberResponse transferOwnership(Long workspaceId, TransferOwnershipRequest request, Long currentUserId) {
@@ -51,6 +53,8 @@ public class TransferOwnershipUseCaseImpl implements TransferOwnershipUseCase {
 
         workspace.setOwner(newOwnerMembership.getUser());
         workspacePersistencePort.save(workspace);
+        projectPermissionResolver.evictUser(currentUserId);
+        projectPermissionResolver.evictUser(request.newOwnerId());
 
         return mapToResponse(updatedNewOwner);
     }
@@ -4,6 +4,8 @@ import com.afadhitya.taskmanagement.application.dto.request.UpdateMemberRoleRequ
 import com.afadhitya.taskmanagement.application.dto.response.WorkspaceMemberResponse;
 import com.afadhitya.taskmanagement.application.port.in.workspace.UpdateMemberRoleUseCase;
 import com.afadhitya.taskmanagement.application.port.out.workspace.WorkspaceMemberPersistencePort;
+import com.afadhitya.taskmanagement.application.service.LiveUpdatePublisher;
+import com.afadhitya.taskmanagement.application.service.ProjectPermissionResolver;
 import com.afadhitya.taskmanagement.domain.entity.WorkspaceMember;
 import com.afadhitya.taskmanagement.domain.enums.WorkspaceRole;
 import lombok.RequiredArgsConstructor;
@@ -16,6 +18,8 @@ import org.springframework.transaction.annotation.Transactional;
 public class UpdateMemberRoleUseCaseImpl implements UpdateMemberRoleUseCase {
 
     private final WorkspaceMemberPersistencePort workspaceMemberPersistencePort;
+    private final ProjectPermissionResolver projectPermissionResolver;
+    private final LiveUpdatePublisher liveUpdatePublisher;
 
     @Override
     public WorkspaceMemberResponse updateMemberRole(Long workspaceId, Long userId, UpdateMemberRoleRequest request, Long currentUserId) {
@@ -34,8 +38,14 @@ public class UpdateMemberRoleUseCaseImpl implements UpdateMemberRoleUseCase {
                     "Cannot modify the workspace owner's role");
         }
 
+        WorkspaceRole previousRole = targetMember.getRole();
         targetMember.setRole(request.role());
         WorkspaceMember updatedMember = workspaceMemberPersistencePort.save(targetMember);
+        projectPermissionResolver.evictUser(userId);
+        if (previousRole == WorkspaceRole.ADMIN && request.role() != WorkspaceRole.ADMIN) {
+            // Workspace streams are limited to owners and admins
+            liveUpdatePublisher.revokeWorkspaceStreams(userId, workspaceId);
+        }
 
         return mapToResponse(updatedMember);
     }
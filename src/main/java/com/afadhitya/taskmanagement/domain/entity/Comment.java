@@ -31,6 +31,11 @@ public class Comment {
     @Builder.Default
     private Boolean isDeleted = false;
 
+    // Maintained by atomic SQL increments only, so entity saves never overwrite it
+    @Column(name = "reply_count", nullable = false, insertable = false, updatable = false)
+    @Builder.Default
+    private Integer replyCount = 0;
+
     @CreationTimestamp
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
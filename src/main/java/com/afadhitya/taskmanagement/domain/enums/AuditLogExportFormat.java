@@ -0,0 +1,6 @@
+package com.afadhitya.taskmanagement.domain.enums;
+
+public enum AuditLogExportFormat {
+    NDJSON,
+    CSV
+}
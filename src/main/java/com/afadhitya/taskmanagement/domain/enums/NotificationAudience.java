@@ -0,0 +1,12 @@
+package com.afadhitya.taskmanagement.domain.enums;
+
+/**
+ * Who receives a notification besides the users named on the event.
+ * The actor is never notified of their own change.
+ */
+public enum NotificationAudience {
+    NAMED_USERS,
+    TASK_ASSIGNEES,
+    TASK_PARTICIPANTS,
+    PROJECT_MEMBERS
+}
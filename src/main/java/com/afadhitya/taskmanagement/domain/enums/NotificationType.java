@@ -0,0 +1,11 @@
+package com.afadhitya.taskmanagement.domain.enums;
+
+public enum NotificationType {
+    TASK_CREATED,
+    TASK_UPDATED,
+    TASK_ASSIGNED,
+    COMMENT_ADDED,
+    COMMENT_REPLY,
+    PROJECT_MEMBER_ADDED,
+    WORKSPACE_MEMBER_ADDED
+}
@@ -0,0 +1,11 @@
+package com.afadhitya.taskmanagement.domain.exception;
+
+/**
+ * Exception thrown when a worker finds that a bulk job it was running has been claimed by another worker.
+ */
+public class JobOwnershipLostException extends RuntimeException {
+
+    public JobOwnershipLostException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,19 @@
+package com.afadhitya.taskmanagement.domain.exception;
+
+import lombok.Getter;
+
+/**
+ * Exception thrown when a user submits a bulk job while already at their limit of pending and running jobs.
+ */
+@Getter
+public class TooManyActiveJobsException extends RuntimeException {
+
+    private final long activeJobs;
+    private final int limit;
+
+    public TooManyActiveJobsException(long activeJobs, int limit) {
+        super(String.format("Too many active bulk jobs (active: %d, limit: %d)", activeJobs, limit));
+        this.activeJobs = activeJobs;
+        this.limit = limit;
+    }
+}
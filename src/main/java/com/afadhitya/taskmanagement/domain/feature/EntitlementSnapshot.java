@@ -0,0 +1,66 @@
+package com.afadhitya.taskmanagement.domain.feature;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable view of everything a workspace's plan grants: enabled features and limit values.
+ * Loaded in one query and cached as a single entry per workspace.
+ */
+public final class EntitlementSnapshot {
+
+    private final Long workspaceId;
+    private final Long planConfigurationId;
+    private final Set<Feature> enabledFeatures;
+    private final Map<LimitType, Integer> limits;
+
+    public EntitlementSnapshot(Long workspaceId, Long planConfigurationId,
+                               Set<Feature> enabledFeatures, Map<LimitType, Integer> limits) {
+        this.workspaceId = workspaceId;
+        this.planConfigurationId = planConfigurationId;
+        this.enabledFeatures = Collections.unmodifiableSet(enabledFeatures.isEmpty()
+                ? EnumSet.noneOf(Feature.class) : EnumSet.copyOf(enabledFeatures));
+        this.limits = Collections.unmodifiableMap(limits.isEmpty()
+                ? new EnumMap<>(LimitType.class) : new EnumMap<>(limits));
+    }
+
+    /**
+     * Snapshot for a workspace without a plan: nothing enabled, every limit 0.
+     */
+    public static EntitlementSnapshot empty(Long workspaceId) {
+        return new EntitlementSnapshot(workspaceId, null, EnumSet.noneOf(Feature.class), new EnumMap<>(LimitType.class));
+    }
+
+    public Long getWorkspaceId() {
+        return workspaceId;
+    }
+
+    /**
+     * The plan this snapshot was built from, or null if the workspace has none.
+     */
+    public Long getPlanConfigurationId() {
+        return planConfigurationId;
+    }
+
+    public boolean isEnabled(Feature feature) {
+        return enabledFeatures.contains(feature);
+    }
+
+    /**
+     * A value of -1 indicates unlimited; limits missing from the plan are 0.
+     */
+    public int getLimit(LimitType limitType) {
+        return limits.getOrDefault(limitType, 0);
+    }
+
+    public Set<Feature> getEnabledFeatures() {
+        return enabledFeatures;
+    }
+
+    public Map<LimitType, Integer> getLimits() {
+        return limits;
+    }
+}
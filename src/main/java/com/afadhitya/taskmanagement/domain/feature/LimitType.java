@@ -9,7 +9,9 @@ public enum LimitType {
     MAX_PROJECTS("MAX_PROJECTS", "Maximum projects per workspace"),
     MAX_MEMBERS("MAX_MEMBERS", "Maximum members per workspace"),
     MAX_STORAGE_MB("MAX_STORAGE_MB", "Maximum storage in MB per workspace"),
-    MAX_TASKS_PER_PROJECT("MAX_TASKS_PER_PROJECT", "Maximum tasks per project");
+    MAX_TASKS_PER_PROJECT("MAX_TASKS_PER_PROJECT", "Maximum tasks per project"),
+    AUDIT_LOG_RETENTION_DAYS("AUDIT_LOG_RETENTION_DAYS", "Days of audit history kept per workspace"),
+    API_REQUESTS_PER_MINUTE("API_REQUESTS_PER_MINUTE", "API requests per minute per member");
 
     private final String code;
     private final String description;
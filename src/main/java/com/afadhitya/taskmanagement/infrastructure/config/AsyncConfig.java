@@ -29,4 +29,83 @@ public class AsyncConfig {
         executor.initialize();
         return executor;
     }
+
+    /**
+     * Bounded worker pool for bulk jobs claimed from the database queue.
+     * Sized by bulk-job.workers; the poller never claims more jobs than there are free workers.
+     */
+    @Bean(name = "bulkJobExecutor")
+    public Executor bulkJobExecutor(BulkJobProperties bulkJobProperties) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(bulkJobProperties.getWorkers());
+        executor.setMaxPoolSize(bulkJobProperties.getWorkers());
+        executor.setQueueCapacity(0);
+        executor.setThreadNamePrefix("bulk-job-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Workers draining the notification outbox. The poller holds a permit per running worker,
+     * so tasks are never queued behind each other.
+     */
+    @Bean(name = "notificationExecutor")
+    public Executor notificationExecutor(NotificationProperties notificationProperties) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(notificationProperties.getWorkers());
+        executor.setMaxPoolSize(notificationProperties.getWorkers());
+        executor.setQueueCapacity(0);
+        executor.setThreadNamePrefix("notification-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Writers for server-sent event streams. A stream only holds a thread while it has events
+     * to write, and has at most one task queued, so the queue is sized by the connection limit.
+     */
+    @Bean(name = "liveEventExecutor")
+    public Executor liveEventExecutor(LiveEventProperties liveEventProperties) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(liveEventProperties.getSenderThreads());
+        executor.setMaxPoolSize(liveEventProperties.getSenderThreads());
+        executor.setQueueCapacity(liveEventProperties.getMaxConnections());
+        executor.setThreadNamePrefix("live-events-");
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Bounded pool for the concurrent search branches.
+     * Each branch holds its own read-only connection, so size this below the JDBC pool.
+     */
+    @Bean(name = "searchExecutor")
+    public Executor searchExecutor(SearchProperties searchProperties) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(searchProperties.getThreads());
+        executor.setMaxPoolSize(searchProperties.getThreads());
+        executor.setQueueCapacity(searchProperties.getQueueCapacity());
+        executor.setThreadNamePrefix("search-");
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Writers for streamed (NDJSON) responses. Each stream pulls one page at a time,
+     * so a thread holds a connection only while a page is being read.
+     */
+    @Bean(name = "taskStreamExecutor")
+    public Executor taskStreamExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(4);
+        executor.setQueueCapacity(20);
+        executor.setThreadNamePrefix("task-stream-");
+        executor.initialize();
+        return executor;
+    }
 }
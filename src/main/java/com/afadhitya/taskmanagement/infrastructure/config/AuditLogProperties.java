@@ -0,0 +1,24 @@
+package com.afadhitya.taskmanagement.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Tuning for the asynchronous audit log writer.
+ * Events beyond {@code queueCapacity} go to the outbox table in the caller's transaction
+ * and are moved into audit_logs by the relay every {@code relayIntervalMs}.
+ * Monthly partitions are created {@code partitionMonthsAhead} months in advance.
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "audit-log")
+public class AuditLogProperties {
+
+    private int queueCapacity = 10000;
+    private int batchSize = 200;
+    private long idlePollMs = 500;
+    private long relayIntervalMs = 5000;
+    private int relayBatchSize = 500;
+    private int partitionMonthsAhead = 3;
+}
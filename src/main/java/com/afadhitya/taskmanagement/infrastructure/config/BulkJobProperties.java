@@ -0,0 +1,24 @@
+package com.afadhitya.taskmanagement.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Tuning for the bulk job engine.
+ * Each chunk of {@code chunkSize} tasks is applied and committed in its own transaction.
+ * Jobs whose heartbeat is older than {@code staleAfterSeconds} are reclaimed by the next poll.
+ * A user may have at most {@code maxActivePerUser} jobs pending or processing at once.
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "bulk-job")
+public class BulkJobProperties {
+
+    private int chunkSize = 500;
+    private int workers = 4;
+    private long pollIntervalMs = 2000;
+    private long staleAfterSeconds = 300;
+    private int maxAttempts = 3;
+    private int maxActivePerUser = 2;
+}
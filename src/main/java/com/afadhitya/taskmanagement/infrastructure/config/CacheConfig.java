@@ -1,33 +1,84 @@
 package com.afadhitya.taskmanagement.infrastructure.config;
 
+import com.afadhitya.taskmanagement.adapter.out.persistence.auth.UserStatusAdapter;
+import com.afadhitya.taskmanagement.adapter.out.persistence.feature.EntitlementSnapshotLoader;
+import com.afadhitya.taskmanagement.adapter.out.persistence.feature.FeatureToggleAdapter;
+import com.afadhitya.taskmanagement.application.service.ProjectPermissionResolver;
+import com.afadhitya.taskmanagement.domain.feature.EntitlementSnapshot;
+import com.afadhitya.taskmanagement.infrastructure.ratelimit.PlanRateLimitResolver;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Weigher;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.cache.caffeine.CaffeineCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
-import java.util.concurrent.TimeUnit;
-
 /**
- * Configuration for caching feature flags and plan limits.
- * Uses Caffeine for high-performance in-memory caching.
+ * Configuration for caching feature flags, plan limits, project permissions and user status.
+ * Uses Caffeine for high-performance in-memory caching; each cache is sized from
+ * its {@link CacheProperties} profile and records stats, which Actuator publishes
+ * as {@code cache.*} meters.
  */
 @Configuration
 @EnableCaching
 public class CacheConfig {
 
     /**
-     * Cache manager for feature flags and plan limits.
-     * Configured with 5-minute TTL and maximum size of 10,000 entries.
+     * Entitlement snapshots weigh one unit plus one per enabled feature and limit,
+     * so a weighted profile bounds memory rather than workspace count.
      */
+    private static final Weigher<Object, Object> ENTITLEMENT_WEIGHER = (key, value) ->
+        value instanceof EntitlementSnapshot snapshot
+            ? 1 + snapshot.getEnabledFeatures().size() + snapshot.getLimits().size()
+            : 1;
+
     @Bean
-    public CacheManager cacheManager() {
+    public CacheManager cacheManager(CacheProperties properties,
+                                     EntitlementSnapshotLoader entitlementSnapshotLoader) {
         CaffeineCacheManager cacheManager = new CaffeineCacheManager();
-        cacheManager.setCaffeine(Caffeine.newBuilder()
-            .expireAfterWrite(5, TimeUnit.MINUTES)
-            .maximumSize(10000)
-            .recordStats());
+        cacheManager.setCaffeine(builder(properties.getDefaults(), Weigher.singletonWeigher()));
+        // Authorization decisions, one entry per user: evictions are local, so the short TTL bounds how long
+        // other nodes keep a revoked decision
+        cacheManager.registerCustomCache(ProjectPermissionResolver.CACHE_NAME,
+            builder(properties.profile(ProjectPermissionResolver.CACHE_NAME), Weigher.singletonWeigher())
+                .build());
+        // Active flag and role per user, read on every authenticated request
+        cacheManager.registerCustomCache(UserStatusAdapter.CACHE_NAME,
+            builder(properties.profile(UserStatusAdapter.CACHE_NAME), Weigher.singletonWeigher())
+                .build());
+        // Requests per minute per user, from the most generous plan among their workspaces
+        cacheManager.registerCustomCache(PlanRateLimitResolver.CACHE_NAME,
+            builder(properties.profile(PlanRateLimitResolver.CACHE_NAME), Weigher.singletonWeigher())
+                .build());
+        // Entitlements: hot entries are reloaded in the background before they expire, so they never
+        // all expire at once; invalidations are pushed explicitly by EntitlementCacheInvalidator
+        cacheManager.registerCustomCache(FeatureToggleAdapter.CACHE_NAME,
+            builder(properties.profile(FeatureToggleAdapter.CACHE_NAME), ENTITLEMENT_WEIGHER)
+                .build(entitlementSnapshotLoader));
         return cacheManager;
     }
+
+    /**
+     * Hit ratio per cache, alongside the gets/evictions/load-duration meters Actuator binds itself.
+     */
+    @Bean
+    public MeterBinder cacheHitRatioMetrics(CacheManager cacheManager) {
+        return registry -> cacheManager.getCacheNames().forEach(name -> {
+            if (cacheManager.getCache(name).getNativeCache()
+                    instanceof com.github.benmanes.caffeine.cache.Cache<?, ?> caffeineCache) {
+                Gauge.builder("cache.hit.ratio", caffeineCache, c -> c.stats().hitRate())
+                    .tag("cache", name)
+                    .description("Fraction of lookups served from the cache since startup")
+                    .register(registry);
+            }
+        });
+    }
+
+    private static Caffeine<Object, Object> builder(CacheProperties.Profile profile, Weigher<Object, Object> weigher) {
+        Caffeine<Object, Object> builder = profile.newBuilder();
+        return profile.isWeighted() ? builder.weigher(weigher) : builder;
+    }
 }
@@ -0,0 +1,70 @@
+package com.afadhitya.taskmanagement.infrastructure.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Sizing and expiry per named cache.
+ * Caches without an entry under {@code cache.profiles} fall back to {@code cache.defaults}.
+ * A profile with {@code maximumWeight} is bounded by weight instead of entry count.
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "cache")
+public class CacheProperties {
+
+    private Profile defaults = defaultProfile();
+    private Map<String, Profile> profiles = new LinkedHashMap<>();
+
+    public Profile profile(String cacheName) {
+        return profiles.getOrDefault(cacheName, defaults);
+    }
+
+    private static Profile defaultProfile() {
+        Profile profile = new Profile();
+        profile.setExpireAfterWrite(Duration.ofMinutes(5));
+        return profile;
+    }
+
+    @Data
+    public static class Profile {
+
+        private long maximumSize = 10000;
+        private Long maximumWeight;
+        private Duration expireAfterWrite;
+        private Duration expireAfterAccess;
+        private Duration refreshAfterWrite;
+
+        public boolean isWeighted() {
+            return maximumWeight != null;
+        }
+
+        /**
+         * Builder with this profile's bounds and expiry; the caller adds a weigher when {@link #isWeighted()}.
+         */
+        public Caffeine<Object, Object> newBuilder() {
+            Caffeine<Object, Object> builder = Caffeine.newBuilder().recordStats();
+            if (isWeighted()) {
+                builder.maximumWeight(maximumWeight);
+            } else {
+                builder.maximumSize(maximumSize);
+            }
+            if (expireAfterWrite != null) {
+                builder.expireAfterWrite(expireAfterWrite);
+            }
+            if (expireAfterAccess != null) {
+                builder.expireAfterAccess(expireAfterAccess);
+            }
+            if (refreshAfterWrite != null) {
+                builder.refreshAfterWrite(refreshAfterWrite);
+            }
+            return builder;
+        }
+    }
+}
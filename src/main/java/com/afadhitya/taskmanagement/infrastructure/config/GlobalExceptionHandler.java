@@ -3,9 +3,11 @@ package com.afadhitya.taskmanagement.infrastructure.config;
 import com.afadhitya.taskmanagement.application.dto.response.ErrorResponse;
 import com.afadhitya.taskmanagement.domain.exception.InvalidTokenException;
 import com.afadhitya.taskmanagement.domain.exception.PlanLimitExceededException;
+import com.afadhitya.taskmanagement.domain.exception.TooManyActiveJobsException;
 import com.afadhitya.taskmanagement.domain.exception.WorkspaceAccessDeniedException;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
@@ -43,6 +45,29 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.FORBIDDEN).body(response);
     }
 
+    @ExceptionHandler(TooManyActiveJobsException.class)
+    public ResponseEntity<ErrorResponse> handleTooManyActiveJobs(
+            TooManyActiveJobsException ex,
+            HttpServletRequest request) {
+
+        Map<String, Object> details = new HashMap<>();
+        details.put("activeJobs", ex.getActiveJobs());
+        details.put("limit", ex.getLimit());
+
+        ErrorResponse response = ErrorResponse.builder()
+                .timestamp(Instant.now())
+                .status(HttpStatus.TOO_MANY_REQUESTS.value())
+                .error("TOO_MANY_ACTIVE_JOBS")
+                .message(ex.getMessage())
+                .details(details)
+                .path(request.getRequestURI())
+                .build();
+
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, "30")
+                .body(response);
+    }
+
     @ExceptionHandler(WorkspaceAccessDeniedException.class)
     public ResponseEntity<ErrorResponse> handleWorkspaceAccessDenied(
             WorkspaceAccessDeniedException ex,
@@ -0,0 +1,32 @@
+package com.afadhitya.taskmanagement.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Tuning for the server-sent event streams.
+ * Each connection buffers at most {@code bufferSize} unsent events and is closed when it falls
+ * further behind; the client reconnects with Last-Event-ID and is replayed from the last
+ * {@code replaySize} events kept on the node. Idle streams get a comment every {@code heartbeatIntervalMs}.
+ * A connection whose current write has been blocked for {@code writeTimeoutMs} is closed as well,
+ * but its sender thread stays blocked until the container's socket write times out
+ * ({@code server.tomcat.connection-timeout}), so {@code senderThreads} bounds how many stalled
+ * clients can be absorbed before delivery to everyone else slows down.
+ * With {@code distributed} on, events and stream revocations are relayed to the other nodes through
+ * Postgres; leave it off on a single node, where the relay is pure overhead.
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "live-events")
+public class LiveEventProperties {
+
+    private int bufferSize = 64;
+    private int replaySize = 1000;
+    private long heartbeatIntervalMs = 15000;
+    private long timeoutMs = 1800000;
+    private int maxConnections = 20000;
+    private int senderThreads = 8;
+    private long writeTimeoutMs = 5000;
+    private boolean distributed;
+}
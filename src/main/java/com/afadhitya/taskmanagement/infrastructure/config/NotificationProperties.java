@@ -0,0 +1,22 @@
+package com.afadhitya.taskmanagement.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Tuning for the notification fan-out workers.
+ * Each worker claims up to {@code batchSize} outbox events per statement and keeps going
+ * while batches come back full; the outbox is polled every {@code pollIntervalMs}.
+ * Unread counters are recounted {@code counterReconcileBatchSize} users at a time.
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "notification")
+public class NotificationProperties {
+
+    private int workers = 2;
+    private int batchSize = 50;
+    private long pollIntervalMs = 1000;
+    private int counterReconcileBatchSize = 500;
+}
@@ -1,44 +1,69 @@
 package com.afadhitya.taskmanagement.infrastructure.config;
 
 import com.afadhitya.taskmanagement.infrastructure.ratelimit.RateLimitProperties;
+import com.afadhitya.taskmanagement.infrastructure.ratelimit.UserBucket;
 import com.github.benmanes.caffeine.cache.Cache;
-import com.github.benmanes.caffeine.cache.Caffeine;
 import io.github.bucket4j.Bandwidth;
 import io.github.bucket4j.Bucket;
-import io.github.bucket4j.Refill;
+import io.github.bucket4j.distributed.proxy.ProxyManager;
+import io.github.bucket4j.postgresql.Bucket4jPostgreSQL;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import javax.sql.DataSource;
 import java.time.Duration;
 
 @Configuration
 @RequiredArgsConstructor
 public class RateLimitConfig {
 
+    public static final String BUCKET_CACHE_NAME = "rateLimitBuckets";
+    public static final String USER_BUCKET_CACHE_NAME = "rateLimitUserBuckets";
+
     private final RateLimitProperties properties;
+    private final CacheProperties cacheProperties;
 
+    /**
+     * Buckets live outside the CacheManager, so their stats are bound to Micrometer here.
+     */
     @Bean
-    public Cache<String, Bucket> bucketCache() {
-        return Caffeine.newBuilder()
-            .expireAfterAccess(Duration.ofHours(1))
-            .maximumSize(10000)
-            .build();
+    public Cache<String, Bucket> bucketCache(MeterRegistry meterRegistry) {
+        Cache<String, Bucket> cache = cacheProperties.profile(BUCKET_CACHE_NAME).newBuilder().build();
+        return CaffeineCacheMetrics.monitor(meterRegistry, cache, BUCKET_CACHE_NAME);
+    }
+
+    @Bean
+    public Cache<Long, UserBucket> userBucketCache(MeterRegistry meterRegistry) {
+        Cache<Long, UserBucket> cache = cacheProperties.profile(USER_BUCKET_CACHE_NAME).newBuilder().build();
+        return CaffeineCacheMetrics.monitor(meterRegistry, cache, USER_BUCKET_CACHE_NAME);
+    }
+
+    /**
+     * Bucket state in the shared {@code bucket} table, serialized per key with advisory locks.
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "rate-limit", name = "distributed", havingValue = "true")
+    public ProxyManager<Long> rateLimitProxyManager(DataSource dataSource) {
+        return Bucket4jPostgreSQL.advisoryLockBasedBuilder(dataSource).build();
     }
 
     @Bean
     public Bandwidth defaultBandwidth() {
-        return Bandwidth.classic(
-            properties.getDefaultCapacity(),
-            Refill.intervally(properties.getDefaultRequestsPerMinute(), Duration.ofMinutes(1))
-        );
+        return Bandwidth.builder()
+            .capacity(properties.getDefaultCapacity())
+            .refillIntervally(properties.getDefaultRequestsPerMinute(), Duration.ofMinutes(1))
+            .build();
     }
 
     @Bean
     public Bandwidth apiKeyBandwidth() {
-        return Bandwidth.classic(
-            properties.getApiKeyCapacity(),
-            Refill.intervally(properties.getApiKeyRequestsPerMinute(), Duration.ofMinutes(1))
-        );
+        return Bandwidth.builder()
+            .capacity(properties.getApiKeyCapacity())
+            .refillIntervally(properties.getApiKeyRequestsPerMinute(), Duration.ofMinutes(1))
+            .build();
     }
 }
@@ -0,0 +1,12 @@
+package com.afadhitya.taskmanagement.infrastructure.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables scheduled background work such as the bulk job queue poller.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
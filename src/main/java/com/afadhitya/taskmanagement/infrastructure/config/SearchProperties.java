@@ -0,0 +1,20 @@
+package com.afadhitya.taskmanagement.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Tuning for workspace search.
+ * Task, project and user branches run concurrently on a pool of {@code threads} workers;
+ * a branch still running after {@code branchTimeoutMs} is reported as timed out.
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "search")
+public class SearchProperties {
+
+    private int threads = 6;
+    private int queueCapacity = 50;
+    private long branchTimeoutMs = 1000;
+}
@@ -47,6 +47,8 @@ public class SecurityConfig {
                         // Public endpoints - Swagger/OpenAPI
                         .requestMatchers("/swagger-ui.html", "/swagger-ui/**").permitAll()
                         .requestMatchers("/v3/api-docs/**", "/api-docs/**").permitAll()
+                        // Operational metrics - platform admins only
+                        .requestMatchers("/actuator/metrics/**").hasRole("ADMIN")
                         // All other endpoints require authentication
                         .anyRequest().authenticated()
                 )
@@ -3,26 +3,104 @@ package com.afadhitya.taskmanagement.infrastructure.ratelimit;
 import com.github.benmanes.caffeine.cache.Cache;
 import io.github.bucket4j.Bandwidth;
 import io.github.bucket4j.Bucket;
-import lombok.RequiredArgsConstructor;
+import io.github.bucket4j.BucketConfiguration;
+import io.github.bucket4j.TokensInheritanceStrategy;
+import io.github.bucket4j.distributed.proxy.ProxyManager;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+/**
+ * Hands out rate-limit buckets. Users are keyed by their id and get their plan's rate;
+ * API keys and anonymous clients share the configured bandwidths.
+ * When a {@link ProxyManager} is configured (rate-limit.distributed=true) bucket state lives
+ * in Postgres so limits hold across nodes; otherwise buckets are local Caffeine entries.
+ */
 @Service
-@RequiredArgsConstructor
 public class BucketProvider {
 
+    private final Cache<Long, UserBucket> userBucketCache;
     private final Cache<String, Bucket> bucketCache;
     private final Bandwidth defaultBandwidth;
     private final Bandwidth apiKeyBandwidth;
+    private final ProxyManager<Long> proxyManager;
 
-    public Bucket getDefaultBucket(String key) {
-        return bucketCache.get(key, k -> Bucket.builder()
-            .addLimit(defaultBandwidth)
-            .build());
+    public BucketProvider(Cache<Long, UserBucket> userBucketCache,
+                          Cache<String, Bucket> bucketCache,
+                          Bandwidth defaultBandwidth,
+                          Bandwidth apiKeyBandwidth,
+                          ObjectProvider<ProxyManager<Long>> proxyManager) {
+        this.userBucketCache = userBucketCache;
+        this.bucketCache = bucketCache;
+        this.defaultBandwidth = defaultBandwidth;
+        this.apiKeyBandwidth = apiKeyBandwidth;
+        this.proxyManager = proxyManager.getIfAvailable();
+    }
+
+    /**
+     * Bucket for an authenticated user. A changed rate is applied to the existing bucket,
+     * keeping the tokens already consumed. In Postgres the configuration is versioned by when
+     * the rate was resolved, so a lowered rate replaces a higher one and a node holding an older
+     * resolution does not undo a newer one.
+     */
+    public Bucket getUserBucket(long userId, UserRequestRate rate) {
+        int requestsPerMinute = rate.requestsPerMinute();
+        if (proxyManager != null) {
+            return proxyManager.builder()
+                .withImplicitConfigurationReplacement(rate.resolvedAt(), TokensInheritanceStrategy.AS_IS)
+                .build(userId, () -> configuration(perMinute(requestsPerMinute)));
+        }
+        UserBucket userBucket = userBucketCache.get(userId,
+            id -> new UserBucket(requestsPerMinute, Bucket.builder().addLimit(perMinute(requestsPerMinute)).build()));
+        if (userBucket.requestsPerMinute() != requestsPerMinute) {
+            userBucket.bucket().replaceConfiguration(configuration(perMinute(requestsPerMinute)),
+                TokensInheritanceStrategy.AS_IS);
+            userBucketCache.put(userId, new UserBucket(requestsPerMinute, userBucket.bucket()));
+        }
+        return userBucket.bucket();
+    }
+
+    public Bucket getApiKeyBucket(String apiKey) {
+        return sharedBucket("apikey:", apiKey, apiKeyBandwidth);
+    }
+
+    public Bucket getAnonymousBucket(String clientIp) {
+        return sharedBucket("ip:", clientIp, defaultBandwidth);
     }
 
-    public Bucket getApiKeyBucket(String key) {
-        return bucketCache.get(key, k -> Bucket.builder()
-            .addLimit(apiKeyBandwidth)
+    private Bucket sharedBucket(String prefix, String value, Bandwidth bandwidth) {
+        if (proxyManager != null) {
+            return proxyManager.builder().build(sharedKey(prefix, value), () -> configuration(bandwidth));
+        }
+        return bucketCache.get(prefix + value, k -> Bucket.builder()
+            .addLimit(bandwidth)
             .build());
     }
+
+    private static Bandwidth perMinute(int requestsPerMinute) {
+        return Bandwidth.builder()
+            .capacity(requestsPerMinute)
+            .refillIntervally(requestsPerMinute, Duration.ofMinutes(1))
+            .build();
+    }
+
+    private static BucketConfiguration configuration(Bandwidth bandwidth) {
+        return BucketConfiguration.builder()
+            .addLimit(bandwidth)
+            .build();
+    }
+
+    /**
+     * 64-bit FNV-1a of the key, mapped to negative ids so it never collides with a user id.
+     */
+    private static long sharedKey(String prefix, String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : (prefix + value).getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= 0x100000001b3L;
+        }
+        return -1 - (hash & Long.MAX_VALUE);
+    }
 }
@@ -0,0 +1,40 @@
+package com.afadhitya.taskmanagement.infrastructure.ratelimit;
+
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Counts in-flight requests per (group, caller) so a single client cannot hold many
+ * database connections on expensive endpoints. Entries are removed when they drop to zero.
+ */
+@Component
+public class InFlightLimiter {
+
+    private final ConcurrentMap<Key, Integer> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * Takes a slot if the caller is below {@code maxInFlight}; every successful call must be
+     * paired with {@link #release}.
+     */
+    public boolean tryAcquire(String group, Object caller, int maxInFlight) {
+        boolean[] acquired = {false};
+        inFlight.compute(new Key(group, caller), (key, count) -> {
+            int current = count != null ? count : 0;
+            if (current >= maxInFlight) {
+                return count;
+            }
+            acquired[0] = true;
+            return current + 1;
+        });
+        return acquired[0];
+    }
+
+    public void release(String group, Object caller) {
+        inFlight.computeIfPresent(new Key(group, caller), (key, count) -> count > 1 ? count - 1 : null);
+    }
+
+    private record Key(String group, Object caller) {
+    }
+}
@@ -0,0 +1,47 @@
+package com.afadhitya.taskmanagement.infrastructure.ratelimit;
+
+import com.afadhitya.taskmanagement.application.port.out.feature.FeatureTogglePort;
+import com.afadhitya.taskmanagement.application.port.out.workspace.WorkspaceMemberPersistencePort;
+import com.afadhitya.taskmanagement.domain.feature.LimitType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+/**
+ * Resolves a user's requests-per-minute from the plans of the workspaces they belong to,
+ * taking the most generous one. Results are kept in the {@value #CACHE_NAME} cache, so plan
+ * and membership changes apply once the entry expires.
+ */
+@Component
+@RequiredArgsConstructor
+public class PlanRateLimitResolver {
+
+    public static final String CACHE_NAME = "userRequestRates";
+
+    /** Returned for plans without a rate limit. */
+    public static final int UNLIMITED = -1;
+
+    private final FeatureTogglePort featureTogglePort;
+    private final WorkspaceMemberPersistencePort workspaceMemberPersistencePort;
+    private final RateLimitProperties properties;
+    private final CacheManager cacheManager;
+
+    public UserRequestRate requestRate(long userId) {
+        UserRequestRate rate = cacheManager.getCache(CACHE_NAME).get(userId,
+                () -> new UserRequestRate(resolve(userId), System.currentTimeMillis()));
+        return rate != null ? rate : new UserRequestRate(properties.getDefaultRequestsPerMinute(), 0);
+    }
+
+    private int resolve(long userId) {
+        int best = 0;
+        for (Long workspaceId : workspaceMemberPersistencePort.findWorkspaceIdsByUserId(userId)) {
+            int limit = featureTogglePort.getEntitlements(workspaceId).getLimit(LimitType.API_REQUESTS_PER_MINUTE);
+            if (limit == UNLIMITED) {
+                return UNLIMITED;
+            }
+            best = Math.max(best, limit);
+        }
+        // No workspace, or no plan defines the limit
+        return best > 0 ? best : properties.getDefaultRequestsPerMinute();
+    }
+}
@@ -0,0 +1,33 @@
+package com.afadhitya.taskmanagement.infrastructure.ratelimit;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Deletes distributed buckets that have been idle longer than a refill period.
+ * Such a bucket is full again, so recreating it on the next request changes nothing.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "rate-limit", name = "distributed", havingValue = "true")
+public class RateLimitBucketJanitor {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Scheduled(fixedDelayString = "${rate-limit.cleanup-interval-ms:600000}")
+    public void deleteIdleBuckets() {
+        try {
+            int deleted = jdbcTemplate.update("DELETE FROM bucket WHERE updated_at < now() - interval '10 minutes'");
+            if (deleted > 0) {
+                log.debug("Deleted {} idle rate-limit buckets", deleted);
+            }
+        } catch (Exception e) {
+            log.error("Failed to delete idle rate-limit buckets", e);
+        }
+    }
+}
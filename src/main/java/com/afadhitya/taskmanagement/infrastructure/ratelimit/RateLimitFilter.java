@@ -1,8 +1,12 @@
 package com.afadhitya.taskmanagement.infrastructure.ratelimit;
 
-import com.afadhitya.taskmanagement.infrastructure.security.JwtService;
+import com.afadhitya.taskmanagement.infrastructure.security.BearerTokenResolver;
+import com.afadhitya.taskmanagement.infrastructure.security.VerifiedToken;
 
 import io.github.bucket4j.Bucket;
+import io.github.bucket4j.ConsumptionProbe;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -17,6 +21,7 @@ import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.Optional;
 
 @Slf4j
 @Component
@@ -25,11 +30,14 @@ import java.io.IOException;
 public class RateLimitFilter extends OncePerRequestFilter {
 
     private final BucketProvider bucketProvider;
-    private final JwtService jwtService;
+    private final BearerTokenResolver bearerTokenResolver;
+    private final PlanRateLimitResolver planRateLimitResolver;
+    private final RateLimitProperties properties;
+    private final RouteCostTable routeCostTable;
+    private final InFlightLimiter inFlightLimiter;
 
-    private static final String AUTHORIZATION_HEADER = "Authorization";
-    private static final String BEARER_PREFIX = "Bearer ";
     private static final String API_KEY_HEADER = "X-Api-Key";
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
 
     @Override
     protected void doFilterInternal(
@@ -38,61 +46,120 @@ public class RateLimitFilter extends OncePerRequestFilter {
             @NonNull FilterChain filterChain
     ) throws ServletException, IOException {
 
-        String identifier = extractIdentifier(request);
-        boolean isApiKey = isApiKeyRequest(request);
+        Bucket bucket;
+        long limit;
+        Object caller;
+        Optional<VerifiedToken> token = bearerTokenResolver.resolveAccessToken(request);
+        String apiKey = request.getHeader(API_KEY_HEADER);
+
+        if (token.isPresent()) {
+            long userId = token.get().userId();
+            UserRequestRate rate = planRateLimitResolver.requestRate(userId);
+            // Unlimited plans skip the bucket but are still subject to in-flight caps
+            bucket = rate.requestsPerMinute() == PlanRateLimitResolver.UNLIMITED
+                ? null
+                : bucketProvider.getUserBucket(userId, rate);
+            limit = rate.requestsPerMinute();
+            caller = userId;
+        } else if (StringUtils.hasText(apiKey)) {
+            bucket = bucketProvider.getApiKeyBucket(apiKey);
+            limit = properties.getApiKeyCapacity();
+            caller = "apikey:" + apiKey;
+        } else {
+            String clientIp = extractClientIp(request);
+            bucket = bucketProvider.getAnonymousBucket(clientIp);
+            limit = properties.getDefaultCapacity();
+            caller = "ip:" + clientIp;
+        }
 
-        Bucket bucket = isApiKey
-            ? bucketProvider.getApiKeyBucket(identifier)
-            : bucketProvider.getDefaultBucket(identifier);
+        if (bucket != null) {
+            // A cost above the bucket's capacity could never be paid
+            long cost = Math.min(routeCostTable.costOf(request), limit);
+            ConsumptionProbe probe = bucket.tryConsumeAndReturnRemaining(cost);
+            response.setHeader("X-RateLimit-Limit", Long.toString(limit));
+            response.setHeader("X-RateLimit-Remaining", Long.toString(probe.getRemainingTokens()));
+
+            if (!probe.isConsumed()) {
+                long retryAfterSeconds = Math.max(1,
+                    (probe.getNanosToWaitForRefill() + NANOS_PER_SECOND - 1) / NANOS_PER_SECOND);
+                log.warn("Rate limit exceeded, URI: {}, retry after {}s", request.getRequestURI(), retryAfterSeconds);
+                sendRateLimitResponse(response, retryAfterSeconds);
+                return;
+            }
+        }
 
-        if (!bucket.tryConsume(1)) {
-            log.warn("Rate limit exceeded for identifier: {}, URI: {}", identifier, request.getRequestURI());
-            sendRateLimitResponse(response);
+        RouteCostTable.GroupRule group = routeCostTable.groupOf(request);
+        if (group == null) {
+            filterChain.doFilter(request, response);
             return;
         }
 
-        filterChain.doFilter(request, response);
+        if (!inFlightLimiter.tryAcquire(group.name(), caller, group.maxInFlight())) {
+            log.warn("Concurrency limit exceeded for group: {}, URI: {}", group.name(), request.getRequestURI());
+            sendConcurrencyLimitResponse(response, group.maxInFlight());
+            return;
+        }
+        boolean releaseOnReturn = true;
+        try {
+            filterChain.doFilter(request, response);
+            if (request.isAsyncStarted()) {
+                // Streamed responses keep their slot until the async request finishes
+                request.getAsyncContext().addListener(new ReleasingAsyncListener(group.name(), caller));
+                releaseOnReturn = false;
+            }
+        } finally {
+            if (releaseOnReturn) {
+                inFlightLimiter.release(group.name(), caller);
+            }
+        }
     }
 
-    private void sendRateLimitResponse(HttpServletResponse response) throws IOException {
+    private void sendConcurrencyLimitResponse(HttpServletResponse response, int maxInFlight) throws IOException {
         response.setStatus(429);
         response.setContentType("application/json");
-        response.setHeader("Retry-After", "60");
+        response.setHeader("Retry-After", "1");
         response.getWriter().write(
-            "{\"error\":\"RATE_LIMIT_EXCEEDED\",\"message\":\"Rate limit exceeded. Retry after 60 seconds.\"}"
+            "{\"error\":\"CONCURRENCY_LIMIT_EXCEEDED\",\"message\":\"At most " + maxInFlight
+                + " such requests may run at once.\"}"
         );
     }
 
-    private String extractIdentifier(HttpServletRequest request) {
-        String jwt = extractJwtFromRequest(request);
-        if (jwt != null && jwtService.isTokenValid(jwt) && !jwtService.isRefreshToken(jwt)) {
-            try {
-                Long userId = jwtService.extractUserId(jwt);
-                return "user:" + userId;
-            } catch (Exception e) {
-                log.debug("Could not extract userId from JWT, falling back to IP");
-            }
+    private void sendRateLimitResponse(HttpServletResponse response, long retryAfterSeconds) throws IOException {
+        response.setStatus(429);
+        response.setContentType("application/json");
+        response.setHeader("Retry-After", Long.toString(retryAfterSeconds));
+        response.getWriter().write(
+            "{\"error\":\"RATE_LIMIT_EXCEEDED\",\"message\":\"Rate limit exceeded. Retry after "
+                + retryAfterSeconds + " seconds.\"}"
+        );
+    }
+
+    private final class ReleasingAsyncListener implements AsyncListener {
+
+        private final String group;
+        private final Object caller;
+
+        private ReleasingAsyncListener(String group, Object caller) {
+            this.group = group;
+            this.caller = caller;
         }
 
-        String apiKey = request.getHeader(API_KEY_HEADER);
-        if (StringUtils.hasText(apiKey)) {
-            return "apikey:" + apiKey;
+        @Override
+        public void onComplete(AsyncEvent event) {
+            inFlightLimiter.release(group, caller);
         }
 
-        String clientIp = extractClientIp(request);
-        return "ip:" + clientIp;
-    }
+        @Override
+        public void onTimeout(AsyncEvent event) {
+        }
 
-    private boolean isApiKeyRequest(HttpServletRequest request) {
-        return StringUtils.hasText(request.getHeader(API_KEY_HEADER));
-    }
+        @Override
+        public void onError(AsyncEvent event) {
+        }
 
-    private String extractJwtFromRequest(HttpServletRequest request) {
-        String bearerToken = request.getHeader(AUTHORIZATION_HEADER);
-        if (StringUtils.hasText(bearerToken) && bearerToken.startsWith(BEARER_PREFIX)) {
-            return bearerToken.substring(BEARER_PREFIX.length());
+        @Override
+        public void onStartAsync(AsyncEvent event) {
         }
-        return null;
     }
 
     private String extractClientIp(HttpServletRequest request) {
@@ -4,6 +4,11 @@ import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
 @Data
 @Configuration
 @ConfigurationProperties(prefix = "rate-limit")
@@ -13,4 +18,27 @@ public class RateLimitProperties {
     private int defaultCapacity;
     private int apiKeyRequestsPerMinute;
     private int apiKeyCapacity;
+    /** Keep bucket state in Postgres so limits hold across all nodes. */
+    private boolean distributed;
+    /** Tokens consumed by matching requests; first match wins, anything else costs 1. */
+    private List<RouteCost> routeCosts = new ArrayList<>();
+    /** In-flight request caps per caller, by group name. */
+    private Map<String, ConcurrencyGroup> concurrency = new LinkedHashMap<>();
+
+    @Data
+    public static class RouteCost {
+
+        /** HTTP method to match, or any method when empty. */
+        private String method;
+        /** Path pattern relative to the context path, e.g. {@code /projects/{projectId}/tasks/bulk}. */
+        private String pattern;
+        private int cost = 1;
+    }
+
+    @Data
+    public static class ConcurrencyGroup {
+
+        private List<String> patterns = new ArrayList<>();
+        private int maxInFlight = 1;
+    }
 }
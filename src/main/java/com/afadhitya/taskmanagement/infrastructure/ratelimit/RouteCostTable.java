@@ -0,0 +1,77 @@
+package com.afadhitya.taskmanagement.infrastructure.ratelimit;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.server.PathContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Token cost and concurrency group of a request, from the patterns in {@link RateLimitProperties}.
+ * Patterns are parsed once at startup.
+ */
+@Component
+public class RouteCostTable {
+
+    private final List<CostRule> costRules = new ArrayList<>();
+    private final List<GroupRule> groupRules = new ArrayList<>();
+
+    public RouteCostTable(RateLimitProperties properties) {
+        PathPatternParser parser = PathPatternParser.defaultInstance;
+        for (RateLimitProperties.RouteCost routeCost : properties.getRouteCosts()) {
+            costRules.add(new CostRule(
+                StringUtils.hasText(routeCost.getMethod()) ? routeCost.getMethod().toUpperCase() : null,
+                parser.parse(routeCost.getPattern()),
+                Math.max(1, routeCost.getCost())));
+        }
+        for (Map.Entry<String, RateLimitProperties.ConcurrencyGroup> group : properties.getConcurrency().entrySet()) {
+            for (String pattern : group.getValue().getPatterns()) {
+                groupRules.add(new GroupRule(group.getKey(), parser.parse(pattern), group.getValue().getMaxInFlight()));
+            }
+        }
+    }
+
+    public int costOf(HttpServletRequest request) {
+        if (costRules.isEmpty()) {
+            return 1;
+        }
+        PathContainer path = path(request);
+        for (CostRule rule : costRules) {
+            if ((rule.method() == null || rule.method().equals(request.getMethod())) && rule.pattern().matches(path)) {
+                return rule.cost();
+            }
+        }
+        return 1;
+    }
+
+    /**
+     * The concurrency group the request belongs to, or null when its in-flight count is not capped.
+     */
+    public GroupRule groupOf(HttpServletRequest request) {
+        if (groupRules.isEmpty()) {
+            return null;
+        }
+        PathContainer path = path(request);
+        for (GroupRule rule : groupRules) {
+            if (rule.pattern().matches(path)) {
+                return rule;
+            }
+        }
+        return null;
+    }
+
+    private static PathContainer path(HttpServletRequest request) {
+        return PathContainer.parsePath(request.getRequestURI().substring(request.getContextPath().length()));
+    }
+
+    private record CostRule(String method, PathPattern pattern, int cost) {
+    }
+
+    public record GroupRule(String name, PathPattern pattern, int maxInFlight) {
+    }
+}
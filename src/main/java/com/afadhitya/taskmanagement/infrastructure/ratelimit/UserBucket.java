@@ -0,0 +1,9 @@
+package com.afadhitya.taskmanagement.infrastructure.ratelimit;
+
+import io.github.bucket4j.Bucket;
+
+/**
+ * A user's local bucket together with the rate it was configured for.
+ */
+public record UserBucket(int requestsPerMinute, Bucket bucket) {
+}
@@ -0,0 +1,9 @@
+package com.afadhitya.taskmanagement.infrastructure.ratelimit;
+
+/**
+ * A user's resolved requests-per-minute and when it was resolved, in epoch milliseconds.
+ * The resolution time is the bucket configuration version, so the latest resolution wins
+ * whether the rate went up or down.
+ */
+public record UserRequestRate(int requestsPerMinute, long resolvedAt) {
+}
@@ -0,0 +1,48 @@
+package com.afadhitya.taskmanagement.infrastructure.security;
+
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.util.Optional;
+
+/**
+ * Verifies the request's bearer token at most once. The outcome, including "no valid token",
+ * is kept as a request attribute so every filter in the chain shares the same parse.
+ */
+@Component
+@RequiredArgsConstructor
+public class BearerTokenResolver {
+
+    public static final String VERIFIED_TOKEN_ATTRIBUTE = BearerTokenResolver.class.getName() + ".VERIFIED_TOKEN";
+
+    private static final String AUTHORIZATION_HEADER = "Authorization";
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final JwtService jwtService;
+
+    /**
+     * The verified access token of this request, or empty when absent, invalid or a refresh token.
+     */
+    @SuppressWarnings("unchecked")
+    public Optional<VerifiedToken> resolveAccessToken(HttpServletRequest request) {
+        Object cached = request.getAttribute(VERIFIED_TOKEN_ATTRIBUTE);
+        if (cached != null) {
+            return (Optional<VerifiedToken>) cached;
+        }
+        Optional<VerifiedToken> token = Optional.ofNullable(extractJwt(request))
+                .flatMap(jwtService::verify)
+                .filter(verified -> !verified.isRefreshToken());
+        request.setAttribute(VERIFIED_TOKEN_ATTRIBUTE, token);
+        return token;
+    }
+
+    private String extractJwt(HttpServletRequest request) {
+        String bearerToken = request.getHeader(AUTHORIZATION_HEADER);
+        if (StringUtils.hasText(bearerToken) && bearerToken.startsWith(BEARER_PREFIX)) {
+            return bearerToken.substring(BEARER_PREFIX.length());
+        }
+        return null;
+    }
+}
@@ -1,7 +1,10 @@
 package com.afadhitya.taskmanagement.infrastructure.security;
 
 import com.afadhitya.taskmanagement.application.port.in.project.ProjectPermissionUseCase;
+import com.afadhitya.taskmanagement.application.port.in.task.TaskPermissionUseCase;
 import com.afadhitya.taskmanagement.application.port.out.comment.CommentPersistencePort;
+import com.afadhitya.taskmanagement.application.port.out.task.TaskPersistencePort;
+import com.afadhitya.taskmanagement.application.port.out.task.TaskScope;
 import com.afadhitya.taskmanagement.domain.entity.Comment;
 import com.afadhitya.taskmanagement.domain.enums.ProjectPermission;
 import lombok.RequiredArgsConstructor;
@@ -12,7 +15,16 @@ import org.springframework.stereotype.Component;
 public class CommentSecurityExpression {
 
     private final CommentPersistencePort commentPersistencePort;
+    private final TaskPersistencePort taskPersistencePort;
     private final ProjectPermissionUseCase projectPermissionUseCase;
+    private final TaskPermissionUseCase taskPermissionUseCase;
+
+    public boolean canViewComment(Long commentId) {
+        Long currentUserId = SecurityUtils.getCurrentUserId();
+        Long taskId = commentPersistencePort.findTaskIdById(commentId)
+                .orElseThrow(() -> new IllegalArgumentException("Comment not found with id: " + commentId));
+        return taskPermissionUseCase.canViewTask(taskId, currentUserId);
+    }
 
     public boolean canModifyComment(Long commentId) {
         Long currentUserId = SecurityUtils.getCurrentUserId();
@@ -27,7 +39,8 @@ public class CommentSecurityExpression {
         }
 
         // Check if user is project manager
-        Long projectId = comment.getTask().getProject().getId();
-        return projectPermissionUseCase.hasPermission(projectId, currentUserId, ProjectPermission.MANAGER);
+        TaskScope taskScope = taskPersistencePort.findScopeById(comment.getTask().getId())
+                .orElseThrow(() -> new IllegalArgumentException("Task not found for comment: " + commentId));
+        return projectPermissionUseCase.hasPermission(taskScope.projectId(), currentUserId, ProjectPermission.MANAGER);
     }
 }
@@ -1,5 +1,7 @@
 package com.afadhitya.taskmanagement.infrastructure.security;
 
+import com.afadhitya.taskmanagement.application.port.out.auth.UserStatus;
+import com.afadhitya.taskmanagement.application.port.out.auth.UserStatusPort;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -11,14 +13,12 @@ import org.springframework.core.annotation.Order;
 import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
-import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.Optional;
 
 @Slf4j
 @Component
@@ -26,11 +26,8 @@ import java.io.IOException;
 @Order(Ordered.HIGHEST_PRECEDENCE + 200)
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
-    private final JwtService jwtService;
-    private final UserDetailsService userDetailsService;
-
-    private static final String AUTHORIZATION_HEADER = "Authorization";
-    private static final String BEARER_PREFIX = "Bearer ";
+    private final BearerTokenResolver bearerTokenResolver;
+    private final UserStatusPort userStatusPort;
 
     @Override
     protected void doFilterInternal(
@@ -39,14 +36,15 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             @NonNull FilterChain filterChain
     ) throws ServletException, IOException {
         try {
-            String jwt = extractJwtFromRequest(request);
+            Optional<VerifiedToken> token = bearerTokenResolver.resolveAccessToken(request);
 
-            if (jwt != null && jwtService.isTokenValid(jwt) && !jwtService.isRefreshToken(jwt)) {
-                Long userId = jwtService.extractUserId(jwt);
-                String email = extractEmailFromToken(jwt);
+            if (token.isPresent() && SecurityContextHolder.getContext().getAuthentication() == null) {
+                VerifiedToken verified = token.get();
+                // Cached status catches deactivation and role changes made after the token was issued
+                Optional<UserStatus> status = userStatusPort.findStatus(verified.userId());
 
-                if (SecurityContextHolder.getContext().getAuthentication() == null) {
-                    UserDetails userDetails = userDetailsService.loadUserByUsername(email);
+                if (status.isPresent() && status.get().isEnabled()) {
+                    UserDetailsImpl userDetails = UserDetailsImpl.fromToken(verified, status.get().role());
 
                     UsernamePasswordAuthenticationToken authentication =
                             UsernamePasswordAuthenticationToken.authenticated(
@@ -59,7 +57,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                     );
 
                     SecurityContextHolder.getContext().setAuthentication(authentication);
-                    log.debug("Authenticated user: {}, URI: {}", email, request.getRequestURI());
+                    log.debug("Authenticated user: {}, URI: {}", verified.email(), request.getRequestURI());
                 }
             }
         } catch (Exception e) {
@@ -68,16 +66,4 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         filterChain.doFilter(request, response);
     }
-
-    private String extractJwtFromRequest(HttpServletRequest request) {
-        String bearerToken = request.getHeader(AUTHORIZATION_HEADER);
-        if (StringUtils.hasText(bearerToken) && bearerToken.startsWith(BEARER_PREFIX)) {
-            return bearerToken.substring(BEARER_PREFIX.length());
-        }
-        return null;
-    }
-
-    private String extractEmailFromToken(String token) {
-        return jwtService.extractClaim(token, claims -> claims.get("email", String.class));
-    }
 }
@@ -1,8 +1,8 @@
 package com.afadhitya.taskmanagement.infrastructure.security;
 
 import com.afadhitya.taskmanagement.domain.entity.User;
+import com.afadhitya.taskmanagement.domain.enums.UserRole;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -10,33 +10,49 @@ import org.springframework.security.core.userdetails.UserDetails;
 import java.util.Collection;
 import java.util.List;
 
+/**
+ * Authenticated principal. Built from the {@link User} row at login, and from
+ * verified token claims on API requests, where no password hash is available.
+ */
 @Getter
-@RequiredArgsConstructor
 public class UserDetailsImpl implements UserDetails {
 
-    private final User user;
+    private final Long id;
+    private final String email;
+    private final String passwordHash;
+    private final UserRole role;
+    private final boolean active;
 
-    public Long getId() {
-        return user.getId();
+    public UserDetailsImpl(User user) {
+        this(user.getId(), user.getEmail(), user.getPasswordHash(), user.getRole(),
+                Boolean.TRUE.equals(user.getIsActive()));
     }
 
-    public String getEmail() {
-        return user.getEmail();
+    private UserDetailsImpl(Long id, String email, String passwordHash, UserRole role, boolean active) {
+        this.id = id;
+        this.email = email;
+        this.passwordHash = passwordHash;
+        this.role = role;
+        this.active = active;
+    }
+
+    public static UserDetailsImpl fromToken(VerifiedToken token, UserRole role) {
+        return new UserDetailsImpl(token.userId(), token.email(), null, role, true);
     }
 
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
-        return List.of(new SimpleGrantedAuthority("ROLE_" + user.getRole().name()));
+        return List.of(new SimpleGrantedAuthority("ROLE_" + role.name()));
     }
 
     @Override
     public String getPassword() {
-        return user.getPasswordHash();
+        return passwordHash;
     }
 
     @Override
     public String getUsername() {
-        return user.getEmail();
+        return email;
     }
 
     @Override
@@ -56,6 +72,6 @@ public class UserDetailsImpl implements UserDetails {
 
     @Override
     public boolean isEnabled() {
-        return Boolean.TRUE.equals(user.getIsActive());
+        return active;
     }
 }
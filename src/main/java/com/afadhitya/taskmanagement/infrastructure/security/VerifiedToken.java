@@ -0,0 +1,19 @@
+package com.afadhitya.taskmanagement.infrastructure.security;
+
+import java.time.Instant;
+
+/**
+ * Claims of a JWT whose signature and expiry have already been checked. The role claim is
+ * deliberately not read; the current role comes from the cached user status.
+ */
+public record VerifiedToken(
+        Long userId,
+        String email,
+        String type,
+        Instant expiresAt
+) {
+
+    public boolean isRefreshToken() {
+        return "refresh".equals(type);
+    }
+}
@@ -0,0 +1,108 @@
+package com.afadhitya.taskmanagement.infrastructure.sse;
+
+import com.afadhitya.taskmanagement.application.event.LiveEvent;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * The most recent events seen by this node, kept for Last-Event-ID resume. Ids are
+ * {@code <node>:<sequence>} with a node id that changes on every start, so an id issued by
+ * another node or before a restart is never mistaken for a local position; the client is told
+ * to resync instead of silently missing events. Not thread-safe; the broker guards it.
+ */
+final class LiveEventLog {
+
+    static final Entry HEARTBEAT = new Entry(null, -1, null);
+    static final Entry RESET = new Entry(null, -1, LiveEvent.builder().name("stream.reset").build());
+
+    private static final char SEPARATOR = ':';
+
+    private final Deque<Entry> entries = new ArrayDeque<>();
+    private final int capacity;
+    private final String nodeId;
+    private long nextSequence = 1;
+
+    LiveEventLog(int capacity, String nodeId) {
+        this.capacity = Math.max(1, capacity);
+        this.nodeId = nodeId;
+    }
+
+    Entry append(LiveEvent event) {
+        if (entries.size() == capacity) {
+            entries.removeFirst();
+        }
+        Entry entry = new Entry(nodeId, nextSequence++, event);
+        entries.addLast(entry);
+        return entry;
+    }
+
+    /**
+     * Events after {@code lastEventId}, oldest first, or null when the log cannot tell what was missed.
+     */
+    List<Entry> since(String lastEventId) {
+        long lastSequence = parseSequence(lastEventId);
+        if (lastSequence < 0) {
+            return null;
+        }
+        if (lastSequence == nextSequence - 1) {
+            return List.of();
+        }
+        // Not issued yet or already evicted
+        if (lastSequence > nextSequence - 1 || entries.isEmpty() || lastSequence < entries.getFirst().sequence() - 1) {
+            return null;
+        }
+        List<Entry> missed = new ArrayList<>();
+        Iterator<Entry> newestFirst = entries.descendingIterator();
+        while (newestFirst.hasNext()) {
+            Entry entry = newestFirst.next();
+            if (entry.sequence() <= lastSequence) {
+                break;
+            }
+            missed.add(entry);
+        }
+        Collections.reverse(missed);
+        return missed;
+    }
+
+    /**
+     * The sequence of an id issued by this node, or -1 for anything else.
+     */
+    private long parseSequence(String eventId) {
+        int separator = eventId.lastIndexOf(SEPARATOR);
+        if (separator < 0 || !eventId.substring(0, separator).equals(nodeId)) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(eventId.substring(separator + 1));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    record Entry(String nodeId, long sequence, LiveEvent event) {
+
+        String id() {
+            return nodeId + SEPARATOR + sequence;
+        }
+
+        /**
+         * A fresh builder per send; SseEventBuilder is consumed when it is written.
+         */
+        SseEmitter.SseEventBuilder toSse() {
+            if (event == null) {
+                return SseEmitter.event().comment("ping");
+            }
+            SseEmitter.SseEventBuilder builder = SseEmitter.event().name(event.getName());
+            if (nodeId != null) {
+                builder.id(id());
+            }
+            return builder.data(event.getData() != null ? event.getData() : "");
+        }
+    }
+}
@@ -0,0 +1,331 @@
+package com.afadhitya.taskmanagement.infrastructure.sse;
+
+import com.afadhitya.taskmanagement.adapter.out.persistence.PgNotificationBus;
+import com.afadhitya.taskmanagement.application.event.LiveEvent;
+import com.afadhitya.taskmanagement.application.port.out.auth.UserStatus;
+import com.afadhitya.taskmanagement.application.port.out.auth.UserStatusPort;
+import com.afadhitya.taskmanagement.application.port.out.live.LiveEventPort;
+import com.afadhitya.taskmanagement.application.port.out.project.ProjectPersistencePort;
+import com.afadhitya.taskmanagement.infrastructure.config.LiveEventProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Server-sent event streams for this node. Streams are indexed by workspace, project and user,
+ * so publishing touches only the streams that want the event. An idle stream is an async
+ * request with no thread attached; threads are only used while bytes are being written.
+ * With {@code live-events.distributed} on, events and disconnects are also relayed to the other
+ * nodes over {@value #CHANNEL}, packing a batch of events into as few notifications as fit; a body
+ * too large for a notification reaches peers' clients as the bare event name, and they refetch.
+ * Resume ids are per node, so a client that reconnects elsewhere gets {@code stream.reset}.
+ */
+@Slf4j
+@Component
+public class SseLiveEventBroker implements LiveEventPort {
+
+    static final String CHANNEL = "live_events";
+
+    private static final String TYPE_EVENTS = "events";
+    private static final String TYPE_DISCONNECT = "disconnect";
+
+    private final LiveEventProperties liveEventProperties;
+    private final Executor liveEventExecutor;
+    private final PgNotificationBus notificationBus;
+    private final JsonMapper jsonMapper;
+    private final UserStatusPort userStatusPort;
+    private final ProjectPersistencePort projectPersistencePort;
+    private final Counter stalledStreams;
+    private final String nodeId = UUID.randomUUID().toString().substring(0, 8);
+    private final LiveEventLog eventLog;
+    private final Object publishLock = new Object();
+    private final Set<SseSubscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final Map<Long, Set<SseSubscriber>> byWorkspace = new ConcurrentHashMap<>();
+    private final Map<Long, Set<SseSubscriber>> byProject = new ConcurrentHashMap<>();
+    private final Map<Long, Set<SseSubscriber>> byUser = new ConcurrentHashMap<>();
+    private final AtomicInteger connections = new AtomicInteger();
+    private final int relayEnvelopeBytes;
+
+    public SseLiveEventBroker(LiveEventProperties liveEventProperties,
+                              @Qualifier("liveEventExecutor") Executor liveEventExecutor,
+                              MeterRegistry meterRegistry,
+                              PgNotificationBus notificationBus,
+                              JsonMapper jsonMapper,
+                              UserStatusPort userStatusPort,
+                              ProjectPersistencePort projectPersistencePort) {
+        this.liveEventProperties = liveEventProperties;
+        this.liveEventExecutor = liveEventExecutor;
+        this.notificationBus = notificationBus;
+        this.jsonMapper = jsonMapper;
+        this.userStatusPort = userStatusPort;
+        this.projectPersistencePort = projectPersistencePort;
+        this.eventLog = new LiveEventLog(liveEventProperties.getReplaySize(), nodeId);
+        meterRegistry.gauge("live.events.connections", connections);
+        this.stalledStreams = meterRegistry.counter("live.events.stalled");
+        this.relayEnvelopeBytes = utf8Length(jsonMapper.writeValueAsString(
+                new RelayMessage(nodeId, TYPE_EVENTS, null, null, null, List.of())));
+        if (liveEventProperties.isDistributed()) {
+            // Relayed events sent while we were not listening are lost; tell every stream to resync
+            notificationBus.subscribe(CHANNEL, this::receive, () -> subscribers.forEach(s -> s.offer(LiveEventLog.RESET)));
+        }
+    }
+
+    public Optional<SseEmitter> subscribeToWorkspace(Long userId, Long workspaceId, String lastEventId) {
+        return subscribe(userId, workspaceId, null, lastEventId);
+    }
+
+    public Optional<SseEmitter> subscribeToProject(Long userId, Long projectId, String lastEventId) {
+        // Kept on the stream so losing workspace membership closes it too
+        Long workspaceId = projectPersistencePort.findWorkspaceIdById(projectId).orElse(null);
+        return subscribe(userId, workspaceId, projectId, lastEventId);
+    }
+
+    @Override
+    public void publish(LiveEvent event) {
+        publishAll(List.of(event));
+    }
+
+    @Override
+    public void publishAll(List<LiveEvent> events) {
+        events.forEach(this::deliver);
+        if (liveEventProperties.isDistributed()) {
+            relay(events);
+        }
+    }
+
+    @Override
+    public void disconnect(Long userId, Long workspaceId, Long projectId) {
+        closeStreams(userId, workspaceId, projectId);
+        if (liveEventProperties.isDistributed()) {
+            notificationBus.publish(CHANNEL, jsonMapper.writeValueAsString(
+                    new RelayMessage(nodeId, TYPE_DISCONNECT, workspaceId, projectId, userId, null)));
+        }
+    }
+
+    /**
+     * Pings idle streams and closes those of users who have since been deactivated or deleted.
+     */
+    @Scheduled(fixedDelayString = "${live-events.heartbeat-interval-ms:15000}")
+    public void heartbeat() {
+        for (Long userId : byUser.keySet()) {
+            boolean enabled = userStatusPort.findStatus(userId).map(UserStatus::isEnabled).orElse(false);
+            if (!enabled) {
+                closeStreams(userId, null, null);
+            }
+        }
+        subscribers.forEach(SseSubscriber::offerHeartbeat);
+    }
+
+    @Scheduled(fixedDelayString = "${live-events.write-check-interval-ms:1000}")
+    public void closeStalledWrites() {
+        long now = System.nanoTime();
+        long timeout = TimeUnit.MILLISECONDS.toNanos(liveEventProperties.getWriteTimeoutMs());
+        for (SseSubscriber subscriber : subscribers) {
+            if (subscriber.closeIfStalled(now, timeout)) {
+                stalledStreams.increment();
+            }
+        }
+    }
+
+    private void deliver(LiveEvent event) {
+        // Appending and handing out under one lock keeps every stream in id order
+        synchronized (publishLock) {
+            LiveEventLog.Entry entry = eventLog.append(event);
+            if (event.getUserId() != null) {
+                deliver(byUser.get(event.getUserId()), entry);
+                return;
+            }
+            if (event.getProjectId() != null) {
+                deliver(byProject.get(event.getProjectId()), entry);
+            }
+            if (event.getWorkspaceId() != null) {
+                deliver(byWorkspace.get(event.getWorkspaceId()), entry);
+            }
+        }
+    }
+
+    /**
+     * Empty when the node is at its connection limit.
+     */
+    private Optional<SseEmitter> subscribe(Long userId, Long workspaceId, Long projectId, String lastEventId) {
+        if (connections.incrementAndGet() > liveEventProperties.getMaxConnections()) {
+            connections.decrementAndGet();
+            return Optional.empty();
+        }
+
+        SseEmitter emitter = new SseEmitter(liveEventProperties.getTimeoutMs());
+        SseSubscriber subscriber = new SseSubscriber(emitter, userId, workspaceId, projectId,
+                liveEventProperties.getBufferSize(), liveEventExecutor, this::remove);
+        emitter.onCompletion(subscriber::release);
+        emitter.onTimeout(subscriber::release);
+        emitter.onError(e -> subscriber.release());
+
+        synchronized (publishLock) {
+            subscribers.add(subscriber);
+            index(byUser, userId, subscriber);
+            if (projectId != null) {
+                index(byProject, projectId, subscriber);
+            } else {
+                index(byWorkspace, workspaceId, subscriber);
+            }
+            if (lastEventId != null) {
+                replay(subscriber, lastEventId);
+            }
+        }
+        return Optional.of(emitter);
+    }
+
+    private void replay(SseSubscriber subscriber, String lastEventId) {
+        List<LiveEventLog.Entry> missed = eventLog.since(lastEventId);
+        if (missed != null) {
+            missed = missed.stream().filter(subscriber::matches).toList();
+        }
+        if (missed == null || missed.size() >= liveEventProperties.getBufferSize()) {
+            // Too much to replay; the client refetches and carries on from the live events
+            subscriber.offer(LiveEventLog.RESET);
+            return;
+        }
+        missed.forEach(subscriber::offer);
+    }
+
+    /**
+     * Each notification is its own transaction, committed one at a time by Postgres, so events are
+     * packed into as few as fit under {@link PgNotificationBus#MAX_PAYLOAD_BYTES}.
+     */
+    private void relay(List<LiveEvent> events) {
+        int room = PgNotificationBus.MAX_PAYLOAD_BYTES - relayEnvelopeBytes;
+        List<RelayedEvent> batch = new ArrayList<>();
+        int batchBytes = 0;
+        for (LiveEvent event : events) {
+            RelayedEvent relayed = new RelayedEvent(event.getName(), event.getWorkspaceId(), event.getProjectId(),
+                    event.getUserId(), event.getData() != null ? jsonMapper.valueToTree(event.getData()) : null);
+            int bytes = utf8Length(jsonMapper.writeValueAsString(relayed));
+            if (bytes > room) {
+                relayed = relayed.withoutData();
+                bytes = utf8Length(jsonMapper.writeValueAsString(relayed));
+            }
+            // One byte for the comma between array elements
+            if (!batch.isEmpty() && batchBytes + 1 + bytes > room) {
+                sendEvents(batch);
+                batch = new ArrayList<>();
+                batchBytes = 0;
+            }
+            batchBytes += (batch.isEmpty() ? 0 : 1) + bytes;
+            batch.add(relayed);
+        }
+        if (!batch.isEmpty()) {
+            sendEvents(batch);
+        }
+    }
+
+    private void sendEvents(List<RelayedEvent> batch) {
+        notificationBus.publish(CHANNEL, jsonMapper.writeValueAsString(
+                new RelayMessage(nodeId, TYPE_EVENTS, null, null, null, batch)));
+    }
+
+    private void receive(String payload) {
+        RelayMessage message = jsonMapper.readValue(payload, RelayMessage.class);
+        if (nodeId.equals(message.node())) {
+            return;
+        }
+        if (TYPE_DISCONNECT.equals(message.type())) {
+            closeStreams(message.userId(), message.workspaceId(), message.projectId());
+            return;
+        }
+        if (message.events() == null) {
+            return;
+        }
+        for (RelayedEvent relayed : message.events()) {
+            deliver(LiveEvent.builder()
+                    .name(relayed.name())
+                    .workspaceId(relayed.workspaceId())
+                    .projectId(relayed.projectId())
+                    .userId(relayed.userId())
+                    .data(relayed.data())
+                    .build());
+        }
+    }
+
+    /**
+     * Closes the user's streams on this node: those of one project, of one workspace (including
+     * its project streams), or all of them.
+     */
+    private void closeStreams(Long userId, Long workspaceId, Long projectId) {
+        Set<SseSubscriber> streams = byUser.get(userId);
+        if (streams == null) {
+            return;
+        }
+        for (SseSubscriber subscriber : List.copyOf(streams)) {
+            if (projectId != null ? projectId.equals(subscriber.getProjectId())
+                    : workspaceId == null || workspaceId.equals(subscriber.getWorkspaceId())) {
+                subscriber.disconnect();
+            }
+        }
+    }
+
+    private void remove(SseSubscriber subscriber) {
+        if (!subscribers.remove(subscriber)) {
+            return;
+        }
+        connections.decrementAndGet();
+        unindex(byUser, subscriber.getUserId(), subscriber);
+        if (subscriber.getProjectId() != null) {
+            unindex(byProject, subscriber.getProjectId(), subscriber);
+        } else {
+            unindex(byWorkspace, subscriber.getWorkspaceId(), subscriber);
+        }
+    }
+
+    private static void deliver(Set<SseSubscriber> targets, LiveEventLog.Entry entry) {
+        if (targets != null) {
+            targets.forEach(subscriber -> subscriber.offer(entry));
+        }
+    }
+
+    private static void index(Map<Long, Set<SseSubscriber>> index, Long key, SseSubscriber subscriber) {
+        index.computeIfAbsent(key, k -> ConcurrentHashMap.newKeySet()).add(subscriber);
+    }
+
+    private static void unindex(Map<Long, Set<SseSubscriber>> index, Long key, SseSubscriber subscriber) {
+        index.computeIfPresent(key, (k, set) -> {
+            set.remove(subscriber);
+            return set.isEmpty() ? null : set;
+        });
+    }
+
+    private static int utf8Length(String payload) {
+        return payload.getBytes(StandardCharsets.UTF_8).length;
+    }
+
+    /**
+     * A disconnect carries its scope in the message itself; an events message carries the batch.
+     */
+    private record RelayMessage(String node, String type, Long workspaceId, Long projectId, Long userId,
+                                List<RelayedEvent> events) {
+    }
+
+    private record RelayedEvent(String name, Long workspaceId, Long projectId, Long userId, JsonNode data) {
+
+        RelayedEvent withoutData() {
+            return new RelayedEvent(name, workspaceId, projectId, userId, null);
+        }
+    }
+}
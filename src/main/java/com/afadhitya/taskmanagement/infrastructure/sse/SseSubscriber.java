@@ -0,0 +1,165 @@
+package com.afadhitya.taskmanagement.infrastructure.sse;
+
+import lombok.Getter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * One open stream. Publishers only append to its bounded buffer; a shared sender pool does the
+ * blocking writes, at most one task per stream at a time. A stream whose buffer fills up, or
+ * whose current write has been blocked too long, is closed rather than slowing anyone else down,
+ * and the client resumes with Last-Event-ID. The emitter is only completed by whichever thread
+ * is not inside a write, since completing waits for the emitter's write lock.
+ */
+final class SseSubscriber {
+
+    private final SseEmitter emitter;
+    @Getter
+    private final Long userId;
+    @Getter
+    private final Long workspaceId;
+    @Getter
+    private final Long projectId;
+    private final BlockingQueue<LiveEventLog.Entry> buffer;
+    private final Executor sender;
+    private final Consumer<SseSubscriber> onClose;
+    private final AtomicBoolean sending = new AtomicBoolean();
+    private final AtomicBoolean closed = new AtomicBoolean();
+    private final AtomicBoolean completed = new AtomicBoolean();
+    private volatile boolean completeRequested;
+    private volatile long writeStartedAt;
+
+    SseSubscriber(SseEmitter emitter, Long userId, Long workspaceId, Long projectId,
+                  int bufferSize, Executor sender, Consumer<SseSubscriber> onClose) {
+        this.emitter = emitter;
+        this.userId = userId;
+        this.workspaceId = workspaceId;
+        this.projectId = projectId;
+        this.buffer = new ArrayBlockingQueue<>(Math.max(1, bufferSize));
+        this.sender = sender;
+        this.onClose = onClose;
+    }
+
+    boolean matches(LiveEventLog.Entry entry) {
+        if (entry.event().getUserId() != null) {
+            return entry.event().getUserId().equals(userId);
+        }
+        if (projectId != null) {
+            return projectId.equals(entry.event().getProjectId());
+        }
+        return workspaceId.equals(entry.event().getWorkspaceId());
+    }
+
+    void offer(LiveEventLog.Entry entry) {
+        if (closed.get()) {
+            return;
+        }
+        if (!buffer.offer(entry)) {
+            close(true);
+            return;
+        }
+        scheduleSend();
+    }
+
+    /**
+     * Heartbeats only go to streams with nothing pending; a stream that is sending is not idle.
+     */
+    void offerHeartbeat() {
+        if (buffer.isEmpty() && !sending.get()) {
+            offer(LiveEventLog.HEARTBEAT);
+        }
+    }
+
+    /**
+     * Called when the container has already ended the request (completion, timeout, error).
+     */
+    void release() {
+        close(false);
+    }
+
+    /**
+     * Ends the stream from the server side, e.g. when the user loses access.
+     */
+    void disconnect() {
+        close(true);
+    }
+
+    /**
+     * Closes the stream if a single write has been blocked for longer than {@code timeoutNanos}.
+     * The sender thread itself is only freed when the container gives up on the socket write.
+     *
+     * @return true if the stream was closed
+     */
+    boolean closeIfStalled(long nowNanos, long timeoutNanos) {
+        long startedAt = writeStartedAt;
+        if (startedAt == 0 || nowNanos - startedAt < timeoutNanos || closed.get()) {
+            return false;
+        }
+        close(true);
+        return true;
+    }
+
+    private void scheduleSend() {
+        if (!sending.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            sender.execute(this::drain);
+        } catch (RejectedExecutionException e) {
+            sending.set(false);
+            close(true);
+        }
+    }
+
+    private void drain() {
+        try {
+            LiveEventLog.Entry entry;
+            while (!closed.get() && (entry = buffer.poll()) != null) {
+                writeStartedAt = System.nanoTime();
+                emitter.send(entry.toSse());
+                writeStartedAt = 0;
+            }
+        } catch (IOException | IllegalStateException e) {
+            close(true);
+        } finally {
+            writeStartedAt = 0;
+            sending.set(false);
+        }
+        if (closed.get() && completeRequested) {
+            complete();
+            return;
+        }
+        // An offer may have landed after the last poll but before the flag was cleared
+        if (!closed.get() && !buffer.isEmpty()) {
+            scheduleSend();
+        }
+    }
+
+    private void close(boolean completeEmitter) {
+        if (completeEmitter) {
+            completeRequested = true;
+        }
+        if (!closed.compareAndSet(false, true)) {
+            return;
+        }
+        buffer.clear();
+        onClose.accept(this);
+        // While a write is in flight the sender completes the emitter once it returns
+        if (completeEmitter && !sending.get()) {
+            complete();
+        }
+    }
+
+    private void complete() {
+        if (completed.compareAndSet(false, true)) {
+            emitter.complete();
+        }
+    }
+}
@@ -0,0 +1,14 @@
+-- flyway:executeInTransaction=false
+-- Composite indexes for the project task listing. Each one leads with project_id and ends with the
+-- (sortKey, id) pair used by keyset pagination, so filtered and sorted board views are index scans.
+-- Built concurrently so task writes continue during the build; CONCURRENTLY cannot run inside a
+-- transaction. A failed build leaves an INVALID index: drop it and rerun the migration.
+
+CREATE INDEX CONCURRENTLY idx_tasks_project_created ON tasks(project_id, created_at, id);
+CREATE INDEX CONCURRENTLY idx_tasks_project_status_created ON tasks(project_id, status, created_at, id);
+CREATE INDEX CONCURRENTLY idx_tasks_project_priority_created ON tasks(project_id, priority, created_at, id);
+CREATE INDEX CONCURRENTLY idx_tasks_project_position ON tasks(project_id, position, id);
+CREATE INDEX CONCURRENTLY idx_tasks_project_due_date ON tasks(project_id, due_date);
+
+-- Superseded by idx_tasks_project_created
+DROP INDEX CONCURRENTLY idx_tasks_project;
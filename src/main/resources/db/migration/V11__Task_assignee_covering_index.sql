@@ -0,0 +1,7 @@
+-- flyway:executeInTransaction=false
+-- Lets "my tasks" walk a user's assignments in task_id order straight from the index.
+-- Built concurrently so assignment writes continue during the build.
+CREATE INDEX CONCURRENTLY idx_task_assignees_user_task ON task_assignees(user_id, task_id);
+
+-- Superseded by idx_task_assignees_user_task
+DROP INDEX CONCURRENTLY idx_tasks_assignee;
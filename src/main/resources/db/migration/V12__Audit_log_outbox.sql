@@ -0,0 +1,12 @@
+-- Overflow for the in-memory audit queue. Rows are written in the audited transaction
+-- and moved into audit_logs by a relay, so no entry is lost when the queue is full.
+CREATE TABLE audit_log_outbox (
+    id BIGSERIAL PRIMARY KEY,
+    workspace_id BIGINT NOT NULL,
+    actor_id BIGINT NOT NULL,
+    action VARCHAR(100) NOT NULL,
+    entity_type VARCHAR(50) NOT NULL,
+    entity_id BIGINT NOT NULL,
+    diff JSONB,
+    created_at TIMESTAMP NOT NULL
+);
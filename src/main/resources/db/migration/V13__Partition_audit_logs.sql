@@ -0,0 +1,54 @@
+-- Move audit_logs to monthly range partitions on created_at.
+-- Retention drops whole partitions, and (workspace_id, created_at DESC) serves the listing without a sort.
+
+ALTER TABLE audit_logs RENAME TO audit_logs_legacy;
+ALTER INDEX audit_logs_pkey RENAME TO audit_logs_legacy_pkey;
+ALTER SEQUENCE audit_logs_id_seq OWNED BY NONE;
+
+CREATE TABLE audit_logs (
+    id BIGINT NOT NULL DEFAULT nextval('audit_logs_id_seq'),
+    workspace_id BIGINT NOT NULL,
+    actor_id BIGINT NOT NULL,
+    action VARCHAR(100) NOT NULL,
+    entity_type VARCHAR(50) NOT NULL,
+    entity_id BIGINT NOT NULL,
+    diff JSONB,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (id, created_at),
+    CONSTRAINT fk_audit_workspace FOREIGN KEY (workspace_id) REFERENCES workspaces(id) ON DELETE CASCADE,
+    CONSTRAINT fk_audit_actor FOREIGN KEY (actor_id) REFERENCES users(id)
+) PARTITION BY RANGE (created_at);
+
+ALTER SEQUENCE audit_logs_id_seq OWNED BY audit_logs.id;
+
+-- One partition per month from the oldest existing row up to three months ahead;
+-- the maintenance job keeps creating future months from here on
+DO $$
+DECLARE
+    month_start DATE := date_trunc('month', COALESCE((SELECT MIN(created_at) FROM audit_logs_legacy), CURRENT_TIMESTAMP))::date;
+    last_month DATE := (date_trunc('month', CURRENT_TIMESTAMP) + INTERVAL '3 months')::date;
+BEGIN
+    WHILE month_start <= last_month LOOP
+        EXECUTE format('CREATE TABLE %I PARTITION OF audit_logs FOR VALUES FROM (%L) TO (%L)',
+                       'audit_logs_' || to_char(month_start, 'YYYY_MM'),
+                       month_start,
+                       (month_start + INTERVAL '1 month')::date);
+        month_start := (month_start + INTERVAL '1 month')::date;
+    END LOOP;
+END $$;
+
+INSERT INTO audit_logs (id, workspace_id, actor_id, action, entity_type, entity_id, diff, created_at)
+SELECT id, workspace_id, actor_id, action, entity_type, entity_id, diff, created_at
+FROM audit_logs_legacy;
+
+DROP TABLE audit_logs_legacy;
+
+CREATE INDEX idx_audit_logs_workspace_created ON audit_logs(workspace_id, created_at DESC, id DESC);
+
+-- Per-plan retention in days (-1 = keep forever)
+INSERT INTO plan_limits (plan_configuration_id, limit_type, limit_value)
+SELECT id, 'AUDIT_LOG_RETENTION_DAYS', 30 FROM plan_configurations WHERE plan_tier = 'FREE'
+UNION ALL
+SELECT id, 'AUDIT_LOG_RETENTION_DAYS', 180 FROM plan_configurations WHERE plan_tier = 'TEAM'
+UNION ALL
+SELECT id, 'AUDIT_LOG_RETENTION_DAYS', 730 FROM plan_configurations WHERE plan_tier = 'ENTERPRISE';
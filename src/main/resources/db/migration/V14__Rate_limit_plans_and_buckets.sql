@@ -0,0 +1,28 @@
+-- Per-plan API rate limit, applied per user across the workspaces they belong to
+INSERT INTO plan_limits (plan_configuration_id, limit_type, limit_value)
+SELECT id, 'API_REQUESTS_PER_MINUTE', 100 FROM plan_configurations WHERE plan_tier = 'FREE'
+UNION ALL
+SELECT id, 'API_REQUESTS_PER_MINUTE', 600 FROM plan_configurations WHERE plan_tier = 'TEAM'
+UNION ALL
+SELECT id, 'API_REQUESTS_PER_MINUTE', 3000 FROM plan_configurations WHERE plan_tier = 'ENTERPRISE';
+
+-- Bucket4j state shared by all nodes when rate-limit.distributed=true.
+-- Ids are user ids, or negative hashes of API keys and client IPs.
+CREATE TABLE bucket (
+    id BIGINT PRIMARY KEY,
+    state BYTEA,
+    updated_at TIMESTAMP NOT NULL DEFAULT now()
+);
+
+-- Idle buckets are full again after a refill period, so rows untouched for a while can be dropped
+CREATE FUNCTION touch_bucket() RETURNS trigger AS $$
+BEGIN
+    NEW.updated_at := now();
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_bucket_touch BEFORE UPDATE ON bucket
+    FOR EACH ROW EXECUTE FUNCTION touch_bucket();
+
+CREATE INDEX idx_bucket_updated_at ON bucket(updated_at);
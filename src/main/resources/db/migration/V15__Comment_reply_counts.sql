@@ -0,0 +1,18 @@
+-- Denormalized number of direct replies, kept by the application so listings never count children
+ALTER TABLE comments ADD COLUMN reply_count INTEGER NOT NULL DEFAULT 0;
+
+UPDATE comments c
+SET reply_count = r.replies
+FROM (
+    SELECT parent_comment_id, COUNT(*) AS replies
+    FROM comments
+    WHERE parent_comment_id IS NOT NULL
+    GROUP BY parent_comment_id
+) r
+WHERE c.id = r.parent_comment_id;
+
+-- Keyset order of top-level comments per task, and of replies per parent
+CREATE INDEX idx_comments_task_top_level ON comments(task_id, created_at, id)
+    WHERE parent_comment_id IS NULL AND is_deleted = false;
+CREATE INDEX idx_comments_parent_created ON comments(parent_comment_id, created_at, id);
+DROP INDEX idx_comments_parent;
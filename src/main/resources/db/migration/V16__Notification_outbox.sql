@@ -0,0 +1,19 @@
+-- Notification events written in the mutating transaction. A worker resolves the recipients
+-- and moves each event into notifications, so the request never pays for the fan-out.
+CREATE TABLE notification_outbox (
+    id BIGSERIAL PRIMARY KEY,
+    type VARCHAR(50) NOT NULL,
+    audience VARCHAR(30) NOT NULL,
+    workspace_id BIGINT NOT NULL,
+    project_id BIGINT,
+    task_id BIGINT,
+    actor_id BIGINT,
+    recipient_ids BIGINT[] NOT NULL DEFAULT '{}',
+    payload JSONB NOT NULL DEFAULT '{}',
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- One notification per event and recipient, so a replayed event inserts nothing new.
+-- Rows written before the outbox keep a NULL source and never conflict.
+ALTER TABLE notifications ADD COLUMN source_event_id BIGINT;
+CREATE UNIQUE INDEX uq_notifications_source_user ON notifications(source_event_id, user_id);
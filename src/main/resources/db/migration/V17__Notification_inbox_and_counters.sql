@@ -0,0 +1,20 @@
+-- Unread badge per user, kept in step by the fan-out and mark-read statements
+-- and corrected by a periodic reconciliation job.
+CREATE TABLE notification_counters (
+    user_id BIGINT PRIMARY KEY,
+    unread_count INTEGER NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT fk_notification_counter_user FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE
+);
+
+INSERT INTO notification_counters (user_id, unread_count)
+SELECT user_id, COUNT(*) FROM notifications WHERE is_read = FALSE GROUP BY user_id;
+
+-- Inbox pages seek on (user_id, id DESC); the partial index serves the unread-only view
+-- and mark-read ranges, and stays small as users read their notifications.
+CREATE INDEX idx_notifications_user_id ON notifications(user_id, id DESC);
+CREATE INDEX idx_notifications_unread ON notifications(user_id, id DESC) WHERE is_read = FALSE;
+
+-- Superseded by the two indexes above
+DROP INDEX idx_notifications_user;
+DROP INDEX idx_notifications_read;
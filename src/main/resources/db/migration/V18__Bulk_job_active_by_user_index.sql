@@ -0,0 +1,3 @@
+-- Counts a user's pending and running jobs when they submit another one
+CREATE INDEX idx_bulk_jobs_active_created_by ON bulk_jobs(created_by)
+    WHERE status IN ('PENDING', 'PROCESSING');
@@ -0,0 +1,3 @@
+-- Catches rows whose month has no partition (maintenance behind, or late rows for a dropped month)
+-- so the insert does not fail. Maintenance moves them into their month when it creates it.
+CREATE TABLE audit_logs_default PARTITION OF audit_logs DEFAULT;
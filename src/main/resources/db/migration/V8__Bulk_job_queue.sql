@@ -0,0 +1,8 @@
+-- Persist bulk job payloads so the queue survives restarts and can be drained by any node
+ALTER TABLE bulk_jobs ADD COLUMN payload JSONB;
+ALTER TABLE bulk_jobs ADD COLUMN locked_by VARCHAR(100);
+ALTER TABLE bulk_jobs ADD COLUMN heartbeat_at TIMESTAMP;
+ALTER TABLE bulk_jobs ADD COLUMN attempts INT NOT NULL DEFAULT 0;
+
+CREATE INDEX idx_bulk_jobs_queue ON bulk_jobs(created_at)
+    WHERE status IN ('PENDING', 'PROCESSING');
@@ -0,0 +1,121 @@
+package com.afadhitya.taskmanagement.adapter.out.persistence.bulkjob;
+
+import com.afadhitya.taskmanagement.TestcontainersConfiguration;
+import com.afadhitya.taskmanagement.domain.enums.JobStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({TestcontainersConfiguration.class, BulkJobPersistenceAdapter.class})
+class BulkJobPersistenceAdapterTest {
+
+	private static final String WORKER = "worker-a";
+	private static final String OTHER_WORKER = "worker-b";
+
+	@Autowired
+	private BulkJobPersistenceAdapter bulkJobPersistenceAdapter;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	private final LocalDateTime now = LocalDateTime.now();
+
+	private long userId;
+
+	@BeforeEach
+	void setUp() {
+		userId = jdbcTemplate.queryForObject(
+				"INSERT INTO users (email, password_hash, full_name) VALUES (?, 'hash', 'Bulk') RETURNING id",
+				Long.class, UUID.randomUUID() + "@example.com");
+	}
+
+	@Test
+	void claimsPendingAndStaleJobsOldestFirst() {
+		String stale = insertJob(JobStatus.PROCESSING, now.minusHours(1), OTHER_WORKER, now.minusHours(1), 1);
+		String oldest = insertJob(JobStatus.PENDING, now.minusHours(3), null, null, 0);
+		String pending = insertJob(JobStatus.PENDING, now.minusHours(2), null, null, 0);
+		insertJob(JobStatus.PROCESSING, now.minusHours(4), OTHER_WORKER, now, 1);
+		insertJob(JobStatus.COMPLETED, now.minusHours(5), null, null, 1);
+
+		List<String> claimed = bulkJobPersistenceAdapter.claimJobs(WORKER, 10, now.minusMinutes(5));
+
+		assertThat(claimed).containsExactly(oldest, pending, stale);
+		assertThat(job(oldest)).containsEntry("status", "PROCESSING")
+				.containsEntry("locked_by", WORKER)
+				.containsEntry("attempts", 1);
+		assertThat(job(stale)).containsEntry("locked_by", WORKER).containsEntry("attempts", 2);
+	}
+
+	@Test
+	void claimsNoMoreThanTheLimit() {
+		String oldest = insertJob(JobStatus.PENDING, now.minusHours(3), null, null, 0);
+		String newer = insertJob(JobStatus.PENDING, now.minusHours(2), null, null, 0);
+
+		assertThat(bulkJobPersistenceAdapter.claimJobs(WORKER, 1, now.minusMinutes(5))).containsExactly(oldest);
+		assertThat(job(newer)).containsEntry("status", "PENDING");
+	}
+
+	@Test
+	void onlyTheOwnerRecordsProgressAndFinishes() {
+		String id = insertJob(JobStatus.PENDING, now.minusHours(1), null, null, 0);
+		bulkJobPersistenceAdapter.claimJobs(WORKER, 1, now.minusMinutes(5));
+
+		assertThat(bulkJobPersistenceAdapter.updateProgress(id, OTHER_WORKER, 5, 0)).isFalse();
+		assertThat(bulkJobPersistenceAdapter.finish(id, OTHER_WORKER, JobStatus.COMPLETED, 5, 0, null)).isFalse();
+		assertThat(job(id)).containsEntry("status", "PROCESSING").containsEntry("processed_items", 0);
+
+		assertThat(bulkJobPersistenceAdapter.updateProgress(id, WORKER, 5, 1)).isTrue();
+		assertThat(job(id)).containsEntry("processed_items", 5).containsEntry("failed_items", 1);
+
+		assertThat(bulkJobPersistenceAdapter.finish(id, WORKER, JobStatus.COMPLETED, 10, 1, null)).isTrue();
+		assertThat(job(id)).containsEntry("status", "COMPLETED")
+				.containsEntry("processed_items", 10)
+				.containsEntry("locked_by", null);
+	}
+
+	@Test
+	void releaseReturnsTheJobToTheQueueWithoutSpendingAnAttempt() {
+		String id = insertJob(JobStatus.PENDING, now.minusHours(1), null, null, 0);
+		bulkJobPersistenceAdapter.claimJobs(WORKER, 1, now.minusMinutes(5));
+
+		bulkJobPersistenceAdapter.release(id, OTHER_WORKER);
+		assertThat(job(id)).containsEntry("status", "PROCESSING").containsEntry("locked_by", WORKER);
+
+		bulkJobPersistenceAdapter.release(id, WORKER);
+		assertThat(job(id)).containsEntry("status", "PENDING")
+				.containsEntry("locked_by", null)
+				.containsEntry("heartbeat_at", null)
+				.containsEntry("attempts", 0);
+		assertThat(bulkJobPersistenceAdapter.claimJobs(OTHER_WORKER, 1, now.minusMinutes(5))).containsExactly(id);
+	}
+
+	private String insertJob(JobStatus status, LocalDateTime createdAt, String lockedBy, LocalDateTime heartbeatAt,
+			int attempts) {
+		String id = UUID.randomUUID().toString();
+		jdbcTemplate.update("""
+				INSERT INTO bulk_jobs (id, status, job_type, created_by, created_at, updated_at, locked_by, heartbeat_at, attempts)
+				VALUES (?, ?, 'BULK_UPDATE', ?, ?, ?, ?, ?, ?)
+				""", id, status.name(), userId, createdAt, createdAt, lockedBy, heartbeatAt, attempts);
+		return id;
+	}
+
+	private Map<String, Object> job(String id) {
+		return jdbcTemplate.queryForMap(
+				"SELECT status, locked_by, heartbeat_at, attempts, processed_items, failed_items FROM bulk_jobs WHERE id = ?",
+				id);
+	}
+
+}
@@ -0,0 +1,153 @@
+package com.afadhitya.taskmanagement.adapter.out.persistence.notification;
+
+import com.afadhitya.taskmanagement.TestcontainersConfiguration;
+import com.afadhitya.taskmanagement.application.event.NotificationEvent;
+import com.afadhitya.taskmanagement.application.port.out.notification.NotificationFanOutResult;
+import com.afadhitya.taskmanagement.domain.enums.NotificationAudience;
+import com.afadhitya.taskmanagement.domain.enums.NotificationType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(TestcontainersConfiguration.class)
+class NotificationOutboxAdapterTest {
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	private NotificationOutboxAdapter notificationOutboxAdapter;
+
+	private long creator;
+	private long actor;
+	private long assignee;
+	private long workspaceId;
+	private long projectId;
+	private long taskId;
+
+	@BeforeEach
+	void setUp() {
+		notificationOutboxAdapter = new NotificationOutboxAdapter(jdbcTemplate, JsonMapper.builder().build());
+		creator = insertUser();
+		actor = insertUser();
+		assignee = insertUser();
+		workspaceId = jdbcTemplate.queryForObject(
+				"INSERT INTO workspaces (name, slug, owner_id) VALUES ('Fan-out', ?, ?) RETURNING id",
+				Long.class, UUID.randomUUID().toString(), creator);
+		projectId = jdbcTemplate.queryForObject(
+				"INSERT INTO projects (workspace_id, name, created_by) VALUES (?, 'Fan-out', ?) RETURNING id",
+				Long.class, workspaceId, creator);
+		taskId = jdbcTemplate.queryForObject(
+				"INSERT INTO tasks (project_id, title, created_by) VALUES (?, 'Fan-out', ?) RETURNING id",
+				Long.class, projectId, creator);
+		jdbcTemplate.update("INSERT INTO task_assignees (task_id, user_id) VALUES (?, ?), (?, ?)",
+				taskId, actor, taskId, assignee);
+	}
+
+	@Test
+	void participantsExceptTheActorAreNotifiedOnce() {
+		notificationOutboxAdapter.enqueue(event(NotificationAudience.TASK_PARTICIPANTS, Set.of(assignee)));
+
+		NotificationFanOutResult result = notificationOutboxAdapter.fanOut(10);
+
+		assertThat(result.events()).isEqualTo(1);
+		assertThat(result.notifications()).isEqualTo(2);
+		assertThat(result.unreadCounts()).isEqualTo(Map.of(creator, 1, assignee, 1));
+		assertThat(recipients()).containsExactlyInAnyOrder(creator, assignee);
+	}
+
+	@Test
+	void projectMembersAudienceReachesMembersOnly() {
+		long member = insertUser();
+		jdbcTemplate.update("INSERT INTO project_members (project_id, user_id) VALUES (?, ?), (?, ?)",
+				projectId, member, projectId, actor);
+
+		NotificationFanOutResult result = notificationOutboxAdapter.fanOut(10);
+		assertThat(result.events()).isZero();
+
+		notificationOutboxAdapter.enqueue(event(NotificationAudience.PROJECT_MEMBERS, Set.of()));
+		result = notificationOutboxAdapter.fanOut(10);
+
+		assertThat(result.notifications()).isEqualTo(1);
+		assertThat(recipients()).containsExactly(member);
+	}
+
+	@Test
+	void unreadCountersAccumulate() {
+		jdbcTemplate.update("INSERT INTO notification_counters (user_id, unread_count) VALUES (?, 3)", assignee);
+		notificationOutboxAdapter.enqueue(event(NotificationAudience.TASK_ASSIGNEES, Set.of()));
+		notificationOutboxAdapter.enqueue(event(NotificationAudience.TASK_ASSIGNEES, Set.of()));
+
+		NotificationFanOutResult result = notificationOutboxAdapter.fanOut(10);
+
+		assertThat(result.events()).isEqualTo(2);
+		assertThat(result.unreadCounts()).containsEntry(assignee, 5).doesNotContainKey(actor);
+		assertThat(unreadCount(assignee)).isEqualTo(5);
+	}
+
+	@Test
+	void deletedRecipientsAreSkippedWithoutFailingTheBatch() {
+		long missingUser = insertUser();
+		jdbcTemplate.update("DELETE FROM users WHERE id = ?", missingUser);
+		notificationOutboxAdapter.enqueue(event(NotificationAudience.NAMED_USERS, Set.of(missingUser, creator)));
+
+		NotificationFanOutResult result = notificationOutboxAdapter.fanOut(10);
+
+		assertThat(result.events()).isEqualTo(1);
+		assertThat(recipients()).containsExactly(creator);
+	}
+
+	@Test
+	void claimsAtMostTheLimitAndEmptiesTheOutbox() {
+		notificationOutboxAdapter.enqueue(event(NotificationAudience.NAMED_USERS, Set.of(creator)));
+		notificationOutboxAdapter.enqueue(event(NotificationAudience.NAMED_USERS, Set.of(creator)));
+
+		assertThat(notificationOutboxAdapter.fanOut(1).events()).isEqualTo(1);
+		assertThat(notificationOutboxAdapter.fanOut(1).events()).isEqualTo(1);
+		assertThat(notificationOutboxAdapter.fanOut(1).events()).isZero();
+		assertThat(unreadCount(creator)).isEqualTo(2);
+	}
+
+	private NotificationEvent event(NotificationAudience audience, Set<Long> recipientIds) {
+		return NotificationEvent.builder()
+				.type(NotificationType.TASK_UPDATED)
+				.audience(audience)
+				.workspaceId(workspaceId)
+				.projectId(projectId)
+				.taskId(taskId)
+				.actorId(actor)
+				.recipientIds(recipientIds)
+				.payload(Map.of("taskId", taskId))
+				.build();
+	}
+
+	private List<Long> recipients() {
+		return jdbcTemplate.queryForList("SELECT user_id FROM notifications WHERE source_event_id IS NOT NULL",
+				Long.class);
+	}
+
+	private int unreadCount(long userId) {
+		return jdbcTemplate.queryForObject("SELECT unread_count FROM notification_counters WHERE user_id = ?",
+				Integer.class, userId);
+	}
+
+	private long insertUser() {
+		return jdbcTemplate.queryForObject(
+				"INSERT INTO users (email, password_hash, full_name) VALUES (?, 'hash', 'Recipient') RETURNING id",
+				Long.class, UUID.randomUUID() + "@example.com");
+	}
+
+}
@@ -0,0 +1,140 @@
+package com.afadhitya.taskmanagement.adapter.out.persistence.notification;
+
+import com.afadhitya.taskmanagement.TestcontainersConfiguration;
+import com.afadhitya.taskmanagement.application.port.out.notification.NotificationCursor;
+import com.afadhitya.taskmanagement.application.port.out.notification.NotificationRow;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(TestcontainersConfiguration.class)
+class NotificationPersistenceAdapterTest {
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	private NotificationPersistenceAdapter notificationPersistenceAdapter;
+
+	private long userId;
+
+	@BeforeEach
+	void setUp() {
+		notificationPersistenceAdapter = new NotificationPersistenceAdapter(
+				new NamedParameterJdbcTemplate(jdbcTemplate), JsonMapper.builder().build());
+		userId = insertUser();
+	}
+
+	@Test
+	void markReadDecrementsTheCounterByRowsActuallyMarked() {
+		List<Long> ids = insertNotifications(userId, 5);
+		jdbcTemplate.update("UPDATE notifications SET is_read = TRUE WHERE id = ?", ids.get(1));
+		jdbcTemplate.update("INSERT INTO notification_counters (user_id, unread_count) VALUES (?, 4)", userId);
+
+		int remaining = notificationPersistenceAdapter.markRead(userId, ids.get(0), ids.get(2));
+
+		assertThat(remaining).isEqualTo(2);
+		assertThat(notificationPersistenceAdapter.findUnreadCount(userId)).isEqualTo(2);
+		assertThat(unreadIds(userId)).containsExactlyInAnyOrder(ids.get(3), ids.get(4));
+	}
+
+	@Test
+	void markingTheSameRangeTwiceDoesNotDecrementAgain() {
+		List<Long> ids = insertNotifications(userId, 3);
+		jdbcTemplate.update("INSERT INTO notification_counters (user_id, unread_count) VALUES (?, 3)", userId);
+
+		notificationPersistenceAdapter.markRead(userId, ids.get(0), ids.get(1));
+
+		assertThat(notificationPersistenceAdapter.markRead(userId, ids.get(0), ids.get(1))).isEqualTo(1);
+	}
+
+	@Test
+	void markReadLeavesOtherUsersAlone() {
+		long otherUser = insertUser();
+		List<Long> mine = insertNotifications(userId, 2);
+		List<Long> theirs = insertNotifications(otherUser, 2);
+		jdbcTemplate.update("INSERT INTO notification_counters (user_id, unread_count) VALUES (?, 2), (?, 2)",
+				userId, otherUser);
+
+		notificationPersistenceAdapter.markRead(userId, mine.get(0), theirs.get(1));
+
+		assertThat(notificationPersistenceAdapter.findUnreadCount(userId)).isZero();
+		assertThat(notificationPersistenceAdapter.findUnreadCount(otherUser)).isEqualTo(2);
+		assertThat(unreadIds(otherUser)).containsExactlyInAnyOrderElementsOf(theirs);
+	}
+
+	@Test
+	void counterNeverGoesNegative() {
+		List<Long> ids = insertNotifications(userId, 3);
+		jdbcTemplate.update("INSERT INTO notification_counters (user_id, unread_count) VALUES (?, 1)", userId);
+
+		assertThat(notificationPersistenceAdapter.markRead(userId, ids.get(0), ids.get(2))).isZero();
+	}
+
+	@Test
+	void inboxPagesRoundTripThroughEncodedCursors() {
+		List<Long> ids = insertNotifications(userId, 7);
+		insertNotifications(insertUser(), 3);
+		String scope = NotificationCursor.userScope(userId);
+
+		List<Long> seen = new ArrayList<>();
+		NotificationCursor cursor = null;
+		do {
+			List<NotificationRow> page = notificationPersistenceAdapter.findByUserIdAfter(userId, false, cursor, 3);
+			page.forEach(row -> seen.add(row.id()));
+			cursor = page.size() < 3 ? null
+					: NotificationCursor.decode(new NotificationCursor(page.get(page.size() - 1).id()).encode(scope), scope);
+		} while (cursor != null);
+
+		Collections.reverse(ids);
+		assertThat(seen).containsExactlyElementsOf(ids);
+	}
+
+	@Test
+	void unreadOnlyInboxSkipsReadRows() {
+		List<Long> ids = insertNotifications(userId, 4);
+		jdbcTemplate.update("UPDATE notifications SET is_read = TRUE WHERE id IN (?, ?)", ids.get(0), ids.get(2));
+
+		List<NotificationRow> unread = notificationPersistenceAdapter.findByUserIdAfter(userId, true, null, 10);
+
+		assertThat(unread).extracting(NotificationRow::id).containsExactly(ids.get(3), ids.get(1));
+		assertThat(unread.get(0).payload()).containsEntry("n", 3);
+	}
+
+	private List<Long> insertNotifications(long recipient, int count) {
+		List<Long> ids = new ArrayList<>();
+		for (int i = 0; i < count; i++) {
+			ids.add(jdbcTemplate.queryForObject("""
+					INSERT INTO notifications (user_id, type, payload) VALUES (?, 'TASK_UPDATED', CAST(? AS jsonb))
+					RETURNING id
+					""", Long.class, recipient, "{\"n\": " + i + "}"));
+		}
+		return ids;
+	}
+
+	private List<Long> unreadIds(long recipient) {
+		return jdbcTemplate.queryForList("SELECT id FROM notifications WHERE user_id = ? AND is_read = FALSE",
+				Long.class, recipient);
+	}
+
+	private long insertUser() {
+		return jdbcTemplate.queryForObject(
+				"INSERT INTO users (email, password_hash, full_name) VALUES (?, 'hash', 'Reader') RETURNING id",
+				Long.class, UUID.randomUUID() + "@example.com");
+	}
+
+}
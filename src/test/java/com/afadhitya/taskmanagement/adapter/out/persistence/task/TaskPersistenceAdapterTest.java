@@ -0,0 +1,141 @@
+package com.afadhitya.taskmanagement.adapter.out.persistence.task;
+
+import com.afadhitya.taskmanagement.TestcontainersConfiguration;
+import com.afadhitya.taskmanagement.application.dto.request.TaskFilterRequest;
+import com.afadhitya.taskmanagement.application.port.out.task.TaskSortKey;
+import com.afadhitya.taskmanagement.domain.entity.Task;
+import com.afadhitya.taskmanagement.domain.entity.TaskLabel;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({TestcontainersConfiguration.class, TaskPersistenceAdapter.class})
+class TaskPersistenceAdapterTest {
+
+	// Page query (with project and creator), task labels, labels, assignees
+	private static final long PAGE_STATEMENTS = 4;
+
+	@Autowired
+	private TaskPersistenceAdapter taskPersistenceAdapter;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	private Statistics statistics;
+
+	@BeforeEach
+	void setUp() {
+		statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+	}
+
+	@Test
+	void pageOfTasksLoadsLabelsAndAssigneesInFixedNumberOfStatements() {
+		long smallProject = seedProject("small", 3);
+		long largeProject = seedProject("large", 40);
+
+		long smallPage = statementsToRender(smallProject, 3);
+		long largePage = statementsToRender(largeProject, 40);
+
+		assertThat(smallPage).isLessThanOrEqualTo(PAGE_STATEMENTS);
+		assertThat(largePage).isEqualTo(smallPage);
+	}
+
+	@Test
+	void offsetPageLoadsAssociationsWithoutPerRowQueries() {
+		long projectId = seedProject("offset", 25);
+		entityManager.clear();
+		statistics.clear();
+
+		List<Task> tasks = taskPersistenceAdapter.findByProjectIdWithFilters(projectId, emptyFilter(),
+				PageRequest.of(0, 25)).getContent();
+		touchResponseFields(tasks);
+
+		assertThat(tasks).hasSize(25);
+		// One more than the cursor page for the count query
+		assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(PAGE_STATEMENTS + 1);
+	}
+
+	private long statementsToRender(long projectId, int expectedTasks) {
+		entityManager.clear();
+		statistics.clear();
+
+		List<Task> tasks = taskPersistenceAdapter.findByProjectIdAfter(projectId, emptyFilter(), TaskSortKey.ID,
+				false, null, 200);
+		touchResponseFields(tasks);
+
+		assertThat(tasks).hasSize(expectedTasks);
+		return statistics.getPrepareStatementCount();
+	}
+
+	/**
+	 * Reads every association TaskMapper.toResponse reads.
+	 */
+	private static void touchResponseFields(List<Task> tasks) {
+		for (Task task : tasks) {
+			assertThat(task.getProject().getName()).isNotNull();
+			assertThat(task.getCreatedBy().getFullName()).isNotNull();
+			for (TaskLabel taskLabel : task.getTaskLabels()) {
+				assertThat(taskLabel.getLabel().getName()).isNotNull();
+			}
+			assertThat(task.getAssigneeIds()).hasSize(2);
+		}
+	}
+
+	private long seedProject(String name, int taskCount) {
+		long owner = insertUser(name + "-owner@example.com");
+		long assignee = insertUser(name + "-assignee@example.com");
+		long workspaceId = jdbcTemplate.queryForObject(
+				"INSERT INTO workspaces (name, slug, owner_id) VALUES (?, ?, ?) RETURNING id",
+				Long.class, name, name + "-workspace", owner);
+		long projectId = jdbcTemplate.queryForObject(
+				"INSERT INTO projects (workspace_id, name, created_by) VALUES (?, ?, ?) RETURNING id",
+				Long.class, workspaceId, name, owner);
+		long bug = insertLabel(workspaceId, "bug", owner);
+		long urgent = insertLabel(workspaceId, "urgent", owner);
+
+		for (int i = 0; i < taskCount; i++) {
+			long taskId = jdbcTemplate.queryForObject(
+					"INSERT INTO tasks (project_id, title, created_by) VALUES (?, ?, ?) RETURNING id",
+					Long.class, projectId, name + " task " + i, owner);
+			jdbcTemplate.update("INSERT INTO task_labels (task_id, label_id) VALUES (?, ?), (?, ?)",
+					taskId, bug, taskId, urgent);
+			jdbcTemplate.update("INSERT INTO task_assignees (task_id, user_id) VALUES (?, ?), (?, ?)",
+					taskId, owner, taskId, assignee);
+		}
+		return projectId;
+	}
+
+	private long insertUser(String email) {
+		return jdbcTemplate.queryForObject(
+				"INSERT INTO users (email, password_hash, full_name) VALUES (?, 'hash', ?) RETURNING id",
+				Long.class, email, email);
+	}
+
+	private long insertLabel(long workspaceId, String name, long createdBy) {
+		return jdbcTemplate.queryForObject(
+				"INSERT INTO labels (workspace_id, name, created_by) VALUES (?, ?, ?) RETURNING id",
+				Long.class, workspaceId, name, createdBy);
+	}
+
+	private static TaskFilterRequest emptyFilter() {
+		return TaskFilterRequest.builder().build();
+	}
+
+}
@@ -0,0 +1,90 @@
+package com.afadhitya.taskmanagement.application.port.out;
+
+import com.afadhitya.taskmanagement.application.port.out.auditlog.AuditLogCursor;
+import com.afadhitya.taskmanagement.application.port.out.comment.CommentCursor;
+import com.afadhitya.taskmanagement.application.port.out.notification.NotificationCursor;
+import com.afadhitya.taskmanagement.application.port.out.task.TaskCursor;
+import com.afadhitya.taskmanagement.application.port.out.task.TaskSortKey;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CursorCodecTest {
+
+	private static final LocalDateTime CREATED_AT = LocalDateTime.of(2026, 3, 14, 15, 9, 26, 535_000_000);
+
+	@Test
+	void taskCursorRoundTripsWithSeparatorInTheValue() {
+		TaskCursor cursor = new TaskCursor(TaskSortKey.TITLE, true, 42L, "fix a|b|c");
+		String scope = TaskCursor.projectScope(7L);
+
+		assertThat(TaskCursor.decode(cursor.encode(scope), scope)).isEqualTo(cursor);
+	}
+
+	@Test
+	void commentCursorRoundTrips() {
+		CommentCursor cursor = new CommentCursor(CREATED_AT, 9L);
+		String scope = CommentCursor.taskScope(3L);
+
+		assertThat(CommentCursor.decode(cursor.encode(scope), scope)).isEqualTo(cursor);
+	}
+
+	@Test
+	void auditLogCursorRoundTrips() {
+		AuditLogCursor cursor = new AuditLogCursor(CREATED_AT, 11L);
+		String scope = AuditLogCursor.workspaceScope(5L);
+
+		assertThat(AuditLogCursor.decode(cursor.encode(scope), scope)).isEqualTo(cursor);
+	}
+
+	@Test
+	void notificationCursorRoundTrips() {
+		NotificationCursor cursor = new NotificationCursor(123L);
+		String scope = NotificationCursor.userScope(8L);
+
+		assertThat(NotificationCursor.decode(cursor.encode(scope), scope)).isEqualTo(cursor);
+	}
+
+	@Test
+	void cursorFromAnotherOwnerIsRejected() {
+		String token = new CommentCursor(CREATED_AT, 9L).encode(CommentCursor.taskScope(3L));
+
+		assertThatThrownBy(() -> CommentCursor.decode(token, CommentCursor.taskScope(4L)))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	void cursorFromAnotherListIsRejected() {
+		String token = new CommentCursor(CREATED_AT, 9L).encode(CommentCursor.taskScope(3L));
+
+		assertThatThrownBy(() -> CommentCursor.decode(token, CommentCursor.repliesScope(3L)))
+				.isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> AuditLogCursor.decode(token, AuditLogCursor.workspaceScope(3L)))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	void malformedTokensAreRejected() {
+		String scope = NotificationCursor.userScope(8L);
+
+		assertThatThrownBy(() -> NotificationCursor.decode("not base64!", scope))
+				.isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> NotificationCursor.decode(CursorCodec.encode(scope, "abc"), scope))
+				.isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> TaskCursor.decode(CursorCodec.encode(TaskCursor.projectScope(1L), "title", "asc"),
+				TaskCursor.projectScope(1L)))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	void taskCursorWithUnparseableValueIsRejected() {
+		String scope = TaskCursor.projectScope(7L);
+		String token = new TaskCursor(TaskSortKey.POSITION, false, 1L, "not a number").encode(scope);
+
+		assertThatThrownBy(() -> TaskCursor.decode(token, scope)).isInstanceOf(IllegalArgumentException.class);
+	}
+
+}
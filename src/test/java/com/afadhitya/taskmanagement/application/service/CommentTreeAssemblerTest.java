@@ -0,0 +1,81 @@
+package com.afadhitya.taskmanagement.application.service;
+
+import com.afadhitya.taskmanagement.application.dto.response.CommentResponse;
+import com.afadhitya.taskmanagement.application.port.out.comment.CommentThreadRow;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CommentTreeAssemblerTest {
+
+	private static final LocalDateTime NOW = LocalDateTime.of(2026, 1, 1, 12, 0);
+
+	private final CommentTreeAssembler assembler = new CommentTreeAssembler();
+
+	@Test
+	void nestsRepliesUnderTheirParentsInRowOrder() {
+		List<CommentThreadRow> rows = List.of(
+				row(1L, null, 0, 2),
+				row(2L, null, 0, 0),
+				row(10L, 1L, 1, 1),
+				row(11L, 1L, 1, 0),
+				row(20L, 10L, 2, 0));
+
+		List<CommentResponse> roots = assembler.assemble(rows, List.of(1L, 2L));
+
+		assertThat(roots).extracting(CommentResponse::id).containsExactly(1L, 2L);
+		CommentResponse first = roots.get(0);
+		assertThat(first.replyCount()).isEqualTo(2);
+		assertThat(first.replies()).extracting(CommentResponse::id).containsExactly(10L, 11L);
+		assertThat(first.replies().get(0).replies()).extracting(CommentResponse::id).containsExactly(20L);
+		assertThat(first.replies().get(1).replies()).isEmpty();
+		assertThat(roots.get(1).replies()).isEmpty();
+	}
+
+	@Test
+	void keepsTheRequestedRootOrder() {
+		List<CommentThreadRow> rows = List.of(row(1L, null, 0, 0), row(2L, null, 0, 0));
+
+		assertThat(assembler.assemble(rows, List.of(2L, 1L)))
+				.extracting(CommentResponse::id)
+				.containsExactly(2L, 1L);
+	}
+
+	@Test
+	void skipsRootsWithoutARow() {
+		List<CommentThreadRow> rows = List.of(row(1L, null, 0, 0));
+
+		assertThat(assembler.assemble(rows, List.of(1L, 99L)))
+				.extracting(CommentResponse::id)
+				.containsExactly(1L);
+	}
+
+	@Test
+	void masksDeletedBodies() {
+		CommentThreadRow deleted = new CommentThreadRow(1L, "secret", true, 5L, 7L, "Author", null, 0, 0, NOW, NOW);
+
+		CommentResponse response = assembler.assemble(List.of(deleted), List.of(1L)).get(0);
+
+		assertThat(response.body()).isEqualTo("[deleted]");
+		assertThat(response.isDeleted()).isTrue();
+	}
+
+	@Test
+	void repliesDoNotAppearAsRoots() {
+		List<CommentThreadRow> rows = List.of(row(1L, null, 0, 1), row(10L, 1L, 1, 0));
+
+		List<CommentResponse> roots = assembler.assemble(rows, List.of(1L));
+
+		assertThat(roots).hasSize(1);
+		assertThat(roots.get(0).replies()).extracting(CommentResponse::parentCommentId).containsExactly(1L);
+	}
+
+	private static CommentThreadRow row(Long id, Long parentId, int depth, int replyCount) {
+		return new CommentThreadRow(id, "comment " + id, false, 5L, 7L, "Author", parentId, depth, replyCount,
+				NOW.plusMinutes(id), NOW.plusMinutes(id));
+	}
+
+}
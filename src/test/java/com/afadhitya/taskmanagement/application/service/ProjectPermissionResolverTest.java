@@ -0,0 +1,114 @@
+package com.afadhitya.taskmanagement.application.service;
+
+import com.afadhitya.taskmanagement.domain.enums.ProjectPermission;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProjectPermissionResolverTest {
+
+	private ProjectPermissionResolver resolver;
+
+	private final AtomicInteger loads = new AtomicInteger();
+
+	@BeforeEach
+	void setUp() {
+		resolver = new ProjectPermissionResolver(new ConcurrentMapCacheManager(ProjectPermissionResolver.CACHE_NAME));
+	}
+
+	@Test
+	void decisionIsLoadedOnce() {
+		assertThat(resolver.resolve(1L, 10L, null, loader(ProjectPermission.VIEW))).isEqualTo(ProjectPermission.VIEW);
+		assertThat(resolver.resolve(1L, 10L, null, loader(ProjectPermission.MANAGER))).isEqualTo(ProjectPermission.VIEW);
+		assertThat(loads).hasValue(1);
+	}
+
+	@Test
+	void missingPermissionIsCachedToo() {
+		assertThat(resolver.resolve(1L, 10L, null, loader(null))).isNull();
+		assertThat(resolver.resolve(1L, 10L, null, loader(ProjectPermission.VIEW))).isNull();
+		assertThat(loads).hasValue(1);
+	}
+
+	@Test
+	void evictDropsOnlyThatProjectOfThatUser() {
+		resolver.resolve(1L, 10L, null, loader(ProjectPermission.VIEW));
+		resolver.resolve(2L, 10L, null, loader(ProjectPermission.VIEW));
+		resolver.resolve(1L, 20L, null, loader(ProjectPermission.VIEW));
+
+		resolver.evict(1L, 10L);
+
+		assertThat(resolver.resolve(1L, 10L, null, loader(ProjectPermission.MANAGER))).isEqualTo(ProjectPermission.MANAGER);
+		assertThat(resolver.resolve(2L, 10L, null, loader(ProjectPermission.MANAGER))).isEqualTo(ProjectPermission.VIEW);
+		assertThat(resolver.resolve(1L, 20L, null, loader(ProjectPermission.MANAGER))).isEqualTo(ProjectPermission.VIEW);
+	}
+
+	@Test
+	void evictUserDropsEveryProjectOfThatUserOnly() {
+		resolver.resolve(1L, 10L, null, loader(ProjectPermission.VIEW));
+		resolver.resolve(2L, 10L, null, loader(ProjectPermission.VIEW));
+		resolver.resolve(1L, 20L, null, loader(ProjectPermission.VIEW));
+
+		resolver.evictUser(10L);
+
+		assertThat(resolver.resolve(1L, 10L, null, loader(ProjectPermission.MANAGER))).isEqualTo(ProjectPermission.MANAGER);
+		assertThat(resolver.resolve(2L, 10L, null, loader(ProjectPermission.MANAGER))).isEqualTo(ProjectPermission.MANAGER);
+		assertThat(resolver.resolve(1L, 20L, null, loader(ProjectPermission.MANAGER))).isEqualTo(ProjectPermission.VIEW);
+	}
+
+	@Test
+	void decisionsWithAndWithoutWorkspaceAreKeptApart() {
+		assertThat(resolver.resolve(1L, 10L, null, loader(null))).isNull();
+		assertThat(resolver.resolve(1L, 10L, 5L, loader(ProjectPermission.CONTRIBUTOR)))
+				.isEqualTo(ProjectPermission.CONTRIBUTOR);
+		assertThat(resolver.resolve(1L, 10L, null, loader(ProjectPermission.MANAGER))).isNull();
+		assertThat(loads).hasValue(2);
+	}
+
+	@Test
+	void evictDropsTheProjectForEveryWorkspaceArgument() {
+		resolver.resolve(1L, 10L, null, loader(ProjectPermission.VIEW));
+		resolver.resolve(1L, 10L, 5L, loader(ProjectPermission.VIEW));
+
+		resolver.evict(1L, 10L);
+
+		assertThat(resolver.resolve(1L, 10L, null, loader(null))).isNull();
+		assertThat(resolver.resolve(1L, 10L, 5L, loader(null))).isNull();
+	}
+
+	@Test
+	void loadOverlappingAnEvictionIsNotCached() {
+		Supplier<ProjectPermission> staleLoad = () -> {
+			resolver.evict(1L, 10L);
+			return ProjectPermission.MANAGER;
+		};
+
+		assertThat(resolver.resolve(1L, 10L, null, staleLoad)).isEqualTo(ProjectPermission.MANAGER);
+		assertThat(resolver.resolve(1L, 10L, null, loader(null))).isNull();
+	}
+
+	@Test
+	void loadOverlappingAUserEvictionIsNotCached() {
+		resolver.resolve(2L, 10L, null, loader(ProjectPermission.VIEW));
+		Supplier<ProjectPermission> staleLoad = () -> {
+			resolver.evictUser(10L);
+			return ProjectPermission.MANAGER;
+		};
+
+		resolver.resolve(1L, 10L, null, staleLoad);
+
+		assertThat(resolver.resolve(1L, 10L, null, loader(null))).isNull();
+	}
+
+	private Supplier<ProjectPermission> loader(ProjectPermission permission) {
+		return () -> {
+			loads.incrementAndGet();
+			return permission;
+		};
+	}
+}
@@ -0,0 +1,121 @@
+package com.afadhitya.taskmanagement.application.usecase.bulkjob;
+
+import com.afadhitya.taskmanagement.application.port.out.bulkjob.BulkJobPersistencePort;
+import com.afadhitya.taskmanagement.infrastructure.config.BulkJobProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BulkJobPollerTest {
+
+	private static final int WORKERS = 2;
+
+	private BulkJobPersistencePort bulkJobPersistencePort;
+	private BulkJobProcessor bulkJobProcessor;
+	private BulkJobProperties bulkJobProperties;
+
+	@BeforeEach
+	void setUp() {
+		bulkJobPersistencePort = mock(BulkJobPersistencePort.class);
+		bulkJobProcessor = mock(BulkJobProcessor.class);
+		bulkJobProperties = new BulkJobProperties();
+		bulkJobProperties.setWorkers(WORKERS);
+	}
+
+	@Test
+	void rejectedJobIsReleasedAndItsWorkerFreed() {
+		BulkJobPoller poller = poller(task -> {
+			throw new RejectedExecutionException("saturated");
+		});
+		when(bulkJobPersistencePort.claimJobs(anyString(), anyInt(), any())).thenReturn(List.of("job-1"), List.of());
+
+		poller.poll();
+
+		String workerId = claimingWorker();
+		verify(bulkJobPersistencePort).release("job-1", workerId);
+		verify(bulkJobProcessor, never()).processJob(anyString(), anyString());
+
+		poller.poll();
+
+		verifyClaimLimits(WORKERS, WORKERS);
+	}
+
+	@Test
+	void failedReleaseStillFreesTheWorker() {
+		BulkJobPoller poller = poller(task -> {
+			throw new RejectedExecutionException("saturated");
+		});
+		when(bulkJobPersistencePort.claimJobs(anyString(), anyInt(), any())).thenReturn(List.of("job-1"), List.of());
+		doThrow(new IllegalStateException("database down")).when(bulkJobPersistencePort).release(eq("job-1"), anyString());
+
+		poller.poll();
+		poller.poll();
+
+		verifyClaimLimits(WORKERS, WORKERS);
+	}
+
+	@Test
+	void dispatchedJobHoldsItsWorkerUntilItFinishes() {
+		List<Runnable> submitted = new ArrayList<>();
+		BulkJobPoller poller = poller(submitted::add);
+		when(bulkJobPersistencePort.claimJobs(anyString(), anyInt(), any())).thenReturn(List.of("job-1"), List.of(), List.of());
+
+		poller.poll();
+		poller.poll();
+		submitted.forEach(Runnable::run);
+		poller.poll();
+
+		verify(bulkJobProcessor).processJob(eq("job-1"), anyString());
+		verify(bulkJobPersistencePort, never()).release(anyString(), anyString());
+		verifyClaimLimits(WORKERS, WORKERS - 1, WORKERS);
+	}
+
+	@Test
+	void failedClaimFreesEveryWorker() {
+		BulkJobPoller poller = poller(Runnable::run);
+		when(bulkJobPersistencePort.claimJobs(anyString(), anyInt(), any()))
+				.thenThrow(new IllegalStateException("database down"))
+				.thenReturn(List.of());
+
+		poller.poll();
+		poller.poll();
+
+		verifyClaimLimits(WORKERS, WORKERS);
+	}
+
+	private BulkJobPoller poller(Executor executor) {
+		return new BulkJobPoller(bulkJobPersistencePort, bulkJobProcessor, bulkJobProperties, executor);
+	}
+
+	private String claimingWorker() {
+		ArgumentCaptor<String> workerId = ArgumentCaptor.forClass(String.class);
+		verify(bulkJobPersistencePort).claimJobs(workerId.capture(), anyInt(), any());
+		return workerId.getValue();
+	}
+
+	private void verifyClaimLimits(Integer... limits) {
+		ArgumentCaptor<Integer> limit = ArgumentCaptor.forClass(Integer.class);
+		verify(bulkJobPersistencePort, times(limits.length))
+				.claimJobs(anyString(), limit.capture(), any(LocalDateTime.class));
+		assertThat(limit.getAllValues()).containsExactly(limits);
+	}
+
+}
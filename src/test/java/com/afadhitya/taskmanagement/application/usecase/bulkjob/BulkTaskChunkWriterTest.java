@@ -0,0 +1,210 @@
+package com.afadhitya.taskmanagement.application.usecase.bulkjob;
+
+import com.afadhitya.taskmanagement.TestcontainersConfiguration;
+import com.afadhitya.taskmanagement.adapter.out.persistence.bulkjob.BulkJobPersistenceAdapter;
+import com.afadhitya.taskmanagement.adapter.out.persistence.task.TaskPersistenceAdapter;
+import com.afadhitya.taskmanagement.application.dto.request.BulkUpdateTasksRequest;
+import com.afadhitya.taskmanagement.application.event.LiveEvent;
+import com.afadhitya.taskmanagement.application.event.TasksBulkUpdatedEvent;
+import com.afadhitya.taskmanagement.application.port.out.live.LiveEventPort;
+import com.afadhitya.taskmanagement.application.service.LiveUpdatePublisher;
+import com.afadhitya.taskmanagement.domain.enums.TaskPriority;
+import com.afadhitya.taskmanagement.domain.enums.TaskStatus;
+import com.afadhitya.taskmanagement.domain.exception.JobOwnershipLostException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Chunks run in their own transaction, so seed data is committed and removed after each test.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({TestcontainersConfiguration.class, TaskPersistenceAdapter.class, BulkJobPersistenceAdapter.class,
+		LiveUpdatePublisher.class, BulkTaskChunkWriter.class, BulkTaskChunkWriterTest.LiveEvents.class})
+class BulkTaskChunkWriterTest {
+
+	private static final String WORKER = "worker-a";
+
+	@Autowired
+	private BulkTaskChunkWriter bulkTaskChunkWriter;
+
+	@Autowired
+	private LiveEventPort liveEventPort;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	private long ownerId;
+	private long assigneeId;
+	private long projectId;
+	private String jobId;
+
+	@BeforeEach
+	void setUp() {
+		clearInvocations(liveEventPort);
+		ownerId = insertUser();
+		assigneeId = insertUser();
+		long workspaceId = jdbcTemplate.queryForObject(
+				"INSERT INTO workspaces (name, slug, owner_id) VALUES ('Bulk', ?, ?) RETURNING id",
+				Long.class, UUID.randomUUID().toString(), ownerId);
+		projectId = jdbcTemplate.queryForObject(
+				"INSERT INTO projects (workspace_id, name, created_by) VALUES (?, 'Bulk', ?) RETURNING id",
+				Long.class, workspaceId, ownerId);
+		jobId = UUID.randomUUID().toString();
+		jdbcTemplate.update("""
+				INSERT INTO bulk_jobs (id, status, job_type, created_by, locked_by, heartbeat_at, attempts)
+				VALUES (?, 'PROCESSING', 'BULK_UPDATE', ?, ?, CURRENT_TIMESTAMP, 1)
+				""", jobId, ownerId, WORKER);
+	}
+
+	@AfterEach
+	void tearDown() {
+		jdbcTemplate.update("DELETE FROM bulk_jobs WHERE id = ?", jobId);
+		jdbcTemplate.update("DELETE FROM workspaces WHERE owner_id = ?", ownerId);
+		jdbcTemplate.update("DELETE FROM users WHERE id IN (?, ?)", ownerId, assigneeId);
+	}
+
+	@Test
+	void updatesStatusAndPriorityOfExistingTasksAndCountsMissingOnesAsFailed() {
+		long first = insertTask();
+		long second = insertTask();
+		long untouched = insertTask();
+		long missing = untouched + 1000;
+
+		int applied = bulkTaskChunkWriter.applyChunk(jobId, WORKER, List.of(first, second, missing),
+				BulkUpdateTasksRequest.builder().status(TaskStatus.DONE).priority(TaskPriority.URGENT).build(), 10, 2);
+
+		assertThat(applied).isEqualTo(2);
+		assertThat(task(first)).containsEntry("status", "DONE").containsEntry("priority", "URGENT");
+		assertThat(task(second)).containsEntry("status", "DONE").containsEntry("priority", "URGENT");
+		assertThat(task(untouched)).containsEntry("status", "TODO").containsEntry("priority", "MEDIUM");
+		assertThat(job()).containsEntry("processed_items", 12).containsEntry("failed_items", 3);
+	}
+
+	@Test
+	void addsAssigneesWithoutDuplicatingExistingOnes() {
+		long taskId = insertTask();
+		jdbcTemplate.update("INSERT INTO task_assignees (task_id, user_id) VALUES (?, ?)", taskId, ownerId);
+
+		bulkTaskChunkWriter.applyChunk(jobId, WORKER, List.of(taskId),
+				BulkUpdateTasksRequest.builder().assigneeIds(Set.of(ownerId, assigneeId)).build(), 0, 0);
+
+		assertThat(assignees(taskId)).containsExactlyInAnyOrder(ownerId, assigneeId);
+	}
+
+	@Test
+	void replacingAssigneesRemovesEveryPreviousAssignee() {
+		long taskId = insertTask();
+		jdbcTemplate.update("INSERT INTO task_assignees (task_id, user_id) VALUES (?, ?)", taskId, ownerId);
+
+		bulkTaskChunkWriter.applyChunk(jobId, WORKER, List.of(taskId),
+				BulkUpdateTasksRequest.builder().assigneeIds(Set.of(assigneeId)).replaceAssignees(true).build(), 0, 0);
+
+		assertThat(assignees(taskId)).containsExactly(assigneeId);
+	}
+
+	@Test
+	void replacingWithAnEmptySetClearsAssignees() {
+		long taskId = insertTask();
+		jdbcTemplate.update("INSERT INTO task_assignees (task_id, user_id) VALUES (?, ?)", taskId, ownerId);
+
+		bulkTaskChunkWriter.applyChunk(jobId, WORKER, List.of(taskId),
+				BulkUpdateTasksRequest.builder().assigneeIds(Set.of()).replaceAssignees(true).build(), 0, 0);
+
+		assertThat(assignees(taskId)).isEmpty();
+	}
+
+	@Test
+	void publishesOneEventPerAppliedChunkAfterCommit() {
+		long first = insertTask();
+		long second = insertTask();
+
+		bulkTaskChunkWriter.applyChunk(jobId, WORKER, List.of(first, second),
+				BulkUpdateTasksRequest.builder().status(TaskStatus.IN_PROGRESS).build(), 0, 0);
+
+		ArgumentCaptor<LiveEvent> event = ArgumentCaptor.forClass(LiveEvent.class);
+		verify(liveEventPort).publish(event.capture());
+		assertThat(event.getValue().getName()).isEqualTo(LiveUpdatePublisher.TASK_BULK_UPDATED);
+		assertThat(event.getValue().getProjectId()).isEqualTo(projectId);
+		TasksBulkUpdatedEvent data = (TasksBulkUpdatedEvent) event.getValue().getData();
+		assertThat(data.jobId()).isEqualTo(jobId);
+		assertThat(data.taskIds()).containsExactlyInAnyOrder(first, second);
+	}
+
+	@Test
+	void rollsTheChunkBackWhenTheWorkerNoLongerOwnsTheJob() {
+		long taskId = insertTask();
+		jdbcTemplate.update("INSERT INTO task_assignees (task_id, user_id) VALUES (?, ?)", taskId, ownerId);
+		jdbcTemplate.update("UPDATE bulk_jobs SET locked_by = 'worker-b' WHERE id = ?", jobId);
+
+		assertThatThrownBy(() -> bulkTaskChunkWriter.applyChunk(jobId, WORKER, List.of(taskId),
+				BulkUpdateTasksRequest.builder().status(TaskStatus.DONE).assigneeIds(Set.of(assigneeId))
+						.replaceAssignees(true).build(), 0, 0))
+				.isInstanceOf(JobOwnershipLostException.class);
+
+		assertThat(task(taskId)).containsEntry("status", "TODO");
+		assertThat(assignees(taskId)).containsExactly(ownerId);
+		assertThat(job()).containsEntry("processed_items", 0);
+		verify(liveEventPort, never()).publish(any());
+	}
+
+	private long insertUser() {
+		return jdbcTemplate.queryForObject(
+				"INSERT INTO users (email, password_hash, full_name) VALUES (?, 'hash', 'Bulk') RETURNING id",
+				Long.class, UUID.randomUUID() + "@example.com");
+	}
+
+	private long insertTask() {
+		return jdbcTemplate.queryForObject(
+				"INSERT INTO tasks (project_id, title, created_by) VALUES (?, 'Bulk task', ?) RETURNING id",
+				Long.class, projectId, ownerId);
+	}
+
+	private Map<String, Object> task(long taskId) {
+		return jdbcTemplate.queryForMap("SELECT status, priority FROM tasks WHERE id = ?", taskId);
+	}
+
+	private List<Long> assignees(long taskId) {
+		return jdbcTemplate.queryForList("SELECT user_id FROM task_assignees WHERE task_id = ?", Long.class, taskId);
+	}
+
+	private Map<String, Object> job() {
+		return jdbcTemplate.queryForMap("SELECT processed_items, failed_items FROM bulk_jobs WHERE id = ?", jobId);
+	}
+
+	@TestConfiguration(proxyBeanMethods = false)
+	static class LiveEvents {
+
+		@Bean
+		LiveEventPort liveEventPort() {
+			return mock(LiveEventPort.class);
+		}
+
+	}
+
+}
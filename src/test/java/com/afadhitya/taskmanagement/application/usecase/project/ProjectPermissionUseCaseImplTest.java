@@ -0,0 +1,108 @@
+package com.afadhitya.taskmanagement.application.usecase.project;
+
+import com.afadhitya.taskmanagement.application.port.in.workspace.WorkspacePermissionUseCase;
+import com.afadhitya.taskmanagement.application.port.out.project.ProjectMemberPersistencePort;
+import com.afadhitya.taskmanagement.application.service.ProjectPermissionResolver;
+import com.afadhitya.taskmanagement.domain.entity.ProjectMember;
+import com.afadhitya.taskmanagement.domain.enums.ProjectPermission;
+import com.afadhitya.taskmanagement.domain.enums.WorkspaceRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ProjectPermissionUseCaseImplTest {
+
+	private static final Long PROJECT_ID = 1L;
+	private static final Long WORKSPACE_ID = 2L;
+	private static final Long USER_ID = 3L;
+
+	private ProjectMemberPersistencePort projectMemberPersistencePort;
+	private WorkspacePermissionUseCase workspacePermissionUseCase;
+	private ProjectPermissionUseCaseImpl useCase;
+
+	@BeforeEach
+	void setUp() {
+		projectMemberPersistencePort = mock(ProjectMemberPersistencePort.class);
+		workspacePermissionUseCase = mock(WorkspacePermissionUseCase.class);
+		useCase = new ProjectPermissionUseCaseImpl(projectMemberPersistencePort, workspacePermissionUseCase,
+				new ProjectPermissionResolver(new ConcurrentMapCacheManager(ProjectPermissionResolver.CACHE_NAME)));
+
+		when(workspacePermissionUseCase.getUserRole(any(), any())).thenReturn(Optional.empty());
+		when(projectMemberPersistencePort.findByProjectIdAndUserId(PROJECT_ID, USER_ID)).thenReturn(Optional.empty());
+	}
+
+	@Test
+	void projectChecksGrantOnlyExplicitMembership() {
+		when(workspacePermissionUseCase.getUserRole(WORKSPACE_ID, USER_ID)).thenReturn(Optional.of(WorkspaceRole.OWNER));
+
+		assertThat(useCase.canViewProject(PROJECT_ID, USER_ID)).isFalse();
+		verify(workspacePermissionUseCase, never()).getUserRole(WORKSPACE_ID, USER_ID);
+	}
+
+	@Test
+	void projectChecksFollowTheMembershipRow() {
+		when(projectMemberPersistencePort.findByProjectIdAndUserId(PROJECT_ID, USER_ID))
+				.thenReturn(Optional.of(ProjectMember.builder().permission(ProjectPermission.CONTRIBUTOR).build()));
+
+		assertThat(useCase.canViewProject(PROJECT_ID, USER_ID)).isTrue();
+		assertThat(useCase.canContributeToProject(PROJECT_ID, USER_ID)).isTrue();
+		assertThat(useCase.canManageProject(PROJECT_ID, USER_ID)).isFalse();
+	}
+
+	@Test
+	void repeatedChecksLoadTheDecisionOnce() {
+		useCase.canViewProject(PROJECT_ID, USER_ID);
+		useCase.canContributeToProject(PROJECT_ID, USER_ID);
+		useCase.canManageProject(PROJECT_ID, USER_ID);
+
+		verify(projectMemberPersistencePort, times(1)).findByProjectIdAndUserId(PROJECT_ID, USER_ID);
+	}
+
+	@Test
+	void workspaceOwnerManagesEveryProjectOfTheGivenWorkspace() {
+		when(workspacePermissionUseCase.getUserRole(WORKSPACE_ID, USER_ID)).thenReturn(Optional.of(WorkspaceRole.OWNER));
+
+		assertThat(useCase.getEffectivePermission(PROJECT_ID, USER_ID, WORKSPACE_ID)).isEqualTo(ProjectPermission.MANAGER);
+		verify(projectMemberPersistencePort, never()).findByProjectIdAndUserId(any(), any());
+	}
+
+	@Test
+	void explicitMembershipOverridesWorkspaceDefault() {
+		when(workspacePermissionUseCase.getUserRole(WORKSPACE_ID, USER_ID)).thenReturn(Optional.of(WorkspaceRole.ADMIN));
+		when(projectMemberPersistencePort.findByProjectIdAndUserId(PROJECT_ID, USER_ID))
+				.thenReturn(Optional.of(ProjectMember.builder().permission(ProjectPermission.VIEW).build()));
+
+		assertThat(useCase.getEffectivePermission(PROJECT_ID, USER_ID, WORKSPACE_ID)).isEqualTo(ProjectPermission.VIEW);
+	}
+
+	@Test
+	void guestWithoutMembershipHasNoAccess() {
+		when(workspacePermissionUseCase.getUserRole(WORKSPACE_ID, USER_ID)).thenReturn(Optional.of(WorkspaceRole.GUEST));
+
+		assertThat(useCase.getEffectivePermission(PROJECT_ID, USER_ID, WORKSPACE_ID)).isNull();
+	}
+
+	@Test
+	void workspaceDefaultDoesNotLeakIntoProjectChecks() {
+		when(workspacePermissionUseCase.getUserRole(WORKSPACE_ID, USER_ID)).thenReturn(Optional.of(WorkspaceRole.MEMBER));
+
+		assertThat(useCase.getEffectivePermission(PROJECT_ID, USER_ID, WORKSPACE_ID))
+				.isEqualTo(ProjectPermission.CONTRIBUTOR);
+		assertThat(useCase.canViewProject(PROJECT_ID, USER_ID)).isFalse();
+	}
+
+	@Test
+	void noRequiredPermissionsDeniesAccess() {
+		assertThat(useCase.hasPermission(PROJECT_ID, USER_ID)).isFalse();
+	}
+}
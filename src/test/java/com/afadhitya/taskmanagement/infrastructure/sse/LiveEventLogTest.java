@@ -0,0 +1,97 @@
+package com.afadhitya.taskmanagement.infrastructure.sse;
+
+import com.afadhitya.taskmanagement.application.event.LiveEvent;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LiveEventLogTest {
+
+	private static final String NODE = "node-a";
+
+	@Test
+	void returnsEventsAfterTheGivenIdOldestFirst() {
+		LiveEventLog log = new LiveEventLog(10, NODE);
+		LiveEventLog.Entry first = log.append(event("one"));
+		log.append(event("two"));
+		log.append(event("three"));
+
+		List<LiveEventLog.Entry> missed = log.since(first.id());
+
+		assertThat(missed).extracting(entry -> entry.event().getName()).containsExactly("two", "three");
+	}
+
+	@Test
+	void returnsNothingWhenTheClientIsUpToDate() {
+		LiveEventLog log = new LiveEventLog(10, NODE);
+		log.append(event("one"));
+		LiveEventLog.Entry last = log.append(event("two"));
+
+		assertThat(log.since(last.id())).isEmpty();
+	}
+
+	@Test
+	void idsAreScopedToTheNode() {
+		LiveEventLog log = new LiveEventLog(10, NODE);
+		LiveEventLog.Entry entry = log.append(event("one"));
+
+		assertThat(entry.id()).isEqualTo(NODE + ":1");
+	}
+
+	@Test
+	void idFromAnotherNodeOrRestartCannotBeResumed() {
+		LiveEventLog log = new LiveEventLog(10, NODE);
+		log.append(event("one"));
+		log.append(event("two"));
+
+		assertThat(log.since("node-b:1")).isNull();
+	}
+
+	@Test
+	void evictedPositionCannotBeResumed() {
+		LiveEventLog log = new LiveEventLog(2, NODE);
+		LiveEventLog.Entry first = log.append(event("one"));
+		log.append(event("two"));
+		log.append(event("three"));
+		log.append(event("four"));
+
+		assertThat(log.since(first.id())).isNull();
+	}
+
+	@Test
+	void oldestRetainedPositionCanStillBeResumed() {
+		LiveEventLog log = new LiveEventLog(2, NODE);
+		log.append(event("one"));
+		LiveEventLog.Entry second = log.append(event("two"));
+		log.append(event("three"));
+		log.append(event("four"));
+
+		assertThat(log.since(second.id())).extracting(entry -> entry.event().getName())
+				.containsExactly("three", "four");
+	}
+
+	@Test
+	void positionNotIssuedYetCannotBeResumed() {
+		LiveEventLog log = new LiveEventLog(10, NODE);
+		log.append(event("one"));
+
+		assertThat(log.since(NODE + ":5")).isNull();
+	}
+
+	@Test
+	void malformedIdsCannotBeResumed() {
+		LiveEventLog log = new LiveEventLog(10, NODE);
+		log.append(event("one"));
+
+		assertThat(log.since("42")).isNull();
+		assertThat(log.since(NODE + ":abc")).isNull();
+		assertThat(log.since("")).isNull();
+	}
+
+	private static LiveEvent event(String name) {
+		return LiveEvent.builder().name(name).build();
+	}
+
+}